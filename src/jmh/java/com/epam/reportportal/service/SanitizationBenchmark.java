@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.utils.BasicUtils;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Sanitizes names, attributes and parameters which don't need any change, which is the most common case. Run with
+ * {@code -Pjmh.profiler=gc} to see allocation rates: unchanged input is expected to be returned without allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizationBenchmark {
+	private static final String NAME = "Verify user can log in with valid credentials and see the dashboard";
+
+	private final ListenerParameters parameters = new ListenerParameters();
+	private Set<ItemAttributesRQ> attributes;
+	private List<ParameterResource> itemParameters;
+
+	@Setup
+	public void setup() {
+		parameters.setReplaceBinaryCharacters(true);
+		parameters.setTruncateFields(true);
+		attributes = IntStream.range(0, 10)
+				.mapToObj(i -> new ItemAttributesRQ("key" + i, "value" + i))
+				.collect(Collectors.toCollection(HashSet::new));
+		itemParameters = IntStream.range(0, 5).mapToObj(i -> {
+			ParameterResource parameter = new ParameterResource();
+			parameter.setKey("param" + i);
+			parameter.setValue("value" + i);
+			return parameter;
+		}).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public String cleanBinaryCharacters() {
+		return BasicUtils.cleanBinaryCharacters(NAME);
+	}
+
+	@Benchmark
+	public String sanitizeField() {
+		return LaunchImpl.sanitizeField(parameters, NAME, 1024);
+	}
+
+	@Benchmark
+	public Set<ItemAttributesRQ> sanitizeAttributes() {
+		return LaunchImpl.sanitizeAttributes(parameters, attributes);
+	}
+
+	@Benchmark
+	public List<ParameterResource> sanitizeParameters() {
+		return LaunchImpl.sanitizeParameters(parameters, itemParameters);
+	}
+}
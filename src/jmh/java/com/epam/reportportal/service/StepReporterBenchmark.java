@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.utils.formatting.templating.TemplateConfiguration;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Reports three levels of nested steps through the default {@link StepReporter} of a launch which doesn't send anything, so only the
+ * client-side overhead of step tracking is measured. Run with several threads ({@code -t}) to see contention on shared state. The
+ * {@link #deepNestedSteps} benchmark opens {@value #DEEP_STEPS} nested steps in 64 threads and closes them in the same way as
+ * {@code StepAspect} does, the result is the time per step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StepReporterBenchmark {
+	static final int DEEP_STEPS = 10_000;
+
+	/**
+	 * A launch which completes every request immediately and tracks parent items the same way {@link LaunchImpl} does.
+	 */
+	private static class StubLaunch extends Launch {
+		private static final OperationCompletionRS FINISH_RESPONSE = new OperationCompletionRS();
+
+		private final AtomicLong itemCounter = new AtomicLong();
+		private final TemplateConfiguration templateConfiguration = new TemplateConfiguration();
+
+		private StubLaunch() {
+			super(
+					(ReportPortalClient) Proxy.newProxyInstance(
+							StubLaunch.class.getClassLoader(),
+							new Class[] { ReportPortalClient.class },
+							new DummyReportPortalClientHandler()
+					), new ListenerParameters()
+			);
+		}
+
+		private Maybe<String> newItem() {
+			Maybe<String> item = Maybe.just("item-" + itemCounter.incrementAndGet()).cache();
+			getStepReporter().setParent(item);
+			return item;
+		}
+
+		@Override
+		public boolean useMicroseconds() {
+			return true;
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> start() {
+			return Maybe.just("launch");
+		}
+
+		@Override
+		public void finish(@Nonnull FinishExecutionRQ rq) {
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> createVirtualItem() {
+			return Maybe.empty();
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startTestItem(StartTestItemRQ rq) {
+			return newItem();
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startTestItem(Maybe<String> parentId, StartTestItemRQ rq) {
+			return newItem();
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startTestItem(Maybe<String> parentId, Maybe<String> retryOf, StartTestItemRQ rq) {
+			return newItem();
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startVirtualTestItem(Maybe<String> virtualItem, StartTestItemRQ rq) {
+			return newItem();
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> startVirtualTestItem(Maybe<String> parentId, Maybe<String> virtualItem, StartTestItemRQ rq) {
+			return newItem();
+		}
+
+		@Override
+		public void log(@Nonnull SaveLogRQ rq) {
+		}
+
+		@Override
+		public void log(@Nonnull Function<String, SaveLogRQ> logSupplier) {
+		}
+
+		@Override
+		public void log(@Nonnull Maybe<String> logItemUuid, @Nonnull Function<String, SaveLogRQ> logSupplier) {
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<OperationCompletionRS> finishTestItem(Maybe<String> itemId, FinishTestItemRQ rq) {
+			getStepReporter().removeParent(itemId);
+			return Maybe.just(FINISH_RESPONSE);
+		}
+
+		@Override
+		@Nonnull
+		public Maybe<String> getLaunch() {
+			return Maybe.just("launch");
+		}
+
+		@Override
+		@Nonnull
+		public TemplateConfiguration getTemplateConfiguration() {
+			return templateConfiguration;
+		}
+	}
+
+	/**
+	 * Every benchmark thread reports steps inside its own test item.
+	 */
+	@State(Scope.Thread)
+	public static class TestItem {
+		private final StartTestItemRQ stepRequest = new StartTestItemRQ();
+		private Maybe<String> itemId;
+
+		@Setup
+		public void setup(StepReporterBenchmark benchmark) {
+			stepRequest.setName("Deep step");
+			stepRequest.setType("STEP");
+			stepRequest.setStartTime(Instant.now());
+			itemId = benchmark.launch.startTestItem(new StartTestItemRQ());
+		}
+
+		@TearDown
+		public void tearDown(StepReporterBenchmark benchmark) {
+			benchmark.launch.finishTestItem(itemId, new FinishTestItemRQ());
+		}
+	}
+
+	private final StubLaunch launch = new StubLaunch();
+
+	@Benchmark
+	public String nestedSteps(TestItem item) {
+		StepReporter reporter = launch.getStepReporter();
+		return reporter.step(
+				"Level 1", () -> reporter.step(
+						"Level 2", () -> reporter.step(
+								"Level 3", () -> {
+									reporter.sendStep("Imperative step");
+									reporter.finishPreviousStep();
+									return "done";
+								}
+						)
+				)
+		);
+	}
+
+	@Benchmark
+	@Threads(64)
+	@OperationsPerInvocation(DEEP_STEPS)
+	public void deepNestedSteps(TestItem item, Blackhole blackhole) {
+		StepReporter reporter = launch.getStepReporter();
+		for (int i = 0; i < DEEP_STEPS; i++) {
+			blackhole.consume(reporter.startNestedStep(item.stepRequest));
+		}
+		for (int i = 0; i < DEEP_STEPS; i++) {
+			blackhole.consume(reporter.finishNestedStep());
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.logs;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Flowable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Pushes a stream of log requests through {@link LogBatchingFlowable} and, therefore, through {@link BufferSubscriber}, which splits
+ * them into batches by count and estimated payload size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BufferSubscriberBenchmark.LOGS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferSubscriberBenchmark {
+	static final int LOGS = 10_000;
+
+	@Param({ "10", "100" })
+	public int batchSize;
+
+	private final ListenerParameters parameters = new ListenerParameters();
+	private List<SaveLogRQ> logs;
+
+	@Setup
+	public void setup() {
+		parameters.setBatchLogsSize(batchSize);
+		logs = IntStream.range(0, LOGS).mapToObj(i -> {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setItemUuid("a7cdd0a5-4ad5-4f28-a6a1-0b1b0fc8e7f4");
+			rq.setLaunchUuid("3ee3c1ac-d9b4-4ad3-a2b7-4e2b2fa8a4a2");
+			rq.setLevel("INFO");
+			rq.setLogTime(Calendar.getInstance().getTime());
+			rq.setMessage("Log message number " + i);
+			return rq;
+		}).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public long batchLogs() {
+		return new LogBatchingFlowable(Flowable.fromIterable(logs), parameters).count().blockingGet();
+	}
+}
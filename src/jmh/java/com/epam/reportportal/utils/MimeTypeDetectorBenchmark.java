@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils;
+
+import com.epam.reportportal.utils.files.ByteSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects MIME types of in-memory attachments: an image recognized by its magic bytes, a text file recognized by its name and a
+ * binary blob without a name, which falls through all detection stages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MimeTypeDetectorBenchmark {
+	private static final byte[] PNG_HEADER = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 0x0D, 'I', 'H', 'D', 'R' };
+
+	private ByteSource image;
+	private ByteSource text;
+	private ByteSource binary;
+
+	@Setup
+	public void setup() {
+		byte[] imageContent = new byte[4096];
+		System.arraycopy(PNG_HEADER, 0, imageContent, 0, PNG_HEADER.length);
+		image = ByteSource.wrap(imageContent);
+		text = ByteSource.wrap("2025-01-01 12:00:00 INFO Test started\n".repeat(100).getBytes(StandardCharsets.UTF_8));
+		byte[] binaryContent = new byte[4096];
+		for (int i = 0; i < binaryContent.length; i++) {
+			binaryContent[i] = (byte) (i * 31);
+		}
+		binary = ByteSource.wrap(binaryContent);
+	}
+
+	@Benchmark
+	public String detectImage() throws IOException {
+		return MimeTypeDetector.detect(image, "screenshot.png");
+	}
+
+	@Benchmark
+	public String detectText() throws IOException {
+		return MimeTypeDetector.detect(text, "test.log");
+	}
+
+	@Benchmark
+	public String detectUnknown() throws IOException {
+		return MimeTypeDetector.detect(binary, null);
+	}
+}
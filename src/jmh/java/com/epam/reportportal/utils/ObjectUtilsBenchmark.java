@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils;
+
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Clones a start item request with attributes and parameters, as it's done for every reported item and nested step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectUtilsBenchmark {
+	private final StartTestItemRQ request = new StartTestItemRQ();
+
+	@Setup
+	public void setup() {
+		request.setName("Verify user can log in with valid credentials");
+		request.setDescription("Opens the login page, enters credentials and checks the dashboard");
+		request.setType("STEP");
+		request.setStartTime(Calendar.getInstance().getTime());
+		request.setCodeRef("com.example.tests.LoginTest.validCredentials");
+		request.setTestCaseId("com.example.tests.LoginTest.validCredentials[admin,ADMIN]");
+		request.setAttributes(IntStream.range(0, 5)
+				.mapToObj(i -> new ItemAttributesRQ("key" + i, "value" + i))
+				.collect(Collectors.toCollection(HashSet::new)));
+		List<ParameterResource> parameters = IntStream.range(0, 3).mapToObj(i -> {
+			ParameterResource parameter = new ParameterResource();
+			parameter.setKey("param" + i);
+			parameter.setValue("value" + i);
+			return parameter;
+		}).collect(Collectors.toList());
+		request.setParameters(parameters);
+	}
+
+	@Benchmark
+	public StartTestItemRQ clonePojo() {
+		return ObjectUtils.clonePojo(request, StartTestItemRQ.class);
+	}
+}
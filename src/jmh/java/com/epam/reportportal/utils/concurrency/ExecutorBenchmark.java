@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.concurrency;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Submits a burst of tasks which block for a short time, like HTTP calls do, to the IO executor built with
+ * {@link MultithreadingUtils#buildExecutorService(String, int, boolean)}. Compares a fixed pool of the default size against virtual
+ * threads; on JVMs without virtual threads support both parameters run on the fixed pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExecutorBenchmark {
+	private static final int TASKS = 1_000;
+	private static final int POOL_SIZE = 10;
+	private static final long TASK_BLOCK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+	@Param({ "false", "true" })
+	public boolean virtual;
+
+	private ExecutorService executor;
+
+	@Setup
+	public void setup() {
+		executor = MultithreadingUtils.buildExecutorService("rp-bench-", POOL_SIZE, virtual);
+	}
+
+	@TearDown
+	public void tearDown() {
+		MultithreadingUtils.shutdownExecutorService(executor, 10, TimeUnit.SECONDS);
+	}
+
+	@Benchmark
+	public void blockingTasks() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(TASKS);
+		for (int i = 0; i < TASKS; i++) {
+			executor.execute(() -> {
+				LockSupport.parkNanos(TASK_BLOCK_NANOS);
+				latch.countDown();
+			});
+		}
+		latch.await();
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.formatting;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Formats data tables of a typical BDD scenario size: a table of 10 rows and 5 columns and a two-column key-value table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkdownUtilsBenchmark {
+	private List<List<String>> table;
+	private final Map<String, String> keyValueTable = new LinkedHashMap<>();
+
+	@Setup
+	public void setup() {
+		table = IntStream.range(0, 10)
+				.mapToObj(row -> IntStream.range(0, 5).mapToObj(column -> "cell " + row + ":" + column).collect(Collectors.toList()))
+				.collect(Collectors.toList());
+		IntStream.range(0, 10).forEach(i -> keyValueTable.put("key" + i, "value " + i));
+	}
+
+	@Benchmark
+	public String formatDataTable() {
+		return MarkdownUtils.formatDataTable(table);
+	}
+
+	@Benchmark
+	public String formatKeyValueTable() {
+		return MarkdownUtils.formatDataTable(keyValueTable);
+	}
+}
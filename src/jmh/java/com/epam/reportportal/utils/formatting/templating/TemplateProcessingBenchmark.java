@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.formatting.templating;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders a typical step name template one million times per measurement: with regex-based parsing on every call, as it was done
+ * before templates compilation, through {@link TemplateProcessing#processTemplate} and with a pre-compiled template. Also renders a
+ * template with a nested field reference, which is resolved through cached member accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = TemplateProcessingBenchmark.RENDERS)
+@Measurement(iterations = 5, batchSize = TemplateProcessingBenchmark.RENDERS)
+@Fork(1)
+public class TemplateProcessingBenchmark {
+	static final int RENDERS = 1_000_000;
+
+	private static final Pattern TEMPLATE_GROUP = Pattern.compile("\\{([\\w$]+(\\.[\\w$]+)*)}");
+	private static final String PATTERN = "{class}.{method}: login as '{user.name}' with role {role}";
+	private static final String NESTED_PATTERN = "Deliver to {this.user.address.city}";
+
+	@SuppressWarnings("unused")
+	public static class Address {
+		private final String city = "Minsk";
+	}
+
+	@SuppressWarnings("unused")
+	public static class User {
+		private final String name = "admin";
+		private final Address address = new Address();
+	}
+
+	@SuppressWarnings("unused")
+	public static class Order {
+		private final User user = new User();
+	}
+
+	private final TemplateConfiguration config = new TemplateConfiguration();
+	private final Map<String, Object> parameters = new HashMap<>();
+	private Method method;
+	private CompiledTemplate template;
+	private CompiledTemplate nestedTemplate;
+	private final Order order = new Order();
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		parameters.put("user", new User());
+		parameters.put("role", "ADMIN");
+		method = TemplateProcessingBenchmark.class.getMethod("processTemplate");
+		template = CompiledTemplate.compile(PATTERN, config);
+		nestedTemplate = CompiledTemplate.compile(NESTED_PATTERN, config);
+	}
+
+	private String legacyProcessTemplate() {
+		Map<String, Object> myParams = new HashMap<>(parameters);
+		myParams.put(config.getMethodName(), method.getName());
+		myParams.put(config.getClassName(), method.getDeclaringClass().getSimpleName());
+		myParams.put(config.getClassRef(), method.getDeclaringClass().getName());
+		Matcher matcher = TEMPLATE_GROUP.matcher(PATTERN);
+		StringBuffer buffer = new StringBuffer();
+		while (matcher.find()) {
+			String[] fields = matcher.group(1).split(Pattern.quote(config.getFieldDelimiter()));
+			String replacement;
+			try {
+				replacement = TemplateProcessing.retrieveValue(config, 1, fields, myParams.get(fields[0]));
+			} catch (Throwable e) {
+				replacement = matcher.group(0);
+			}
+			matcher.appendReplacement(buffer, Matcher.quoteReplacement(replacement));
+		}
+		matcher.appendTail(buffer);
+		return buffer.toString();
+	}
+
+	@Benchmark
+	public String legacyRegex() {
+		return legacyProcessTemplate();
+	}
+
+	@Benchmark
+	public String processTemplate() {
+		return TemplateProcessing.processTemplate(PATTERN, null, method, parameters, config);
+	}
+
+	@Benchmark
+	public String compiledTemplate() {
+		return template.render(null, method, parameters);
+	}
+
+	@Benchmark
+	public String nestedReference() {
+		return nestedTemplate.render(order, method, parameters);
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.http;
+
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import okhttp3.MultipartBody;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Builds a multipart request of a typical log batch: text messages with every fifth message carrying a small attachment. Also
+ * estimates a size of a single log request, which is done for every log on batching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpRequestUtilsBenchmark {
+	private static final int BATCH_SIZE = 20;
+	private static final int ATTACHMENT_SIZE = 16 * 1024;
+
+	private List<SaveLogRQ> batch;
+	private SaveLogRQ attachmentLog;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		batch = IntStream.range(0, BATCH_SIZE).mapToObj(i -> {
+			SaveLogRQ rq = new SaveLogRQ();
+			rq.setItemUuid("a7cdd0a5-4ad5-4f28-a6a1-0b1b0fc8e7f4");
+			rq.setLaunchUuid("3ee3c1ac-d9b4-4ad3-a2b7-4e2b2fa8a4a2");
+			rq.setLevel("INFO");
+			rq.setLogTime(Calendar.getInstance().getTime());
+			rq.setMessage("Log message number " + i);
+			if (i % 5 == 0) {
+				byte[] content = new byte[ATTACHMENT_SIZE];
+				random.nextBytes(content);
+				SaveLogRQ.File file = new SaveLogRQ.File();
+				file.setName("attachment_" + i + ".bin");
+				file.setContentType("application/octet-stream");
+				file.setContent(content);
+				rq.setFile(file);
+			}
+			return rq;
+		}).collect(Collectors.toList());
+		attachmentLog = batch.get(0);
+	}
+
+	@Benchmark
+	public List<MultipartBody.Part> buildLogMultiPartRequest() {
+		return HttpRequestUtils.buildLogMultiPartRequest(batch);
+	}
+
+	@Benchmark
+	public long calculateRequestSize() {
+		return HttpRequestUtils.calculateRequestSize(attachmentLog);
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.load;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.listeners.LogLevel;
+import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.ReportPortal;
+import com.epam.reportportal.service.step.StepReporter;
+import com.epam.reportportal.utils.properties.PropertiesLoader;
+import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load test of the client against {@link MockReportPortalServer}. Reports launches built with
+ * {@link ReportPortal#builder()} from many threads: every launch has a suite with test items, every test item has nested steps, and
+ * every step has logs, some of them with attachments. Prints sustained reporting rates, finish phase duration and peak resource usage.
+ * <p>
+ * The load is configured with system properties:
+ * <ul>
+ *     <li>{@code rp.load.launches} - number of launches reported one after another, default: 1</li>
+ *     <li>{@code rp.load.threads} - number of threads reporting test items in parallel, default: 16</li>
+ *     <li>{@code rp.load.items} - number of test items per launch, default: 1000</li>
+ *     <li>{@code rp.load.steps} - number of nested steps per test item, default: 5</li>
+ *     <li>{@code rp.load.logs} - number of logs per nested step, default: 5</li>
+ *     <li>{@code rp.load.attachment.every} - attach a file to every N-th log, zero to disable, default: 10</li>
+ *     <li>{@code rp.load.attachment.size} - attachment size in bytes, default: 32768</li>
+ *     <li>{@code rp.load.latency} - server response latency in milliseconds, default: 20</li>
+ *     <li>{@code rp.load.error.rate} - share of failed server responses, from 0 to 1, default: 0</li>
+ *     <li>{@code rp.load.max.rps} - maximum number of requests served per second, zero for unlimited, default: 0</li>
+ * </ul>
+ * Any other {@code rp.*} property is passed to the client as usual, e.g. {@code rp.io.pool.size} or {@code rp.batch.size.logs}.
+ */
+public class LoadTest {
+	private static final String PROPERTY_PREFIX = "rp.load.";
+	private static final long FINISH_TIMEOUT_MINUTES = 30;
+
+	private final int launches = Integer.getInteger(PROPERTY_PREFIX + "launches", 1);
+	private final int threads = Integer.getInteger(PROPERTY_PREFIX + "threads", 16);
+	private final int items = Integer.getInteger(PROPERTY_PREFIX + "items", 1000);
+	private final int steps = Integer.getInteger(PROPERTY_PREFIX + "steps", 5);
+	private final int logs = Integer.getInteger(PROPERTY_PREFIX + "logs", 5);
+	private final int attachmentEvery = Integer.getInteger(PROPERTY_PREFIX + "attachment.every", 10);
+	private final int attachmentSize = Integer.getInteger(PROPERTY_PREFIX + "attachment.size", 32 * 1024);
+	private final long latency = Long.getLong(PROPERTY_PREFIX + "latency", 20);
+	private final double errorRate = Double.parseDouble(System.getProperty(PROPERTY_PREFIX + "error.rate", "0"));
+	private final int maxRps = Integer.getInteger(PROPERTY_PREFIX + "max.rps", 0);
+
+	private final LongAdder itemsReported = new LongAdder();
+	private final LongAdder logsReported = new LongAdder();
+	private final byte[] attachment;
+
+	private LoadTest() {
+		attachment = new byte[attachmentSize];
+		new Random(42).nextBytes(attachment);
+	}
+
+	@Nonnull
+	private static StartTestItemRQ startRequest(@Nonnull String name, @Nonnull String type) {
+		StartTestItemRQ rq = new StartTestItemRQ();
+		rq.setName(name);
+		rq.setType(type);
+		rq.setStartTime(Calendar.getInstance().getTime());
+		return rq;
+	}
+
+	@Nonnull
+	private static FinishTestItemRQ finishRequest() {
+		FinishTestItemRQ rq = new FinishTestItemRQ();
+		rq.setStatus(ItemStatus.PASSED.name());
+		rq.setEndTime(Calendar.getInstance().getTime());
+		return rq;
+	}
+
+	@Nonnull
+	private SaveLogRQ logRequest(@Nonnull String itemUuid, int number) {
+		SaveLogRQ rq = new SaveLogRQ();
+		rq.setItemUuid(itemUuid);
+		rq.setLevel(LogLevel.INFO.name());
+		rq.setLogTime(Calendar.getInstance().getTime());
+		rq.setMessage("Load test log message number " + number);
+		if (attachmentEvery > 0 && number % attachmentEvery == 0) {
+			SaveLogRQ.File file = new SaveLogRQ.File();
+			file.setName("attachment_" + number + ".bin");
+			file.setContentType("application/octet-stream");
+			file.setContent(attachment);
+			rq.setFile(file);
+		}
+		return rq;
+	}
+
+	private void reportTestItem(@Nonnull Launch launch, @Nonnull Maybe<String> suiteId, int itemNumber) {
+		Maybe<String> itemId = launch.startTestItem(suiteId, startRequest("Test " + itemNumber, "STEP"));
+		itemsReported.increment();
+		StepReporter stepReporter = launch.getStepReporter();
+		int logNumber = 0;
+		for (int step = 0; step < steps; step++) {
+			Maybe<String> stepId = stepReporter.startNestedStep(startRequest("Step " + step, "STEP"));
+			itemsReported.increment();
+			for (int log = 0; log < logs; log++) {
+				int number = ++logNumber;
+				launch.log(stepId, uuid -> logRequest(uuid, number));
+				logsReported.increment();
+			}
+			stepReporter.finishNestedStep();
+		}
+		launch.finishTestItem(itemId, finishRequest());
+	}
+
+	@Nonnull
+	private Duration reportLaunch(@Nonnull ReportPortal reportPortal, @Nonnull ExecutorService executor, int launchNumber)
+			throws Exception {
+		StartLaunchRQ launchRq = new StartLaunchRQ();
+		launchRq.setName(reportPortal.getParameters().getLaunchName());
+		launchRq.setStartTime(Calendar.getInstance().getTime());
+		Launch launch = reportPortal.newLaunch(launchRq);
+		launch.start();
+		Maybe<String> suiteId = launch.startTestItem(startRequest("Load suite " + launchNumber, "SUITE"));
+		itemsReported.increment();
+
+		List<Future<?>> tasks = new ArrayList<>(items);
+		for (int i = 0; i < items; i++) {
+			int itemNumber = i;
+			tasks.add(executor.submit(() -> reportTestItem(launch, suiteId, itemNumber)));
+		}
+		for (Future<?> task : tasks) {
+			task.get(FINISH_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+		}
+		launch.finishTestItem(suiteId, finishRequest());
+
+		FinishExecutionRQ finishRq = new FinishExecutionRQ();
+		finishRq.setEndTime(Calendar.getInstance().getTime());
+		Instant finishStart = Instant.now();
+		launch.finish(finishRq);
+		return Duration.between(finishStart, Instant.now());
+	}
+
+	private static double perSecond(long count, @Nonnull Duration duration) {
+		return count * 1000.0 / Math.max(1, duration.toMillis());
+	}
+
+	private void run() throws Exception {
+		try (MockReportPortalServer server = new MockReportPortalServer(latency, errorRate, maxRps);
+				ResourceMonitor monitor = new ResourceMonitor()) {
+			server.start();
+			ListenerParameters parameters = new ListenerParameters(PropertiesLoader.load());
+			parameters.setBaseUrl(server.getBaseUrl());
+			parameters.setApiKey("load_test_api_key");
+			parameters.setProjectName("load-test");
+			parameters.setLaunchName("Load test launch");
+			parameters.setEnable(true);
+			ReportPortal reportPortal = ReportPortal.builder().withParameters(parameters).build();
+
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			monitor.start();
+			Instant start = Instant.now();
+			Duration finish = Duration.ZERO;
+			try {
+				for (int i = 0; i < launches; i++) {
+					finish = finish.plus(reportLaunch(reportPortal, executor, i));
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+			Duration total = Duration.between(start, Instant.now());
+
+			System.out.printf("Launches: %d, threads: %d, items per launch: %d, steps per item: %d, logs per step: %d%n",
+					launches, threads, items, steps, logs
+			);
+			System.out.printf("Server latency: %d ms, error rate: %.3f, max requests per second: %d%n", latency, errorRate, maxRps);
+			System.out.printf("Total duration: %d ms, finish phase duration: %d ms%n", total.toMillis(), finish.toMillis());
+			System.out.printf("Items reported: %d (%.1f items/s), items received by server: %d started, %d finished%n",
+					itemsReported.sum(), perSecond(itemsReported.sum(), total), server.getItemsStarted(), server.getItemsFinished()
+			);
+			System.out.printf("Logs reported: %d (%.1f logs/s), log batches received by server: %d%n",
+					logsReported.sum(), perSecond(logsReported.sum(), total), server.getLogRequests()
+			);
+			System.out.printf("Server requests: %d (%.1f requests/s), failed on purpose: %d, received: %d KiB%n",
+					server.getRequests(), perSecond(server.getRequests(), total), server.getErrors(), server.getReceivedBytes() / 1024
+			);
+			System.out.printf("Peak heap usage: %d MiB, peak thread count: %d%n", monitor.getPeakHeap() / (1024 * 1024),
+					monitor.getPeakThreads()
+			);
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		new LoadTest().run();
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.load;
+
+import jakarta.annotation.Nonnull;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for ReportPortal server which implements endpoints of
+ * {@link com.epam.reportportal.service.ReportPortalClient} with generated responses. Every response can be delayed by a fixed latency,
+ * a share of requests can be failed with HTTP 503 and the number of requests served per second can be capped.
+ */
+public class MockReportPortalServer implements Closeable {
+	private static final String API_PATH = "/api/v1/[^/]+/";
+	private static final Pattern LAUNCH_START = Pattern.compile(API_PATH + "launch");
+	private static final Pattern LAUNCH_FINISH = Pattern.compile(API_PATH + "launch/[^/]+/finish");
+	private static final Pattern ITEM_START = Pattern.compile(API_PATH + "item(/[^/]+)?");
+	private static final Pattern LOG = Pattern.compile(API_PATH + "log");
+	private static final Pattern SETTINGS = Pattern.compile(API_PATH + "settings");
+	private static final String INFO = "/api/info";
+	private static final String SERVER_VERSION = "5.14.0";
+
+	private final long latencyMillis;
+	private final double errorRate;
+	private final long requestIntervalNanos;
+	private final AtomicLong nextRequestTime = new AtomicLong(System.nanoTime());
+
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder itemsStarted = new LongAdder();
+	private final LongAdder itemsFinished = new LongAdder();
+	private final LongAdder logRequests = new LongAdder();
+	private final LongAdder receivedBytes = new LongAdder();
+
+	private final MockWebServer server = new MockWebServer();
+
+	/**
+	 * @param responseLatencyMillis delay of every response in milliseconds
+	 * @param responseErrorRate     share of requests, from 0 to 1, which are answered with HTTP 503
+	 * @param maxRequestsPerSecond  maximum number of requests served per second, zero or negative for unlimited
+	 */
+	public MockReportPortalServer(long responseLatencyMillis, double responseErrorRate, int maxRequestsPerSecond) {
+		latencyMillis = responseLatencyMillis;
+		errorRate = responseErrorRate;
+		requestIntervalNanos = maxRequestsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxRequestsPerSecond : 0;
+		server.setDispatcher(new Dispatcher() {
+			@Override
+			@Nonnull
+			public MockResponse dispatch(@Nonnull RecordedRequest request) throws InterruptedException {
+				return serve(request);
+			}
+		});
+	}
+
+	/**
+	 * Starts the server on a random free port.
+	 *
+	 * @throws IOException if the server is unable to start
+	 */
+	public void start() throws IOException {
+		server.start();
+	}
+
+	/**
+	 * @return base URL of the server to use as {@code rp.endpoint} value
+	 */
+	@Nonnull
+	public String getBaseUrl() {
+		return server.url("/").toString();
+	}
+
+	/**
+	 * Waits until the next request is allowed by the throughput cap.
+	 */
+	private void pace() throws InterruptedException {
+		if (requestIntervalNanos <= 0) {
+			return;
+		}
+		long slot = nextRequestTime.getAndAccumulate(System.nanoTime(), (next, now) -> Math.max(next, now) + requestIntervalNanos);
+		long wait = slot - System.nanoTime();
+		if (wait > 0) {
+			TimeUnit.NANOSECONDS.sleep(wait);
+		}
+	}
+
+	@Nonnull
+	private static MockResponse json(@Nonnull String body) {
+		return new MockResponse().setResponseCode(200).setHeader("Content-Type", "application/json").setBody(body);
+	}
+
+	@Nonnull
+	private static String newId() {
+		return UUID.randomUUID().toString();
+	}
+
+	@Nonnull
+	private MockResponse serve(@Nonnull RecordedRequest request) throws InterruptedException {
+		pace();
+		requests.increment();
+		receivedBytes.add(request.getBodySize());
+		MockResponse response = respond(request);
+		if (latencyMillis > 0) {
+			response.setHeadersDelay(latencyMillis, TimeUnit.MILLISECONDS);
+		}
+		return response;
+	}
+
+	@Nonnull
+	private MockResponse respond(@Nonnull RecordedRequest request) {
+		String method = request.getMethod();
+		String path = String.valueOf(request.getPath());
+		int query = path.indexOf('?');
+		if (query >= 0) {
+			path = path.substring(0, query);
+		}
+
+		if ("GET".equals(method) && INFO.equals(path)) {
+			return json("{\"build\":{\"version\":\"" + SERVER_VERSION + "\"}}");
+		}
+		if ("GET".equals(method) && SETTINGS.matcher(path).matches()) {
+			return json("{\"subTypes\":{}}");
+		}
+		if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+			errors.increment();
+			return new MockResponse().setResponseCode(503);
+		}
+		if ("POST".equals(method) && LAUNCH_START.matcher(path).matches()) {
+			return json("{\"id\":\"" + newId() + "\",\"number\":1}");
+		}
+		if ("PUT".equals(method) && LAUNCH_FINISH.matcher(path).matches()) {
+			return json("{\"message\":\"Launch finished\"}");
+		}
+		if ("POST".equals(method) && LOG.matcher(path).matches()) {
+			logRequests.increment();
+			return json("{\"responses\":[]}");
+		}
+		if ("POST".equals(method) && ITEM_START.matcher(path).matches()) {
+			itemsStarted.increment();
+			String id = newId();
+			return json("{\"id\":\"" + id + "\",\"uniqueId\":\"" + id + "\"}");
+		}
+		if ("PUT".equals(method) && ITEM_START.matcher(path).matches()) {
+			itemsFinished.increment();
+			return json("{\"message\":\"Item finished\"}");
+		}
+		return new MockResponse().setResponseCode(404);
+	}
+
+	/**
+	 * @return total number of served requests
+	 */
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	/**
+	 * @return number of requests failed on purpose
+	 */
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	/**
+	 * @return number of successful item start requests, including nested steps
+	 */
+	public long getItemsStarted() {
+		return itemsStarted.sum();
+	}
+
+	/**
+	 * @return number of successful item finish requests, including nested steps
+	 */
+	public long getItemsFinished() {
+		return itemsFinished.sum();
+	}
+
+	/**
+	 * @return number of successful log batch requests
+	 */
+	public long getLogRequests() {
+		return logRequests.sum();
+	}
+
+	/**
+	 * @return total size of received request bodies in bytes
+	 */
+	public long getReceivedBytes() {
+		return receivedBytes.sum();
+	}
+
+	@Override
+	public void close() throws IOException {
+		server.close();
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples used heap size and live thread count of the current JVM to find their peak values during a load test run.
+ */
+public class ResourceMonitor implements AutoCloseable {
+	private static final long SAMPLE_INTERVAL_MILLIS = 20;
+
+	private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+	private final AtomicLong peakHeap = new AtomicLong();
+	private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "rp-load-monitor");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Resets peak values and starts sampling.
+	 */
+	public void start() {
+		threads.resetPeakThreadCount();
+		peakHeap.set(0);
+		sampler.scheduleAtFixedRate(this::sample, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	private void sample() {
+		peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+	}
+
+	/**
+	 * @return maximum sampled heap usage in bytes
+	 */
+	public long getPeakHeap() {
+		sample();
+		return peakHeap.get();
+	}
+
+	/**
+	 * @return peak live thread count since the monitor start
+	 */
+	public int getPeakThreads() {
+		return threads.getPeakThreadCount();
+	}
+
+	@Override
+	public void close() {
+		sampler.shutdownNow();
+	}
+}
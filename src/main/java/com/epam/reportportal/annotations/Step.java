@@ -56,6 +56,15 @@ public @interface Step {
 	 */
 	boolean isIgnored() default false;
 
+	/**
+	 * If set, repeated invocations of the step under the same parent item are reported as a single item with invocation count and
+	 * min / avg / max durations in its description. Failed invocations are still reported as separate items. Can be turned on for
+	 * all steps with {@code rp.step.aggregate} property.
+	 *
+	 * @return whether to aggregate step invocations
+	 */
+	boolean aggregate() default false;
+
 	/**
 	 * Step template configuration.
 	 *
@@ -43,6 +43,10 @@ public class StepAspect {
 
 	}
 
+	private static boolean isAggregated(Step step, Launch launch) {
+		return step.aggregate() || launch.getParameters().isStepAggregation();
+	}
+
 	@Before(value = "anyMethod() && withStepAnnotation(step)", argNames = "joinPoint,step")
 	public void startNestedStep(JoinPoint joinPoint, Step step) {
 		if (step.isIgnored()) {
@@ -51,8 +55,17 @@ public class StepAspect {
 		MethodSignature signature = (MethodSignature) joinPoint.getSignature();
 		ofNullable(Launch.currentLaunch()).ifPresent(l -> {
 			Comparable<? extends Comparable<?>> stepDate = l.useMicroseconds() ? Instant.now() : Calendar.getInstance().getTime();
-			StartTestItemRQ startStepRequest = StepRequestUtils.buildStartStepRequest(signature, step, stepDate, joinPoint);
-			l.getStepReporter().startNestedStep(startStepRequest);
+			if (isAggregated(step, l)) {
+				// the request is built only for the first invocation and failed ones
+				l.getStepReporter()
+						.startAggregatedStep(
+								signature.getMethod(),
+								() -> StepRequestUtils.buildStartStepRequest(signature, step, stepDate, joinPoint)
+						);
+			} else {
+				StartTestItemRQ startStepRequest = StepRequestUtils.buildStartStepRequest(signature, step, stepDate, joinPoint);
+				l.getStepReporter().startNestedStep(startStepRequest);
+			}
 		});
 	}
 
@@ -61,7 +74,13 @@ public class StepAspect {
 		if (step.isIgnored()) {
 			return;
 		}
-		ofNullable(Launch.currentLaunch()).ifPresent(l -> l.getStepReporter().finishNestedStep());
+		ofNullable(Launch.currentLaunch()).ifPresent(l -> {
+			if (isAggregated(step, l)) {
+				l.getStepReporter().finishAggregatedStep();
+			} else {
+				l.getStepReporter().finishNestedStep();
+			}
+		});
 	}
 
 	@AfterThrowing(value = "anyMethod() && withStepAnnotation(step)", throwing = "throwable", argNames = "step,throwable")
@@ -69,6 +88,12 @@ public class StepAspect {
 		if (step.isIgnored()) {
 			return;
 		}
-		ofNullable(Launch.currentLaunch()).ifPresent(l -> l.getStepReporter().finishNestedStep(throwable));
+		ofNullable(Launch.currentLaunch()).ifPresent(l -> {
+			if (isAggregated(step, l)) {
+				l.getStepReporter().finishAggregatedStep(throwable);
+			} else {
+				l.getStepReporter().finishNestedStep(throwable);
+			}
+		});
 	}
 }
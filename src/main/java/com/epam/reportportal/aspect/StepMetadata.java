@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.aspect;
+
+import com.epam.reportportal.annotations.Step;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.reportportal.utils.AttributeParser;
+import com.epam.reportportal.utils.formatting.templating.CompiledTemplate;
+import com.epam.reportportal.utils.formatting.templating.TemplateConfiguration;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Everything about a {@link Step} method which doesn't depend on a particular invocation: the name template compiled with the step
+ * configuration, parameter name indices and static attributes. Metadata is cached per method and bound to the declaring class with
+ * {@link ClassValue}, so it doesn't prevent classes from unloading and per-invocation work is only argument binding.
+ */
+final class StepMetadata {
+	private static final ClassValue<Map<Method, StepMetadata>> CACHE = new ClassValue<>() {
+		@Override
+		protected Map<Method, StepMetadata> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private final Step step;
+	private final Method method;
+	private final CompiledTemplate template;
+	private final Map<String, Integer> parameterIndices;
+	private final Set<ItemAttributesRQ> attributes;
+
+	/**
+	 * Template parameters bound to invocation arguments without copying them into a new map.
+	 */
+	private static final class Arguments extends AbstractMap<String, Object> {
+		private final Map<String, Integer> indices;
+		private final Object[] args;
+
+		private Arguments(@Nonnull Map<String, Integer> parameterIndices, @Nonnull Object[] arguments) {
+			indices = parameterIndices;
+			args = arguments;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			Integer index = indices.get(key);
+			return index != null && index < args.length;
+		}
+
+		@Override
+		public Object get(Object key) {
+			Integer index = indices.get(key);
+			return index != null && index < args.length ? args[index] : null;
+		}
+
+		@Override
+		@Nonnull
+		public Set<Entry<String, Object>> entrySet() {
+			Set<Entry<String, Object>> entries = new LinkedHashSet<>();
+			indices.forEach((name, index) -> {
+				if (index < args.length) {
+					entries.add(new SimpleImmutableEntry<>(name, args[index]));
+				}
+			});
+			return entries;
+		}
+	}
+
+	private StepMetadata(@Nonnull Step stepAnnotation, @Nonnull Method stepMethod, @Nullable String[] parameterNames) {
+		step = stepAnnotation;
+		method = stepMethod;
+		String nameTemplate = stepAnnotation.value();
+		template = nameTemplate.trim().isEmpty() ?
+				null :
+				CompiledTemplate.compile(nameTemplate, new TemplateConfiguration(stepAnnotation.config()));
+		if (parameterNames == null || parameterNames.length == 0) {
+			parameterIndices = Collections.emptyMap();
+		} else {
+			Map<String, Integer> indices = new HashMap<>(parameterNames.length * 4);
+			for (int i = 0; i < parameterNames.length; i++) {
+				indices.put(parameterNames[i], i);
+				indices.put(Integer.toString(i), i);
+			}
+			parameterIndices = indices;
+		}
+		Attributes attributesAnnotation = stepMethod.getAnnotation(Attributes.class);
+		attributes = attributesAnnotation == null ? null : AttributeParser.retrieveAttributes(attributesAnnotation);
+	}
+
+	/**
+	 * Returns cached metadata of a step method, or creates it on the first call.
+	 *
+	 * @param step      step annotation
+	 * @param signature signature of the method annotated with {@link Step}
+	 * @return step metadata or {@code null} if the signature has no method
+	 */
+	@Nullable
+	static StepMetadata of(@Nonnull Step step, @Nonnull MethodSignature signature) {
+		Method method = signature.getMethod();
+		if (method == null) {
+			return null;
+		}
+		Map<Method, StepMetadata> methods = CACHE.get(method.getDeclaringClass());
+		StepMetadata metadata = methods.get(method);
+		// Annotation instances are the same for a method, a different one means a synthetic annotation, so don't trust the cache
+		if (metadata == null || metadata.step != step) {
+			metadata = new StepMetadata(step, method, signature.getParameterNames());
+			methods.put(method, metadata);
+		}
+		return metadata;
+	}
+
+	/**
+	 * Binds the template parameters to invocation arguments.
+	 *
+	 * @param joinPoint intercepted step join point
+	 * @return parameters map, which maps parameter names and indices to argument values
+	 */
+	@Nonnull
+	Map<String, Object> bindArguments(@Nonnull JoinPoint joinPoint) {
+		Object[] args = joinPoint.getArgs();
+		if (args == null || args.length == 0 || parameterIndices.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return new Arguments(parameterIndices, args);
+	}
+
+	/**
+	 * Generate step name for an invocation.
+	 *
+	 * @param joinPoint intercepted step join point
+	 * @return step name
+	 */
+	@Nonnull
+	String getName(@Nonnull JoinPoint joinPoint) {
+		if (template == null) {
+			return method.getName();
+		}
+		return template.render(joinPoint.getThis(), method, bindArguments(joinPoint));
+	}
+
+	/**
+	 * Returns a copy of step attributes, since requests are mutable.
+	 *
+	 * @return step attributes or {@code null} if the step has no attributes
+	 */
+	@Nullable
+	Set<ItemAttributesRQ> getAttributes() {
+		if (attributes == null) {
+			return null;
+		}
+		Set<ItemAttributesRQ> result = new LinkedHashSet<>(attributes.size() * 2);
+		for (ItemAttributesRQ attribute : attributes) {
+			result.add(new ItemAttributesRQ(attribute.getKey(), attribute.getValue(), attribute.isSystem()));
+		}
+		return result;
+	}
+}
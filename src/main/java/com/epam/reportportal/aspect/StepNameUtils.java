@@ -47,6 +47,10 @@ public class StepNameUtils {
 	 */
 	@Nonnull
 	public static String getStepName(@Nonnull Step step, @Nonnull MethodSignature signature, @Nonnull JoinPoint joinPoint) {
+		StepMetadata metadata = StepMetadata.of(step, signature);
+		if (metadata != null) {
+			return metadata.getName(joinPoint);
+		}
 		String nameTemplate = step.value();
 		if (nameTemplate.trim().isEmpty()) {
 			return signature.getMethod().getName();
@@ -48,8 +48,18 @@ public class StepRequestUtils {
 	@Nonnull
 	public static StartTestItemRQ buildStartStepRequest(@Nonnull MethodSignature signature, @Nonnull Step step,
 			@Nonnull Comparable<? extends Comparable<?>> dateTime, @Nonnull JoinPoint joinPoint) {
-		String name = StepNameUtils.getStepName(step, signature, joinPoint);
-		return buildStartStepRequest(name, step.description(), dateTime, signature);
+		StepMetadata metadata = StepMetadata.of(step, signature);
+		if (metadata == null) {
+			String name = StepNameUtils.getStepName(step, signature, joinPoint);
+			return buildStartStepRequest(name, step.description(), dateTime, signature);
+		}
+		StartTestItemRQ request = com.epam.reportportal.service.step.StepRequestUtils.buildStartStepRequest(
+				metadata.getName(joinPoint),
+				step.description(),
+				dateTime
+		);
+		request.setAttributes(metadata.getAttributes());
+		return request;
 	}
 
 	@Nullable
@@ -43,6 +43,10 @@ import static java.util.Optional.ofNullable;
 public class ListenerParameters implements Cloneable {
 	private static final int DEFAULT_REPORTING_TIMEOUT = 5 * 60;
 	private static final int DEFAULT_IO_POOL_SIZE = Math.max((Runtime.getRuntime().availableProcessors() * 2) - 1, 1);
+	private static final int DEFAULT_IO_POOL_LOG_SIZE = 0;
+	private static final boolean DEFAULT_IO_POOL_VIRTUAL = false;
+	private static final boolean DEFAULT_METRICS_JMX_ENABLED = false;
+	private static final boolean DEFAULT_STEP_AGGREGATION = false;
 	private static final boolean DEFAULT_ENABLE = true;
 	private static final boolean DEFAULT_SKIP_ISSUE = true;
 	private static final boolean DEFAULT_CONVERT_IMAGE = false;
@@ -50,14 +54,24 @@ public class ListenerParameters implements Cloneable {
 	private static final boolean DEFAULT_ASYNC_REPORTING = true;
 	private static final boolean DEFAULT_CALLBACK_REPORTING_ENABLED = false;
 	private static final boolean DEFAULT_HTTP_LOGGING = false;
+	private static final boolean DEFAULT_HTTP_ASYNC = false;
+	private static final int DEFAULT_HTTP_WARMUP_CONNECTIONS = 0;
 	private static final int DEFAULT_RX_BUFFER_SIZE = 128;
 	private static final String DEFAULT_KEYSTORE_TYPE = "JKS";
 	private static final boolean DEFAULT_OAUTH_USE_PROXY = true;
+	private static final boolean DEFAULT_HTTP_CONCURRENCY_ADAPTIVE = false;
+	private static final int DEFAULT_HTTP_CONCURRENCY_LIMIT_MIN = 1;
+	private static final int DEFAULT_HTTP_CONCURRENCY_LIMIT_MAX = 64;
+	private static final Duration DEFAULT_HTTP_CONCURRENCY_LATENCY_TIMEOUT = Duration.ofSeconds(10);
+	private static final int DEFAULT_HTTP_DISPATCHER_MAX_REQUESTS = 64;
+	private static final int DEFAULT_HTTP_DISPATCHER_MAX_REQUESTS_PER_HOST = 5;
+	private static final Duration DEFAULT_HTTP_CONNECTION_POOL_KEEP_ALIVE = Duration.ofMinutes(5);
 
 	private static final boolean DEFAULT_CLIENT_JOIN = true;
 	private static final String DEFAULT_CLIENT_JOIN_MODE = "FILE";
 	private static final String DEFAULT_LOCK_FILE_NAME = "reportportal.lock";
 	private static final String DEFAULT_SYNC_FILE_NAME = "reportportal.sync";
+	private static final String DEFAULT_SHARED_MEMORY_FILE_NAME = "reportportal.shm";
 	private static final int DEFAULT_CLIENT_JOIN_LOCK_PORT = 25464;
 	public static final long DEFAULT_FILE_WAIT_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
 	private static final long DEFAULT_CLIENT_JOIN_TIMEOUT = TimeUnit.MINUTES.toMillis(30);
@@ -73,6 +87,7 @@ public class ListenerParameters implements Cloneable {
 	private static final boolean DEFAULT_REPLACE_BINARY_CHARACTERS = true;
 
 	public static final boolean DEFAULT_EXCEPTION_TRUNCATE = true;
+	public static final int DEFAULT_EXCEPTION_DEDUPLICATION_THRESHOLD = 0;
 
 	public static final int DEFAULT_LOG_BATCH_SIZE = 10;
 	// Due to shortcoming of payload calculation mechanism this value is set to 62 megabytes rather than 65 megabytes
@@ -98,10 +113,22 @@ public class ListenerParameters implements Cloneable {
 	private String proxyUser;
 	private String proxyPassword;
 	private boolean httpLogging;
+	private boolean httpAsync;
+	private String httpProtocol;
+	private int httpWarmupConnections;
 	private Duration httpCallTimeout;
 	private Duration httpConnectTimeout;
 	private Duration httpReadTimeout;
 	private Duration httpWriteTimeout;
+	private boolean httpConcurrencyAdaptive;
+	private Integer httpConcurrencyLimitInitial;
+	private int httpConcurrencyLimitMin;
+	private int httpConcurrencyLimitMax;
+	private Duration httpConcurrencyLatencyTimeout;
+	private Integer httpDispatcherMaxRequests;
+	private Integer httpDispatcherMaxRequestsPerHost;
+	private Integer httpConnectionPoolSize;
+	private Duration httpConnectionPoolKeepAlive;
 	private String projectName;
 	private String launchName;
 	private Mode launchRunningMode;
@@ -125,11 +152,18 @@ public class ListenerParameters implements Cloneable {
 	private boolean asyncReporting;
 	private boolean callbackReportingEnabled;
 	private Integer ioPoolSize;
+	private int logIoPoolSize;
+	private boolean ioPoolVirtual;
+	private Duration serverInfoCacheTtl;
+	private String serverInfoCacheDir;
+	private boolean metricsJmxEnabled;
+	private boolean stepAggregation;
 
 	private boolean clientJoin;
 	private LaunchIdLockMode clientJoinMode;
 	private String lockFileName;
 	private String syncFileName;
+	private String sharedMemoryFileName;
 	private int lockPortNumber;
 	private long lockWaitTimeout;
 	private long clientJoinTimeout;
@@ -145,6 +179,7 @@ public class ListenerParameters implements Cloneable {
 	private boolean replaceBinaryCharacters;
 
 	private boolean exceptionTruncate;
+	private int exceptionDeduplicationThreshold;
 
 	private String launchUuid;
 	private boolean isLaunchUuidCreationSkip;
@@ -201,7 +236,14 @@ public class ListenerParameters implements Cloneable {
 		this.convertImage = DEFAULT_CONVERT_IMAGE;
 		this.reportingTimeout = DEFAULT_REPORTING_TIMEOUT;
 		this.httpLogging = DEFAULT_HTTP_LOGGING;
+		this.httpAsync = DEFAULT_HTTP_ASYNC;
+		this.httpWarmupConnections = DEFAULT_HTTP_WARMUP_CONNECTIONS;
 		this.oauthUseProxy = DEFAULT_OAUTH_USE_PROXY;
+		this.httpConcurrencyAdaptive = DEFAULT_HTTP_CONCURRENCY_ADAPTIVE;
+		this.httpConcurrencyLimitMin = DEFAULT_HTTP_CONCURRENCY_LIMIT_MIN;
+		this.httpConcurrencyLimitMax = DEFAULT_HTTP_CONCURRENCY_LIMIT_MAX;
+		this.httpConcurrencyLatencyTimeout = DEFAULT_HTTP_CONCURRENCY_LATENCY_TIMEOUT;
+		this.httpConnectionPoolKeepAlive = DEFAULT_HTTP_CONNECTION_POOL_KEEP_ALIVE;
 
 		this.keystoreType = DEFAULT_KEYSTORE_TYPE;
 		this.truststoreType = DEFAULT_KEYSTORE_TYPE;
@@ -214,12 +256,17 @@ public class ListenerParameters implements Cloneable {
 		this.callbackReportingEnabled = DEFAULT_CALLBACK_REPORTING_ENABLED;
 
 		this.ioPoolSize = DEFAULT_IO_POOL_SIZE;
+		this.logIoPoolSize = DEFAULT_IO_POOL_LOG_SIZE;
+		this.ioPoolVirtual = DEFAULT_IO_POOL_VIRTUAL;
+		this.metricsJmxEnabled = DEFAULT_METRICS_JMX_ENABLED;
+		this.stepAggregation = DEFAULT_STEP_AGGREGATION;
 
 		this.clientJoin = DEFAULT_CLIENT_JOIN;
 		this.clientJoinMode = LaunchIdLockMode.valueOf(DEFAULT_CLIENT_JOIN_MODE);
 		this.lockPortNumber = DEFAULT_CLIENT_JOIN_LOCK_PORT;
 		this.lockFileName = DEFAULT_LOCK_FILE_NAME;
 		this.syncFileName = DEFAULT_SYNC_FILE_NAME;
+		this.sharedMemoryFileName = DEFAULT_SHARED_MEMORY_FILE_NAME;
 		this.lockWaitTimeout = DEFAULT_FILE_WAIT_TIMEOUT;
 		this.clientJoinTimeout = DEFAULT_CLIENT_JOIN_TIMEOUT;
 		this.clientJoinLaunchTimeout = DEFAULT_CLIENT_JOIN_LAUNCH_TIMEOUT;
@@ -231,6 +278,7 @@ public class ListenerParameters implements Cloneable {
 		this.truncateReplacement = CommonConstants.DEFAULT_TRUNCATE_REPLACEMENT;
 		this.attributeLengthLimit = DEFAULT_TRUNCATE_ATTRIBUTE_LIMIT;
 		this.exceptionTruncate = DEFAULT_EXCEPTION_TRUNCATE;
+		this.exceptionDeduplicationThreshold = DEFAULT_EXCEPTION_DEDUPLICATION_THRESHOLD;
 		this.attributeNumberLimit = DEFAULT_ATTRIBUTE_NUMBER_LIMIT;
 		this.replaceBinaryCharacters = DEFAULT_REPLACE_BINARY_CHARACTERS;
 
@@ -262,12 +310,36 @@ public class ListenerParameters implements Cloneable {
 		this.proxyUser = properties.getProperty(HTTP_PROXY_USER);
 		this.proxyPassword = properties.getProperty(HTTP_PROXY_PASSWORD);
 		this.httpLogging = properties.getPropertyAsBoolean(HTTP_LOGGING, DEFAULT_HTTP_LOGGING);
+		this.httpAsync = properties.getPropertyAsBoolean(HTTP_ASYNC, DEFAULT_HTTP_ASYNC);
+		this.httpProtocol = properties.getProperty(HTTP_PROTOCOL);
+		this.httpWarmupConnections = properties.getPropertyAsInt(HTTP_WARMUP_CONNECTIONS, DEFAULT_HTTP_WARMUP_CONNECTIONS);
 
 		this.httpCallTimeout = getDurationProperty(properties, HTTP_CALL_TIMEOUT_VALUE, HTTP_CALL_TIMEOUT_UNIT);
 		this.httpConnectTimeout = getDurationProperty(properties, HTTP_CONNECT_TIMEOUT_VALUE, HTTP_CONNECT_TIMEOUT_UNIT);
 		this.httpReadTimeout = getDurationProperty(properties, HTTP_READ_TIMEOUT_VALUE, HTTP_READ_TIMEOUT_UNIT);
 		this.httpWriteTimeout = getDurationProperty(properties, HTTP_WRITE_TIMEOUT_VALUE, HTTP_WRITE_TIMEOUT_UNIT);
 
+		this.httpConcurrencyAdaptive = properties.getPropertyAsBoolean(HTTP_CONCURRENCY_ADAPTIVE, DEFAULT_HTTP_CONCURRENCY_ADAPTIVE);
+		this.httpConcurrencyLimitInitial = ofNullable(properties.getProperty(HTTP_CONCURRENCY_LIMIT_INITIAL)).map(Integer::parseInt)
+				.orElse(null);
+		this.httpConcurrencyLimitMin = properties.getPropertyAsInt(HTTP_CONCURRENCY_LIMIT_MIN, DEFAULT_HTTP_CONCURRENCY_LIMIT_MIN);
+		this.httpConcurrencyLimitMax = properties.getPropertyAsInt(HTTP_CONCURRENCY_LIMIT_MAX, DEFAULT_HTTP_CONCURRENCY_LIMIT_MAX);
+		this.httpConcurrencyLatencyTimeout = ofNullable(getDurationProperty(
+				properties,
+				HTTP_CONCURRENCY_LATENCY_TIMEOUT_VALUE,
+				HTTP_CONCURRENCY_LATENCY_TIMEOUT_UNIT
+		)).orElse(DEFAULT_HTTP_CONCURRENCY_LATENCY_TIMEOUT);
+		this.httpDispatcherMaxRequests = ofNullable(properties.getProperty(HTTP_DISPATCHER_MAX_REQUESTS)).map(Integer::parseInt)
+				.orElse(null);
+		this.httpDispatcherMaxRequestsPerHost = ofNullable(properties.getProperty(HTTP_DISPATCHER_MAX_REQUESTS_PER_HOST)).map(
+				Integer::parseInt).orElse(null);
+		this.httpConnectionPoolSize = ofNullable(properties.getProperty(HTTP_CONNECTION_POOL_SIZE)).map(Integer::parseInt).orElse(null);
+		this.httpConnectionPoolKeepAlive = ofNullable(getDurationProperty(
+				properties,
+				HTTP_CONNECTION_POOL_KEEP_ALIVE_VALUE,
+				HTTP_CONNECTION_POOL_KEEP_ALIVE_UNIT
+		)).orElse(DEFAULT_HTTP_CONNECTION_POOL_KEEP_ALIVE);
+
 		this.projectName = ofNullable(properties.getProperty(PROJECT_NAME)).map(String::trim).orElse(null);
 		this.launchName = properties.getProperty(LAUNCH_NAME);
 		this.attributes = Collections.unmodifiableSet(AttributeParser.parseAsSet(properties.getProperty(LAUNCH_ATTRIBUTES)));
@@ -294,6 +366,12 @@ public class ListenerParameters implements Cloneable {
 		this.callbackReportingEnabled = properties.getPropertyAsBoolean(CALLBACK_REPORTING_ENABLED, DEFAULT_CALLBACK_REPORTING_ENABLED);
 
 		this.ioPoolSize = properties.getPropertyAsInt(IO_POOL_SIZE, DEFAULT_IO_POOL_SIZE);
+		this.logIoPoolSize = properties.getPropertyAsInt(IO_POOL_LOG_SIZE, DEFAULT_IO_POOL_LOG_SIZE);
+		this.ioPoolVirtual = properties.getPropertyAsBoolean(IO_POOL_VIRTUAL, DEFAULT_IO_POOL_VIRTUAL);
+		this.serverInfoCacheTtl = getDurationProperty(properties, SERVER_INFO_CACHE_TTL_VALUE, SERVER_INFO_CACHE_TTL_UNIT);
+		this.serverInfoCacheDir = properties.getProperty(SERVER_INFO_CACHE_DIR);
+		this.metricsJmxEnabled = properties.getPropertyAsBoolean(METRICS_JMX_ENABLED, DEFAULT_METRICS_JMX_ENABLED);
+		this.stepAggregation = properties.getPropertyAsBoolean(STEP_AGGREGATION, DEFAULT_STEP_AGGREGATION);
 
 		// client join parameters
 		clientJoin = properties.getPropertyAsBoolean(CLIENT_JOIN_MODE, DEFAULT_CLIENT_JOIN);
@@ -301,6 +379,7 @@ public class ListenerParameters implements Cloneable {
 		lockPortNumber = properties.getPropertyAsInt(CLIENT_JOIN_LOCK_PORT, DEFAULT_CLIENT_JOIN_LOCK_PORT);
 		lockFileName = properties.getProperty(FILE_LOCK_NAME, DEFAULT_LOCK_FILE_NAME);
 		syncFileName = properties.getProperty(FILE_SYNC_NAME, DEFAULT_SYNC_FILE_NAME);
+		sharedMemoryFileName = properties.getProperty(FILE_SHARED_MEMORY_NAME, DEFAULT_SHARED_MEMORY_FILE_NAME);
 		clientJoinTimeout = ofNullable(properties.getProperty(CLIENT_JOIN_TIMEOUT_VALUE)).map(t -> TimeUnit.valueOf(properties.getProperty(CLIENT_JOIN_TIMEOUT_UNIT,
 						DEFAULT_CLIENT_JOIN_TIMEOUT_UNIT
 				)).toMillis(Long.parseLong(t)))
@@ -321,6 +400,10 @@ public class ListenerParameters implements Cloneable {
 		this.truncateReplacement = properties.getProperty(TRUNCATE_REPLACEMENT, CommonConstants.DEFAULT_TRUNCATE_REPLACEMENT);
 		this.attributeLengthLimit = properties.getPropertyAsInt(TRUNCATE_ATTRIBUTE_LIMIT, DEFAULT_TRUNCATE_ATTRIBUTE_LIMIT);
 		this.exceptionTruncate = properties.getPropertyAsBoolean(EXCEPTION_TRUNCATE, DEFAULT_EXCEPTION_TRUNCATE);
+		this.exceptionDeduplicationThreshold = properties.getPropertyAsInt(
+				EXCEPTION_DEDUPLICATION_THRESHOLD,
+				DEFAULT_EXCEPTION_DEDUPLICATION_THRESHOLD
+		);
 		this.attributeNumberLimit = properties.getPropertyAsInt(ATTRIBUTE_NUMBER_LIMIT, DEFAULT_ATTRIBUTE_NUMBER_LIMIT);
 		this.replaceBinaryCharacters = properties.getPropertyAsBoolean(REPLACE_BINARY_CHARACTERS, DEFAULT_REPLACE_BINARY_CHARACTERS);
 
@@ -654,6 +737,56 @@ public class ListenerParameters implements Cloneable {
 		this.ioPoolSize = ioPoolSize;
 	}
 
+	public int getLogIoPoolSize() {
+		return logIoPoolSize;
+	}
+
+	public void setLogIoPoolSize(int logIoPoolSize) {
+		this.logIoPoolSize = logIoPoolSize;
+	}
+
+	public boolean isIoPoolVirtual() {
+		return ioPoolVirtual;
+	}
+
+	public void setIoPoolVirtual(boolean ioPoolVirtual) {
+		this.ioPoolVirtual = ioPoolVirtual;
+	}
+
+	@Nullable
+	public Duration getServerInfoCacheTtl() {
+		return serverInfoCacheTtl;
+	}
+
+	public void setServerInfoCacheTtl(@Nullable Duration serverInfoCacheTtl) {
+		this.serverInfoCacheTtl = serverInfoCacheTtl;
+	}
+
+	@Nullable
+	public String getServerInfoCacheDir() {
+		return serverInfoCacheDir;
+	}
+
+	public void setServerInfoCacheDir(@Nullable String serverInfoCacheDir) {
+		this.serverInfoCacheDir = serverInfoCacheDir;
+	}
+
+	public boolean isMetricsJmxEnabled() {
+		return metricsJmxEnabled;
+	}
+
+	public void setMetricsJmxEnabled(boolean metricsJmxEnabled) {
+		this.metricsJmxEnabled = metricsJmxEnabled;
+	}
+
+	public boolean isStepAggregation() {
+		return stepAggregation;
+	}
+
+	public void setStepAggregation(boolean stepAggregation) {
+		this.stepAggregation = stepAggregation;
+	}
+
 	public boolean getClientJoin() {
 		return clientJoin;
 	}
@@ -694,6 +827,14 @@ public class ListenerParameters implements Cloneable {
 		this.syncFileName = fileName;
 	}
 
+	public String getSharedMemoryFileName() {
+		return sharedMemoryFileName;
+	}
+
+	public void setSharedMemoryFileName(String fileName) {
+		this.sharedMemoryFileName = fileName;
+	}
+
 	public long getClientJoinTimeout() {
 		return clientJoinTimeout;
 	}
@@ -726,6 +867,31 @@ public class ListenerParameters implements Cloneable {
 		this.httpLogging = httpLogging;
 	}
 
+	public boolean isHttpAsync() {
+		return httpAsync;
+	}
+
+	public void setHttpAsync(boolean httpAsync) {
+		this.httpAsync = httpAsync;
+	}
+
+	@Nullable
+	public String getHttpProtocol() {
+		return httpProtocol;
+	}
+
+	public void setHttpProtocol(@Nullable String httpProtocol) {
+		this.httpProtocol = httpProtocol;
+	}
+
+	public int getHttpWarmupConnections() {
+		return httpWarmupConnections;
+	}
+
+	public void setHttpWarmupConnections(int httpWarmupConnections) {
+		this.httpWarmupConnections = httpWarmupConnections;
+	}
+
 	public int getRxBufferSize() {
 		return ofNullable(System.getProperty("rx2.buffer-size")).map(Integer::valueOf).map(s -> Math.max(1, s)).orElse(rxBufferSize);
 	}
@@ -774,6 +940,14 @@ public class ListenerParameters implements Cloneable {
 		this.exceptionTruncate = exceptionTruncate;
 	}
 
+	public int getExceptionDeduplicationThreshold() {
+		return exceptionDeduplicationThreshold;
+	}
+
+	public void setExceptionDeduplicationThreshold(int exceptionDeduplicationThreshold) {
+		this.exceptionDeduplicationThreshold = exceptionDeduplicationThreshold;
+	}
+
 	public int getAttributeNumberLimit() {
 		return attributeNumberLimit;
 	}
@@ -826,6 +1000,109 @@ public class ListenerParameters implements Cloneable {
 		return httpWriteTimeout;
 	}
 
+	public boolean isHttpConcurrencyAdaptive() {
+		return httpConcurrencyAdaptive;
+	}
+
+	public void setHttpConcurrencyAdaptive(boolean httpConcurrencyAdaptive) {
+		this.httpConcurrencyAdaptive = httpConcurrencyAdaptive;
+	}
+
+	/**
+	 * Returns initial concurrency limit for adaptive concurrency limiting, falls back to I/O pool size if not set.
+	 *
+	 * @return initial concurrency limit
+	 */
+	public int getHttpConcurrencyLimitInitial() {
+		return ofNullable(httpConcurrencyLimitInitial).orElseGet(this::getIoPoolSize);
+	}
+
+	public void setHttpConcurrencyLimitInitial(@Nullable Integer httpConcurrencyLimitInitial) {
+		this.httpConcurrencyLimitInitial = httpConcurrencyLimitInitial;
+	}
+
+	public int getHttpConcurrencyLimitMin() {
+		return httpConcurrencyLimitMin;
+	}
+
+	public void setHttpConcurrencyLimitMin(int httpConcurrencyLimitMin) {
+		this.httpConcurrencyLimitMin = httpConcurrencyLimitMin;
+	}
+
+	public int getHttpConcurrencyLimitMax() {
+		return httpConcurrencyLimitMax;
+	}
+
+	public void setHttpConcurrencyLimitMax(int httpConcurrencyLimitMax) {
+		this.httpConcurrencyLimitMax = httpConcurrencyLimitMax;
+	}
+
+	@Nonnull
+	public Duration getHttpConcurrencyLatencyTimeout() {
+		return httpConcurrencyLatencyTimeout;
+	}
+
+	public void setHttpConcurrencyLatencyTimeout(@Nonnull Duration httpConcurrencyLatencyTimeout) {
+		this.httpConcurrencyLatencyTimeout = httpConcurrencyLatencyTimeout;
+	}
+
+	/**
+	 * Returns maximum number of concurrent requests for HTTP client dispatcher, falls back to
+	 * {@link #getHttpDispatcherMaxRequestsPerHost()} if it's bigger than OkHttp default (64).
+	 *
+	 * @return maximum number of concurrent requests
+	 */
+	public int getHttpDispatcherMaxRequests() {
+		return ofNullable(httpDispatcherMaxRequests).orElseGet(() -> Math.max(
+				DEFAULT_HTTP_DISPATCHER_MAX_REQUESTS,
+				getHttpDispatcherMaxRequestsPerHost()
+		));
+	}
+
+	public void setHttpDispatcherMaxRequests(@Nullable Integer httpDispatcherMaxRequests) {
+		this.httpDispatcherMaxRequests = httpDispatcherMaxRequests;
+	}
+
+	/**
+	 * Returns maximum number of concurrent requests to ReportPortal host, falls back to the sum of I/O pool sizes, but not less than
+	 * OkHttp default (5).
+	 *
+	 * @return maximum number of concurrent requests per host
+	 */
+	public int getHttpDispatcherMaxRequestsPerHost() {
+		return ofNullable(httpDispatcherMaxRequestsPerHost).orElseGet(() -> Math.max(
+				DEFAULT_HTTP_DISPATCHER_MAX_REQUESTS_PER_HOST,
+				getIoPoolSize() + getLogIoPoolSize()
+		));
+	}
+
+	public void setHttpDispatcherMaxRequestsPerHost(@Nullable Integer httpDispatcherMaxRequestsPerHost) {
+		this.httpDispatcherMaxRequestsPerHost = httpDispatcherMaxRequestsPerHost;
+	}
+
+	/**
+	 * Returns maximum number of idle connections kept in HTTP client connection pool, falls back to
+	 * {@link #getHttpDispatcherMaxRequestsPerHost()} if not set.
+	 *
+	 * @return connection pool size
+	 */
+	public int getHttpConnectionPoolSize() {
+		return ofNullable(httpConnectionPoolSize).orElseGet(this::getHttpDispatcherMaxRequestsPerHost);
+	}
+
+	public void setHttpConnectionPoolSize(@Nullable Integer httpConnectionPoolSize) {
+		this.httpConnectionPoolSize = httpConnectionPoolSize;
+	}
+
+	@Nonnull
+	public Duration getHttpConnectionPoolKeepAlive() {
+		return httpConnectionPoolKeepAlive;
+	}
+
+	public void setHttpConnectionPoolKeepAlive(@Nonnull Duration httpConnectionPoolKeepAlive) {
+		this.httpConnectionPoolKeepAlive = httpConnectionPoolKeepAlive;
+	}
+
 	@Nullable
 	public String getBtsProjectId() {
 		return btsProjectId;
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.utils.concurrency.AdaptiveConcurrencyLimiter;
+import jakarta.annotation.Nonnull;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+/**
+ * OkHttp {@link Interceptor} which passes requests to ReportPortal through an {@link AdaptiveConcurrencyLimiter}. Responses with
+ * {@code 429 Too Many Requests} and {@code 503 Service Unavailable} codes and I/O errors are treated as server overload signals.
+ */
+public class ConcurrencyLimitInterceptor implements Interceptor {
+	private static final int TOO_MANY_REQUESTS = 429;
+	private static final int SERVICE_UNAVAILABLE = 503;
+
+	private final AdaptiveConcurrencyLimiter limiter;
+
+	public ConcurrencyLimitInterceptor(@Nonnull AdaptiveConcurrencyLimiter concurrencyLimiter) {
+		limiter = concurrencyLimiter;
+	}
+
+	@Nonnull
+	public AdaptiveConcurrencyLimiter getLimiter() {
+		return limiter;
+	}
+
+	@Override
+	@Nonnull
+	public Response intercept(@Nonnull Chain chain) throws IOException {
+		try {
+			limiter.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a concurrency limit slot");
+		}
+		long start = System.nanoTime();
+		boolean dropped = true;
+		try {
+			Response response = chain.proceed(chain.request());
+			dropped = response.code() == TOO_MANY_REQUESTS || response.code() == SERVICE_UNAVAILABLE;
+			return response;
+		} finally {
+			limiter.release(System.nanoTime() - start, dropped);
+		}
+	}
+}
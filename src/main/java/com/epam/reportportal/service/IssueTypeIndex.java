@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.ta.reportportal.ws.model.project.config.IssueSubTypeResource;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Immutable index of project Issue Types, which resolves an Issue Type locator by the locator itself, short name, long name (both
+ * case-insensitive) or type reference. Built once per project settings, so every lookup is a hash map access instead of a scan
+ * through all Issue Subtypes.
+ */
+class IssueTypeIndex {
+	static final IssueTypeIndex EMPTY = new IssueTypeIndex(Collections.emptyMap());
+
+	private final Map<String, String> locators;
+
+	private IssueTypeIndex(@Nonnull Map<String, String> locatorIndex) {
+		locators = locatorIndex;
+	}
+
+	@Nonnull
+	private static String toKey(@Nonnull String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	private static void putAll(@Nonnull Map<String, String> index, @Nonnull List<IssueSubTypeResource> subTypes,
+			@Nonnull Function<IssueSubTypeResource, String> keyMapper) {
+		subTypes.stream()
+				.filter(subType -> subType.getLocator() != null)
+				.forEach(subType -> ofNullable(keyMapper.apply(subType)).ifPresent(key -> index.put(key, subType.getLocator())));
+	}
+
+	/**
+	 * Builds the index. Later puts override earlier ones, so the order of puts defines lookup priority: locator, short name, long name
+	 * and type reference.
+	 *
+	 * @param settings project settings
+	 * @return Issue Type index
+	 */
+	@Nonnull
+	static IssueTypeIndex of(@Nullable ProjectSettingsResource settings) {
+		Map<String, List<IssueSubTypeResource>> types = ofNullable(settings).map(ProjectSettingsResource::getSubTypes).orElse(null);
+		if (types == null || types.isEmpty()) {
+			return EMPTY;
+		}
+		List<IssueSubTypeResource> subTypes = new ArrayList<>();
+		types.values().stream().filter(Objects::nonNull).forEach(subTypes::addAll);
+
+		Map<String, String> index = new HashMap<>();
+		putAll(index, subTypes, IssueSubTypeResource::getTypeRef);
+		putAll(index, subTypes, subType -> ofNullable(subType.getLongName()).map(IssueTypeIndex::toKey).orElse(null));
+		putAll(index, subTypes, subType -> ofNullable(subType.getShortName()).map(IssueTypeIndex::toKey).orElse(null));
+		putAll(index, subTypes, IssueSubTypeResource::getLocator);
+		return new IssueTypeIndex(Collections.unmodifiableMap(index));
+	}
+
+	/**
+	 * Resolves Issue Type locator.
+	 *
+	 * @param issueType Issue Type locator, short name, long name or type reference
+	 * @return Issue Type locator or {@code null} if there is no such Issue Type in the project
+	 */
+	@Nullable
+	String getLocator(@Nonnull String issueType) {
+		String locator = locators.get(issueType);
+		return locator != null ? locator : locators.get(toKey(issueType));
+	}
+}
@@ -19,6 +19,7 @@ import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.step.DefaultStepReporter;
 import com.epam.reportportal.service.step.StepReporter;
 import com.epam.reportportal.utils.StaticStructuresUtils;
+import com.epam.reportportal.utils.formatting.StackTraceCache;
 import com.epam.reportportal.utils.formatting.templating.TemplateConfiguration;
 import com.epam.ta.reportportal.ws.model.FinishExecutionRQ;
 import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
@@ -51,11 +52,14 @@ public abstract class Launch {
 
 	private final StepReporter stepReporter;
 
+	private final StackTraceCache stackTraceCache;
+
 	protected final ReportPortalClient client;
 
 	Launch(@Nonnull ReportPortalClient reportPortalClient, @Nonnull ListenerParameters listenerParameters, @Nonnull StepReporter reporter) {
 		parameters = requireNonNull(listenerParameters, "ListenerParameters shouldn't be NULL");
 		stepReporter = requireNonNull(reporter, "StepReporter shouldn't be NULL");
+		stackTraceCache = new StackTraceCache(parameters.getExceptionDeduplicationThreshold());
 		CURRENT_LAUNCH.set(this);
 		client = reportPortalClient;
 	}
@@ -63,6 +67,7 @@ public abstract class Launch {
 	Launch(@Nonnull ReportPortalClient reportPortalClient, @Nonnull ListenerParameters listenerParameters) {
 		parameters = requireNonNull(listenerParameters, "ListenerParameters shouldn't be NULL");
 		stepReporter = new DefaultStepReporter(this);
+		stackTraceCache = new StackTraceCache(parameters.getExceptionDeduplicationThreshold());
 		CURRENT_LAUNCH.set(this);
 		client = requireNonNull(reportPortalClient, "ReportPortalClient shouldn't be NULL");
 	}
@@ -195,8 +200,11 @@ public abstract class Launch {
 	 */
 	@Nonnull
 	public ListenerParameters getParameters() {
-		// Sticking any thread which makes this call to the current Launch to be able to use Step Reporter and other methods
-		CURRENT_LAUNCH.set(this);
+		// Sticking any thread which makes this call to the current Launch to be able to use Step Reporter and other methods,
+		// the value is written only once per thread, since the method is called on hot paths
+		if (CURRENT_LAUNCH.get() != this) {
+			CURRENT_LAUNCH.set(this);
+		}
 		return parameters;
 	}
 
@@ -210,6 +218,23 @@ public abstract class Launch {
 		return CURRENT_LAUNCH.get();
 	}
 
+	/**
+	 * Links a launch to the current thread.
+	 *
+	 * @param launch launch instance or {@code null} to unlink the current one
+	 * @return previous launch linked to the thread
+	 */
+	@Nullable
+	static Launch setCurrentLaunch(@Nullable Launch launch) {
+		Launch previous = CURRENT_LAUNCH.get();
+		if (launch == null) {
+			CURRENT_LAUNCH.remove();
+		} else if (previous != launch) {
+			CURRENT_LAUNCH.set(launch);
+		}
+		return previous;
+	}
+
 	/**
 	 * Returns Nested Step reporter for the current launch.
 	 *
@@ -220,6 +245,16 @@ public abstract class Launch {
 		return stepReporter;
 	}
 
+	/**
+	 * Returns the cache of stack traces reported during the launch.
+	 *
+	 * @return a {@link StackTraceCache} instance.
+	 */
+	@Nonnull
+	public StackTraceCache getStackTraceCache() {
+		return stackTraceCache;
+	}
+
 	/**
 	 * Returns ReportPortal client for the launch.
 	 *
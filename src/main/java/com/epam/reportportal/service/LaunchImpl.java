@@ -21,8 +21,10 @@ import com.epam.reportportal.exception.ReportPortalException;
 import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.message.TypeAwareByteSource;
+import com.epam.reportportal.service.jfr.FlightRecorderEvents;
 import com.epam.reportportal.service.logs.LogBatchingFlowable;
 import com.epam.reportportal.service.logs.LoggingSubscriber;
+import com.epam.reportportal.service.metrics.ReportingMetrics;
 import com.epam.reportportal.service.statistics.StatisticsService;
 import com.epam.reportportal.utils.*;
 import com.epam.reportportal.utils.files.ByteSource;
@@ -56,6 +58,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -140,7 +143,9 @@ public class LaunchImpl extends Launch {
 
 	protected final StartLaunchRQ startRq;
 	protected final Maybe<ProjectSettingsResource> projectSettings;
+	private final Single<IssueTypeIndex> issueTypes;
 	protected final Maybe<ApiInfo> apiInfo;
+	private final Completable microsecondsResolution;
 	private final Supplier<Maybe<String>> launch;
 	private final PublishSubject<SaveLogRQ> logEmitter;
 	private final ExecutorService executor;
@@ -148,15 +153,32 @@ public class LaunchImpl extends Launch {
 	private final LoggingSubscriber loggingSubscriber;
 	private final TemplateConfiguration templateConfiguration;
 	private StatisticsService statisticsService;
-	private volatile Boolean useMicroseconds;
+	private final AtomicReference<Boolean> useMicroseconds = new AtomicReference<>();
+
+	/**
+	 * Counts an item request as pending in {@link ReportingMetrics} until it completes.
+	 *
+	 * @param request item start or finish request
+	 * @param <T>     response type
+	 * @return the same request with pending state tracking
+	 */
+	private static <T> Maybe<T> trackPendingItem(@Nonnull Maybe<T> request) {
+		ReportingMetrics metrics = ReportingMetrics.getInstance();
+		metrics.add(ReportingMetrics.ITEMS_PENDING, null, 1);
+		return request.doFinally(() -> metrics.add(ReportingMetrics.ITEMS_PENDING, null, -1));
+	}
 
 	private static PublishSubject<SaveLogRQ> createLogEmitter(@Nonnull final ReportPortalClient client,
 			@Nonnull final ListenerParameters parameters, @Nonnull final Scheduler scheduler,
 			@Nonnull final FlowableSubscriber<BatchSaveOperatingRS> loggingSubscriber) {
 		PublishSubject<SaveLogRQ> emitter = PublishSubject.create();
 		RxJavaPlugins.onAssembly(new LogBatchingFlowable(new FlowableFromObservable<>(emitter), parameters))
-				.flatMap((Function<List<SaveLogRQ>, Flowable<BatchSaveOperatingRS>>) rqs -> client.log(HttpRequestUtils.buildLogMultiPartRequest(
-						rqs)).retry(DEFAULT_REQUEST_RETRY).toFlowable())
+				.flatMap((Function<List<SaveLogRQ>, Flowable<BatchSaveOperatingRS>>) rqs -> FlightRecorderEvents.logBatchUpload(
+								rqs,
+								client.log(HttpRequestUtils.buildLogMultiPartRequest(rqs)).retry(DEFAULT_REQUEST_RETRY)
+						)
+						.doFinally(() -> ReportingMetrics.getInstance().add(ReportingMetrics.LOGS_PENDING, null, -rqs.size()))
+						.toFlowable())
 				.onBackpressureBuffer(parameters.getRxBufferSize(), false, true)
 				.cache()
 				.subscribeOn(scheduler)
@@ -164,13 +186,75 @@ public class LaunchImpl extends Launch {
 		return emitter;
 	}
 
+	private static <T> Maybe<T> withCache(@Nullable final Maybe<T> request, @Nonnull final Class<T> type,
+			@Nonnull final ListenerParameters parameters, @Nonnull final String prefix, @Nonnull final String id,
+			@Nonnull final Scheduler scheduler) {
+		Maybe<T> remote = ofNullable(request).orElse(Maybe.empty());
+		ServerInfoCache cache = ServerInfoCache.create(parameters);
+		if (cache == null) {
+			return remote.subscribeOn(scheduler).cache();
+		}
+		// Reading a small local file is much cheaper than a request, so do it right away to have the value at construction time
+		T cached = cache.get(prefix, id, type);
+		if (cached != null) {
+			return Maybe.just(cached);
+		}
+		return remote.doOnSuccess(value -> cache.put(prefix, id, value)).subscribeOn(scheduler).cache();
+	}
+
 	private static Maybe<ProjectSettingsResource> getProjectSettings(@Nonnull final ReportPortalClient client,
+			@Nonnull final ListenerParameters parameters, @Nonnull final Scheduler scheduler) {
+		String id = parameters.getBaseUrl() + "/" + parameters.getProjectName();
+		return withCache(
+				client.getProjectSettings(),
+				ProjectSettingsResource.class,
+				parameters,
+				ServerInfoCache.PROJECT_SETTINGS_PREFIX,
+				id,
+				scheduler
+		);
+	}
+
+	private static Maybe<ApiInfo> getApiInfo(@Nonnull final ReportPortalClient client, @Nonnull final ListenerParameters parameters,
 			@Nonnull final Scheduler scheduler) {
-		return ofNullable(client.getProjectSettings()).map(settings -> settings.subscribeOn(scheduler).cache()).orElse(Maybe.empty());
+		return withCache(
+				client.getApiInfo(),
+				ApiInfo.class,
+				parameters,
+				ServerInfoCache.API_INFO_PREFIX,
+				String.valueOf(parameters.getBaseUrl()),
+				scheduler
+		);
+	}
+
+	private static Single<IssueTypeIndex> getIssueTypes(@Nonnull final Maybe<ProjectSettingsResource> projectSettings) {
+		return projectSettings.map(IssueTypeIndex::of).toSingle(IssueTypeIndex.EMPTY).onErrorReturn(e -> {
+			LOGGER.warn("Unable to get project settings, Issue Types will be sent as is", e);
+			return IssueTypeIndex.EMPTY;
+		}).cache();
+	}
+
+	private static boolean isMicrosecondsSupported(@Nonnull ApiInfo info) {
+		String version = ofNullable(info.getBuild()).map(ApiInfo.Build::getVersion).orElse(null);
+		return StringUtils.isNotBlank(version) && compareSemanticVersions(version, MICROSECONDS_MIN_VERSION) >= 0;
 	}
 
-	private static Maybe<ApiInfo> getApiInfo(@Nonnull final ReportPortalClient client, @Nonnull final Scheduler scheduler) {
-		return ofNullable(client.getApiInfo()).map(info -> info.subscribeOn(scheduler).cache()).orElse(Maybe.empty());
+	/**
+	 * Starts server version resolution in background. Requests which contain timestamps wait for this {@link Completable} before
+	 * sending.
+	 *
+	 * @return resolution result, never fails
+	 */
+	private Completable resolveMicroseconds() {
+		Completable result = apiInfo.map(LaunchImpl::isMicrosecondsSupported)
+				.toSingle(false)
+				.onErrorReturnItem(false)
+				.doOnSuccess(r -> useMicroseconds.compareAndSet(null, r))
+				.ignoreElement()
+				.cache();
+		//noinspection ResultOfMethodCallIgnored
+		result.subscribe();
+		return result;
 	}
 
 	private static StartLaunchRQ emptyStartLaunchForStatistics() {
@@ -208,11 +292,13 @@ public class LaunchImpl extends Launch {
 
 		LOGGER.info("Rerun: {}", parameters.isRerun());
 
+		projectSettings = getProjectSettings(getClient(), getParameters(), getScheduler());
+		issueTypes = getIssueTypes(projectSettings);
+		apiInfo = getApiInfo(getClient(), getParameters(), getScheduler());
+		microsecondsResolution = resolveMicroseconds();
 		launch = getLaunchSupplier(getClient(), getScheduler(), startRq);
 		this.loggingSubscriber = loggingSubscriber;
 		logEmitter = createLogEmitter(getClient(), getParameters(), getScheduler(), loggingSubscriber);
-		projectSettings = getProjectSettings(getClient(), getScheduler());
-		apiInfo = getApiInfo(getClient(), getScheduler());
 		templateConfiguration = new TemplateConfiguration();
 	}
 
@@ -252,11 +338,14 @@ public class LaunchImpl extends Launch {
 		startRq = emptyStartLaunchForStatistics();
 
 		LOGGER.info("Rerun: {}", parameters.isRerun());
-		launch = () -> launchMaybe.cache().subscribeOn(getScheduler());
+		projectSettings = getProjectSettings(getClient(), getParameters(), getScheduler());
+		issueTypes = getIssueTypes(projectSettings);
+		apiInfo = getApiInfo(getClient(), getParameters(), getScheduler());
+		microsecondsResolution = resolveMicroseconds();
+		// Items and logs of this launch are sent after launch UUID is known, so make sure server version is resolved by that time
+		launch = () -> microsecondsResolution.andThen(launchMaybe).cache().subscribeOn(getScheduler());
 		loggingSubscriber = new LoggingSubscriber();
 		logEmitter = createLogEmitter(getClient(), getParameters(), getScheduler(), loggingSubscriber);
-		projectSettings = getProjectSettings(getClient(), getScheduler());
-		apiInfo = getApiInfo(getClient(), getScheduler());
 		templateConfiguration = new TemplateConfiguration();
 	}
 
@@ -264,8 +353,10 @@ public class LaunchImpl extends Launch {
 			@Nonnull final StartLaunchRQ startRq) {
 		return new MemoizingSupplier<>(() -> {
 			StartLaunchRQ myStartRq = clonePojo(startRq, StartLaunchRQ.class);
-			myStartRq.setStartTime(convertIfNecessary(myStartRq.getStartTime()));
-			return client.startLaunch(myStartRq).retry(DEFAULT_REQUEST_RETRY).map(StartLaunchRS::getId).cache().subscribeOn(scheduler);
+			return microsecondsResolution.andThen(Maybe.defer(() -> {
+				myStartRq.setStartTime(convertIfNecessary(myStartRq.getStartTime()));
+				return client.startLaunch(myStartRq);
+			})).retry(DEFAULT_REQUEST_RETRY).map(StartLaunchRS::getId).cache().subscribeOn(scheduler);
 		});
 	}
 
@@ -285,27 +376,15 @@ public class LaunchImpl extends Launch {
 	 * ReportPortal server version. Versions greater than or equal to 5.13.2
 	 * support microseconds.
 	 * <p>
-	 * The value is computed once and cached for subsequent calls.
+	 * The version is resolved in background on launch creation, so the method never blocks. If the version is not known yet at the
+	 * moment of the call, the method returns {@code false}, since millisecond timestamps are supported by every server version. The
+	 * first returned value is kept for the whole launch, so all timestamps created by agents are of the same type.
 	 *
 	 * @return {@code true} if server version greater or equal 5.13.2, otherwise {@code false}
 	 */
 	public boolean useMicroseconds() {
-		if (useMicroseconds != null) {
-			return useMicroseconds;
-		}
-
-		boolean result = false;
-		try {
-			ApiInfo info = apiInfo.blockingGet();
-			String version = ofNullable(info).map(ApiInfo::getBuild).map(ApiInfo.Build::getVersion).orElse(null);
-			if (StringUtils.isNotBlank(version)) {
-				result = compareSemanticVersions(version, MICROSECONDS_MIN_VERSION) >= 0;
-			}
-		} catch (Exception e) {
-			// Ignore and keep default false when API info is unavailable
-		}
-		this.useMicroseconds = result;
-		return result;
+		useMicroseconds.compareAndSet(null, Boolean.FALSE);
+		return useMicroseconds.get();
 	}
 
 	/**
@@ -357,25 +436,30 @@ public class LaunchImpl extends Launch {
 		return templateConfiguration;
 	}
 
+	/**
+	 * Cleans a field from binary characters and truncates it in one pass, according to the given parameters.
+	 *
+	 * @param params listener parameters
+	 * @param field  a field to sanitize
+	 * @param limit  maximum field length
+	 * @return sanitized field, or the same instance if there is nothing to change
+	 */
 	@Nullable
-	private String sanitizeField(@Nullable final String field, int limit) {
+	static String sanitizeField(@Nonnull ListenerParameters params, @Nullable final String field, int limit) {
 		if (field == null || field.isEmpty()) {
 			return field;
 		}
+		return sanitizeString(
+				field,
+				params.isReplaceBinaryCharacters(),
+				params.isTruncateFields() ? limit : Integer.MAX_VALUE,
+				params.getTruncateReplacement()
+		);
+	}
 
-		ListenerParameters params = getParameters();
-		String myField = field;
-		if (params.isReplaceBinaryCharacters()) {
-			myField = cleanBinaryCharacters(field);
-			if (myField == null || myField.isEmpty()) {
-				return field;
-			}
-		}
-
-		if (!params.isTruncateFields()) {
-			return myField;
-		}
-		return truncateString(myField, limit, params.getTruncateReplacement());
+	@Nullable
+	private String sanitizeField(@Nullable final String field, int limit) {
+		return sanitizeField(getParameters(), field, limit);
 	}
 
 	private void truncateName(@Nonnull final StartRQ rq, int limit) {
@@ -424,53 +508,67 @@ public class LaunchImpl extends Launch {
 		rq.setName(TemplateProcessing.processTemplate(rq.getName(), null, null, formatParameters, config));
 	}
 
+	private static <T> void copyHead(@Nonnull Iterable<T> source, int count, @Nonnull Collection<T> target) {
+		Iterator<T> iterator = source.iterator();
+		for (int i = 0; i < count; i++) {
+			target.add(iterator.next());
+		}
+	}
+
+	/**
+	 * Limits number of attributes, cleans their keys and values from binary characters and truncates them, according to the given
+	 * parameters. Attributes are checked in one pass, a new set and new attribute objects are created only if something changes.
+	 *
+	 * @param params     listener parameters
+	 * @param attributes attributes to sanitize
+	 * @return sanitized attributes, or the same instance if there is nothing to change
+	 */
 	@Nullable
-	private Set<ItemAttributesRQ> truncateAttributes(@Nullable final Set<ItemAttributesRQ> attributes) {
+	static Set<ItemAttributesRQ> sanitizeAttributes(@Nonnull ListenerParameters params, @Nullable final Set<ItemAttributesRQ> attributes) {
 		if (attributes == null || attributes.isEmpty()) {
 			return attributes;
 		}
 
-		int numberLimit = getParameters().getAttributeNumberLimit();
-		Set<ItemAttributesRQ> myAttributes = attributes;
-		if (myAttributes.size() > numberLimit) {
-			myAttributes = myAttributes.stream()
+		int numberLimit = params.getAttributeNumberLimit();
+		Collection<ItemAttributesRQ> source = attributes;
+		Set<ItemAttributesRQ> result = null;
+		if (attributes.size() > numberLimit) {
+			source = attributes.stream()
 					.sorted(Comparator.comparing(ItemAttributeResource::getKey))
 					.limit(numberLimit)
-					.collect(Collectors.toSet());
-		}
-
-		if (getParameters().isReplaceBinaryCharacters()) {
-			myAttributes = myAttributes.stream()
-					.map(a -> new ItemAttributesRQ(cleanBinaryCharacters(a.getKey()), cleanBinaryCharacters(a.getValue()), a.isSystem()))
-					.collect(Collectors.toSet());
+					.collect(Collectors.toList());
+			result = new HashSet<>();
 		}
 
-		if (!getParameters().isTruncateFields()) {
-			return myAttributes;
-		}
-
-		int lengthLimit = getParameters().getAttributeLengthLimit();
-		String replacement = getParameters().getTruncateReplacement();
-		return myAttributes.stream().map(attribute -> {
-			ItemAttributesRQ updated = attribute;
-			int keyLength = ofNullable(updated.getKey()).map(String::length).orElse(0);
-			if (keyLength > lengthLimit && keyLength > replacement.length()) {
-				updated = new ItemAttributesRQ(
-						updated.getKey().substring(0, lengthLimit - replacement.length()) + replacement,
-						updated.getValue(),
-						updated.isSystem()
-				);
+		boolean replaceBinaryCharacters = params.isReplaceBinaryCharacters();
+		int lengthLimit = params.isTruncateFields() ? params.getAttributeLengthLimit() : Integer.MAX_VALUE;
+		String replacement = params.getTruncateReplacement();
+		int index = 0;
+		for (ItemAttributesRQ attribute : source) {
+			String key = attribute.getKey();
+			String value = attribute.getValue();
+			String newKey = key == null ? null : sanitizeString(key, replaceBinaryCharacters, lengthLimit, replacement);
+			String newValue = value == null ? null : sanitizeString(value, replaceBinaryCharacters, lengthLimit, replacement);
+			// Sanitizing returns the same instance if nothing was changed
+			ItemAttributesRQ sanitized = attribute;
+			if (newKey != key || newValue != value) {
+				sanitized = new ItemAttributesRQ(newKey, newValue, attribute.isSystem());
+				if (result == null) {
+					result = new HashSet<>();
+					copyHead(source, index, result);
+				}
 			}
-			int valueLength = ofNullable(updated.getValue()).map(String::length).orElse(0);
-			if (valueLength > lengthLimit && valueLength > replacement.length()) {
-				updated = new ItemAttributesRQ(
-						updated.getKey(),
-						updated.getValue().substring(0, lengthLimit - replacement.length()) + replacement,
-						updated.isSystem()
-				);
+			if (result != null) {
+				result.add(sanitized);
 			}
-			return updated;
-		}).collect(Collectors.toSet());
+			index++;
+		}
+		return result == null ? attributes : result;
+	}
+
+	@Nullable
+	private Set<ItemAttributesRQ> truncateAttributes(@Nullable final Set<ItemAttributesRQ> attributes) {
+		return sanitizeAttributes(getParameters(), attributes);
 	}
 
 	private void truncateAttributes(@Nonnull final StartRQ rq) {
@@ -481,30 +579,63 @@ public class LaunchImpl extends Launch {
 		rq.setAttributes(truncateAttributes(rq.getAttributes()));
 	}
 
-	private void truncateParameters(@Nonnull final StartTestItemRQ rq) {
-		List<ParameterResource> myParameters = rq.getParameters();
-		if (myParameters == null || myParameters.isEmpty()) {
-			return;
+	/**
+	 * Cleans keys and values of test item parameters from binary characters, according to the given parameters. New list and new
+	 * parameter objects are created only if something changes.
+	 *
+	 * @param params     listener parameters
+	 * @param parameters test item parameters to sanitize
+	 * @return sanitized parameters, or the same instance if there is nothing to change
+	 */
+	@Nullable
+	static List<ParameterResource> sanitizeParameters(@Nonnull ListenerParameters params,
+			@Nullable final List<ParameterResource> parameters) {
+		if (parameters == null || parameters.isEmpty() || !params.isReplaceBinaryCharacters()) {
+			return parameters;
 		}
 
-		if (getParameters().isReplaceBinaryCharacters()) {
-			myParameters = myParameters.stream().map(a -> {
-				ParameterResource newParam = new ParameterResource();
-				newParam.setKey(cleanBinaryCharacters(a.getKey()));
-				newParam.setValue(cleanBinaryCharacters(a.getValue()));
-				return newParam;
-			}).collect(Collectors.toList());
+		List<ParameterResource> result = null;
+		int index = 0;
+		for (ParameterResource parameter : parameters) {
+			String key = cleanBinaryCharacters(parameter.getKey());
+			String value = cleanBinaryCharacters(parameter.getValue());
+			// Cleaning returns the same instance if nothing was changed
+			ParameterResource sanitized = parameter;
+			if (key != parameter.getKey() || value != parameter.getValue()) {
+				sanitized = new ParameterResource();
+				sanitized.setKey(key);
+				sanitized.setValue(value);
+				if (result == null) {
+					result = new ArrayList<>(parameters.size());
+					copyHead(parameters, index, result);
+				}
+			}
+			if (result != null) {
+				result.add(sanitized);
+			}
+			index++;
+		}
+		return result == null ? parameters : result;
+	}
+
+	private void truncateParameters(@Nonnull final StartTestItemRQ rq) {
+		List<ParameterResource> parameters = rq.getParameters();
+		List<ParameterResource> sanitized = sanitizeParameters(getParameters(), parameters);
+		if (sanitized != parameters) {
+			rq.setParameters(sanitized);
 		}
-		rq.setParameters(myParameters);
 	}
 
+	/**
+	 * Converts timestamps to the precision supported by the server. Must be called inside request chains which wait for
+	 * {@link #microsecondsResolution}, so the server version is already known.
+	 */
 	@Nullable
 	private Comparable<? extends Comparable<?>> convertIfNecessary(@Nullable Comparable<? extends Comparable<?>> dateTime) {
 		if (dateTime == null) {
 			return null;
 		}
-		boolean useMicroseconds = useMicroseconds();
-		if (dateTime instanceof Instant && !useMicroseconds) {
+		if (dateTime instanceof Instant && !useMicroseconds()) {
 			// Convert Instant to Date if microseconds are not supported
 			return Date.from((Instant) dateTime);
 		} else {
@@ -623,6 +754,13 @@ public class LaunchImpl extends Launch {
 			file.setContentType(rq.getFile().getContentType());
 		});
 		myRq.setLogTime(convertIfNecessary(myRq.getLogTime()));
+		ReportingMetrics metrics = ReportingMetrics.getInstance();
+		if (logEmitter.hasComplete() || logEmitter.hasThrowable()) {
+			// The emitter ignores logs after Launch finish
+			metrics.increment(ReportingMetrics.LOGS_DROPPED);
+			return;
+		}
+		metrics.add(ReportingMetrics.LOGS_PENDING, null, 1);
 		logEmitter.onNext(myRq);
 	}
 
@@ -675,13 +813,12 @@ public class LaunchImpl extends Launch {
 		}
 		if (StringUtils.isBlank(getParameters().getLaunchUuid()) || !getParameters().isLaunchUuidCreationSkip()) {
 			FinishExecutionRQ rq = clonePojo(request, FinishExecutionRQ.class);
-			rq.setEndTime(convertIfNecessary(rq.getEndTime()));
 			truncateAttributes(rq);
 			truncateDescription(rq);
-			Maybe<OperationCompletionRS> launchCompletable = getLaunch().flatMap(id -> getClient().finishLaunch(id, rq)
-					.retry(DEFAULT_REQUEST_RETRY)
-					.doOnSuccess(LOG_SUCCESS)
-					.doOnError(LOG_ERROR));
+			Maybe<OperationCompletionRS> launchCompletable = getLaunch().flatMap(id -> {
+				rq.setEndTime(convertIfNecessary(rq.getEndTime()));
+				return getClient().finishLaunch(id, rq).retry(DEFAULT_REQUEST_RETRY).doOnSuccess(LOG_SUCCESS).doOnError(LOG_ERROR);
+			});
 			finish = ofNullable(finish).map(f -> f.andThen(launchCompletable)).orElse(launchCompletable).ignoreElement().cache();
 		}
 
@@ -705,7 +842,6 @@ public class LaunchImpl extends Launch {
 	@NotNull
 	private StartTestItemRQ applyRequestModifications(StartTestItemRQ request) {
 		StartTestItemRQ rq = clonePojo(request, StartTestItemRQ.class);
-		rq.setStartTime(convertIfNecessary(rq.getStartTime()));
 		int nameLimit = getParameters().getTruncateItemNamesLimit();
 		truncateName(rq, nameLimit); // Truncate before templating to not allow too long names to be passed to Template engine
 		truncateDescription(request);
@@ -734,11 +870,14 @@ public class LaunchImpl extends Launch {
 		StartTestItemRQ rq = applyRequestModifications(request);
 
 		String itemDescription = String.format("root test item [%s] '%s'", rq.getType(), rq.getName());
-		final Maybe<String> item = getLaunch().flatMap((Function<String, Maybe<String>>) launchId -> {
+		long queuedAt = System.nanoTime();
+		final Maybe<String> item = trackPendingItem(getLaunch().flatMap((Function<String, Maybe<String>>) launchId -> {
 			rq.setLaunchUuid(launchId);
+			rq.setStartTime(convertIfNecessary(rq.getStartTime()));
 			LOGGER.trace("Starting {} in thread: {}", itemDescription, Thread.currentThread().getName());
-			return getClient().startTestItem(rq).retry(DEFAULT_REQUEST_RETRY).map(TO_ID);
-		}).cache().subscribeOn(getScheduler());
+			Maybe<ItemCreatedRS> itemRequest = getClient().startTestItem(rq).retry(DEFAULT_REQUEST_RETRY);
+			return FlightRecorderEvents.itemRequest("start", rq.getType(), queuedAt, itemRequest).map(TO_ID);
+		})).cache().subscribeOn(getScheduler());
 		item.subscribe(logMaybeResults("Start " + itemDescription));
 		queue.getOrCompute(item).addToQueue(item.ignoreElement().onErrorComplete());
 		LoggingContext.init(item);
@@ -769,13 +908,16 @@ public class LaunchImpl extends Launch {
 		StartTestItemRQ rq = applyRequestModifications(request);
 
 		String itemDescription = String.format("child test item [%s] '%s'", rq.getType(), rq.getName());
-		final Maybe<String> item = RxJavaPlugins.onAssembly(Maybe.zip(
+		long queuedAt = System.nanoTime();
+		final Maybe<String> item = RxJavaPlugins.onAssembly(trackPendingItem(Maybe.zip(
 				getLaunch(), parentId, (lId, pId) -> {
 					rq.setLaunchUuid(lId);
+					rq.setStartTime(convertIfNecessary(rq.getStartTime()));
 					LOGGER.trace("Starting {} in thread: {}", itemDescription, Thread.currentThread().getName());
 					return getClient().startTestItem(pId, rq);
 				}
-		).flatMap(rs -> rs.retry(DEFAULT_REQUEST_RETRY).map(TO_ID)).cache()).subscribeOn(getScheduler());
+		).flatMap(rs -> FlightRecorderEvents.itemRequest("start", rq.getType(), queuedAt, rs.retry(DEFAULT_REQUEST_RETRY)).map(TO_ID)))
+				.cache()).subscribeOn(getScheduler());
 		item.subscribe(logMaybeResults("Start " + itemDescription));
 		queue.getOrCompute(item).withParent(parentId).addToQueue(item.ignoreElement().onErrorComplete());
 		LoggingContext.init(item);
@@ -939,23 +1081,7 @@ public class LaunchImpl extends Launch {
 		if (StringUtils.isBlank(issueType)) {
 			return;
 		}
-		ofNullable(projectSettings.blockingGet()).map(ProjectSettingsResource::getSubTypes)
-				.ifPresent(subTypes -> subTypes.values().stream().flatMap(List::stream).forEach(value -> {
-					if (issueType.equals(value.getLocator())) {
-						return;
-					}
-					if (issueType.equalsIgnoreCase(value.getShortName())) {
-						issue.setIssueType(value.getLocator());
-						return;
-					}
-					if (issueType.equalsIgnoreCase(value.getLongName())) {
-						issue.setIssueType(value.getLocator());
-						return;
-					}
-					if (issueType.equals(value.getTypeRef())) {
-						issue.setIssueType(value.getLocator());
-					}
-				}));
+		ofNullable(issueTypes.blockingGet().getLocator(issueType)).ifPresent(issue::setIssueType);
 
 		if (ofNullable(issue.getExternalSystemIssues()).filter(issues -> !issues.isEmpty()).isEmpty()) {
 			return;
@@ -1008,21 +1134,23 @@ public class LaunchImpl extends Launch {
 			return createErrorResponse(new NullPointerException("FinishTestItemRQ should not be null"));
 		}
 		FinishTestItemRQ rq = clonePojo(request, FinishTestItemRQ.class);
-		rq.setEndTime(convertIfNecessary(rq.getEndTime()));
 		truncateAttributes(rq);
 		truncateDescription(rq);
 
 		//noinspection ReactiveStreamsUnusedPublisher
 		getStepReporter().finishPreviousStep(ofNullable(rq.getStatus()).map(ItemStatus::valueOf).orElse(null));
+		// aggregated steps should be queued before the item finish
+		getStepReporter().finishAggregatedSteps(item);
 
 		ItemStatus status = ofNullable(rq.getStatus()).map(ItemStatus::valueOf).orElse(null);
+		boolean issueCompletion = false;
 		if (rq.getIssue() == null) {
 			if (status == ItemStatus.SKIPPED && !getParameters().getSkippedAnIssue()) {
 				rq.setIssue(Launch.NOT_ISSUE);
 			}
 		} else {
 			if (status == ItemStatus.FAILED || (status == ItemStatus.SKIPPED && getParameters().getSkippedAnIssue())) {
-				completeIssues(rq.getIssue());
+				issueCompletion = true;
 			} else if (status == ItemStatus.PASSED) {
 				if (getParameters().isBtsIssueFail()) {
 					rq.setStatus(ItemStatus.FAILED.name());
@@ -1044,18 +1172,32 @@ public class LaunchImpl extends Launch {
 		}
 
 		//wait for the children to complete
-		Maybe<OperationCompletionRS> finishResponse = RxJavaPlugins.onAssembly(Maybe.zip(
+		final boolean completeIssue = issueCompletion;
+		final long queuedAt = System.nanoTime();
+		Maybe<Maybe<OperationCompletionRS>> finishRequest = Maybe.zip(
 				this.getLaunch(), item, (launchId, itemId) -> {
 					// set launch UUID for the request
 					rq.setLaunchUuid(launchId);
+					rq.setEndTime(convertIfNecessary(rq.getEndTime()));
+					if (completeIssue) {
+						completeIssues(rq.getIssue());
+					}
 					LOGGER.trace("Finishing test item {} in thread: {}", itemId, Thread.currentThread().getName());
 					// make the actual call to finish the test item
-					return getClient().finishTestItem(itemId, rq)
-							.retry(TEST_ITEM_FINISH_REQUEST_RETRY)
+					return FlightRecorderEvents.itemRequest(
+									"finish",
+									null,
+									queuedAt,
+									getClient().finishTestItem(itemId, rq).retry(TEST_ITEM_FINISH_REQUEST_RETRY)
+							)
 							.doOnSuccess(LOG_SUCCESS)
 							.doOnError(LOG_ERROR);
 				}
-		).flatMap(m -> m).cache());
+		);
+		// Issue Types are resolved on I/O threads, wait for project settings there instead of blocking the caller
+		Maybe<OperationCompletionRS> finishResponse = RxJavaPlugins.onAssembly(trackPendingItem((completeIssue ?
+				issueTypes.ignoreElement().andThen(finishRequest) :
+				finishRequest).flatMap(m -> m)).cache());
 
 		Completable finishCompletion = Completable.concat(treeItem.getChildren())
 				.andThen(finishResponse)
@@ -20,15 +20,10 @@ import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayDeque;
-import java.util.Collections;
 import java.util.Deque;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-
-import static java.util.Optional.ofNullable;
+import java.util.concurrent.Callable;
 
 /**
  * Logging context holds thread-local context for logging and converts
@@ -39,30 +34,57 @@ import static java.util.Optional.ofNullable;
  * Before actual finish of test item, context should be closed/completed.
  * Context consists of {@link Flowable} with buffering back-pressure strategy to be able
  * to batch incoming log messages into one request
+ * <p>
+ * Child threads see the context of their parent thread until they initialize their own one. For threads which don't inherit thread
+ * locals, e.g. pooled or virtual threads, use {@link #capture()} to pass the context and the current Launch explicitly. No state is kept
+ * outside of thread locals, so it goes away together with the thread.
  *
  * @see LoggingContext#init(Maybe)
  */
 public class LoggingContext {
-	private static final ThreadLocal<Pair<Long, Deque<LoggingContext>>> CONTEXT_THREAD_LOCAL = new InheritableThreadLocal<>();
 
-	private static final Set<Long> THREAD_IDS = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	/**
+	 * Stack of contexts visible in a thread. A child thread gets a non-owned view of its parent stack, which is replaced with an owned
+	 * one on the first {@link #init(Maybe)} call in the child thread.
+	 */
+	private static final class ContextStack {
+		private final Deque<LoggingContext> contexts;
+		private final boolean owned;
 
-	@Nonnull
-	private static Deque<LoggingContext> createContext() {
-		Long threadKey = Thread.currentThread().getId();
-		if (!THREAD_IDS.contains(threadKey) || CONTEXT_THREAD_LOCAL.get() == null) {
-			Deque<LoggingContext> context = new ArrayDeque<>();
-			CONTEXT_THREAD_LOCAL.set(Pair.of(threadKey, context));
-			THREAD_IDS.add(threadKey);
-			return context;
+		private ContextStack(@Nonnull Deque<LoggingContext> contextDeque, boolean isOwned) {
+			contexts = contextDeque;
+			owned = isOwned;
+		}
+
+		@Nonnull
+		private ContextStack view() {
+			return owned ? new ContextStack(contexts, false) : this;
 		}
-		return CONTEXT_THREAD_LOCAL.get().getValue();
 	}
 
-	@Nullable
-	private static Deque<LoggingContext> getContext() {
-		Long threadKey = Thread.currentThread().getId();
-		return ofNullable(CONTEXT_THREAD_LOCAL.get()).filter(ctx -> threadKey.equals(ctx.getKey())).map(Pair::getValue).orElse(null);
+	private static final ThreadLocal<ContextStack> CONTEXT_THREAD_LOCAL = new InheritableThreadLocal<>() {
+		@Override
+		protected ContextStack childValue(ContextStack parentValue) {
+			return parentValue == null ? null : parentValue.view();
+		}
+	};
+
+	private static void setContextStack(@Nullable ContextStack stack) {
+		if (stack == null) {
+			CONTEXT_THREAD_LOCAL.remove();
+		} else {
+			CONTEXT_THREAD_LOCAL.set(stack);
+		}
+	}
+
+	@Nonnull
+	private static Deque<LoggingContext> createContext() {
+		ContextStack stack = CONTEXT_THREAD_LOCAL.get();
+		if (stack == null || !stack.owned) {
+			stack = new ContextStack(new ArrayDeque<>(), true);
+			CONTEXT_THREAD_LOCAL.set(stack);
+		}
+		return stack.contexts;
 	}
 
 	/**
@@ -73,7 +95,8 @@ public class LoggingContext {
 	 */
 	@Nullable
 	public static LoggingContext context() {
-		return ofNullable(CONTEXT_THREAD_LOCAL.get()).map(Pair::getValue).map(Deque::peek).orElse(null);
+		ContextStack stack = CONTEXT_THREAD_LOCAL.get();
+		return stack == null ? null : stack.contexts.peek();
 	}
 
 	/**
@@ -96,7 +119,88 @@ public class LoggingContext {
 	 */
 	@Nullable
 	public static LoggingContext dispose() {
-		return ofNullable(getContext()).map(Deque::poll).orElse(null);
+		ContextStack stack = CONTEXT_THREAD_LOCAL.get();
+		return stack != null && stack.owned ? stack.contexts.poll() : null;
+	}
+
+	/**
+	 * Captures logging context and current Launch of the calling thread to use them in another thread.
+	 *
+	 * @return context snapshot
+	 */
+	@Nonnull
+	public static Snapshot capture() {
+		ContextStack stack = CONTEXT_THREAD_LOCAL.get();
+		return new Snapshot(stack == null ? null : stack.view(), Launch.currentLaunch());
+	}
+
+	/**
+	 * Scope of an attached {@link Snapshot}, closing it restores previous state of the thread.
+	 */
+	public interface Scope extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	/**
+	 * Logging context and current Launch captured in one thread to be attached to another one, e.g. to a task running on a thread pool
+	 * or on a virtual thread.
+	 */
+	public static final class Snapshot {
+		private final ContextStack stack;
+		private final Launch launch;
+
+		private Snapshot(@Nullable ContextStack contextStack, @Nullable Launch currentLaunch) {
+			stack = contextStack;
+			launch = currentLaunch;
+		}
+
+		/**
+		 * Attaches captured state to the current thread until the returned scope is closed.
+		 *
+		 * @return attachment scope
+		 */
+		@Nonnull
+		public Scope attach() {
+			ContextStack previousStack = CONTEXT_THREAD_LOCAL.get();
+			Launch previousLaunch = Launch.setCurrentLaunch(launch);
+			setContextStack(stack);
+			return () -> {
+				setContextStack(previousStack);
+				Launch.setCurrentLaunch(previousLaunch);
+			};
+		}
+
+		/**
+		 * Wraps a task to run it with captured state attached.
+		 *
+		 * @param task a task to wrap
+		 * @return wrapped task
+		 */
+		@Nonnull
+		public Runnable wrap(@Nonnull Runnable task) {
+			return () -> {
+				try (Scope ignored = attach()) {
+					task.run();
+				}
+			};
+		}
+
+		/**
+		 * Wraps a task to run it with captured state attached.
+		 *
+		 * @param task a task to wrap
+		 * @param <T>  task result type
+		 * @return wrapped task
+		 */
+		@Nonnull
+		public <T> Callable<T> wrap(@Nonnull Callable<T> task) {
+			return () -> {
+				try (Scope ignored = attach()) {
+					return task.call();
+				}
+			};
+		}
 	}
 
 	/* a UUID of TestItem in ReportPortal to report into */
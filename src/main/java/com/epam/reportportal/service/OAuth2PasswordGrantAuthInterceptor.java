@@ -20,6 +20,7 @@ import com.epam.reportportal.exception.InternalReportPortalClientException;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.utils.concurrency.LockCloseable;
 import com.epam.reportportal.utils.http.ClientUtils;
+import com.epam.reportportal.utils.http.HttpRuntime;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Nonnull;
@@ -101,7 +102,8 @@ public class OAuth2PasswordGrantAuthInterceptor implements Interceptor {
 
 		URL tokenUrl = parseTokenUri(parameters);
 
-		OkHttpClient.Builder clientBuilder = ClientUtils.setupSsl(new OkHttpClient.Builder(), tokenUrl, parameters);
+		// Share connection pool and dispatcher with ReportPortal client, the interceptor lives as long as the client
+		OkHttpClient.Builder clientBuilder = ClientUtils.setupSsl(HttpRuntime.get(parameters).newClientBuilder(), tokenUrl, parameters);
 		ClientUtils.setupHttpLoggingInterceptor(clientBuilder, parameters);
 
 		if (parameters.isOauthUseProxy()) {
@@ -21,14 +21,18 @@ import com.epam.reportportal.message.ReportPortalMessage;
 import com.epam.reportportal.message.TypeAwareByteSource;
 import com.epam.reportportal.service.launch.PrimaryLaunch;
 import com.epam.reportportal.service.launch.SecondaryLaunch;
+import com.epam.reportportal.service.metrics.ReportingMetrics;
 import com.epam.reportportal.utils.concurrency.MultithreadingUtils;
 import com.epam.reportportal.utils.files.Utils;
 import com.epam.reportportal.utils.http.ClientUtils;
 import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.reportportal.utils.http.HttpRuntime;
+import com.epam.reportportal.utils.http.LaneCallAdapterFactory;
 import com.epam.reportportal.utils.properties.PropertiesLoader;
 import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
 import io.reactivex.schedulers.Schedulers;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -88,6 +92,7 @@ public class ReportPortal {
 	private final LaunchIdLock launchIdLock;
 	private final ReportPortalClient rpClient;
 	private final ExecutorService executor;
+	private final ExecutorService logExecutor;
 
 	/**
 	 * @param rpClient   ReportPortal client
@@ -95,10 +100,29 @@ public class ReportPortal {
 	 */
 	ReportPortal(@Nullable ReportPortalClient rpClient, @Nonnull ExecutorService executor, @Nonnull ListenerParameters parameters,
 			@Nullable LaunchIdLock launchIdLock) {
+		this(rpClient, executor, executor, parameters, launchIdLock);
+	}
+
+	/**
+	 * @param rpClient    ReportPortal client
+	 * @param executor    Executor for launch and item requests
+	 * @param logExecutor Executor for log requests, can be the same as the main one
+	 * @param parameters  Listener Parameters
+	 */
+	ReportPortal(@Nullable ReportPortalClient rpClient, @Nonnull ExecutorService executor, @Nonnull ExecutorService logExecutor,
+			@Nonnull ListenerParameters parameters, @Nullable LaunchIdLock launchIdLock) {
 		this.rpClient = rpClient;
 		this.executor = executor;
+		this.logExecutor = logExecutor;
 		this.parameters = Objects.requireNonNull(parameters);
 		this.launchIdLock = launchIdLock;
+
+		ReportingMetrics metrics = ReportingMetrics.getInstance();
+		metrics.gauge(ReportingMetrics.IO_QUEUE_DEPTH, this, ReportPortal::getIoQueueDepth);
+		metrics.gauge(ReportingMetrics.LOG_IO_QUEUE_DEPTH, this, ReportPortal::getLogIoQueueDepth);
+		if (parameters.isMetricsJmxEnabled()) {
+			metrics.registerMBean();
+		}
 	}
 
 	/**
@@ -180,6 +204,20 @@ public class ReportPortal {
 		return this.rpClient;
 	}
 
+	/**
+	 * @return number of tasks waiting in the I/O queue for launch and item requests, or {@code -1} if unknown
+	 */
+	public int getIoQueueDepth() {
+		return MultithreadingUtils.getQueueDepth(executor);
+	}
+
+	/**
+	 * @return number of tasks waiting in the I/O queue for log requests, or {@code -1} if unknown
+	 */
+	public int getLogIoQueueDepth() {
+		return MultithreadingUtils.getQueueDepth(logExecutor);
+	}
+
 	/**
 	 * Creates new builder for {@link ReportPortal}
 	 *
@@ -500,11 +538,10 @@ public class ReportPortal {
 			rq.setLevel("ERROR");
 			rq.setLogTime(useMicroseconds ? Instant.now() : Calendar.getInstance().getTime());
 			if (cause != null) {
-				if (myParameters.isExceptionTruncate()) {
-					rq.setMessage(getStackTrace(cause, base));
-				} else {
-					rq.setMessage(ExceptionUtils.getStackTrace(cause));
-				}
+				Function<Throwable, String> renderer = myParameters.isExceptionTruncate() ?
+						t -> getStackTrace(t, base) :
+						ExceptionUtils::getStackTrace;
+				rq.setMessage(launch != null ? launch.getStackTraceCache().format(cause, renderer) : renderer.apply(cause));
 			} else {
 				rq.setMessage("Test has failed without exception");
 			}
@@ -518,6 +555,7 @@ public class ReportPortal {
 		private OkHttpClient.Builder httpClient;
 		private ListenerParameters parameters;
 		private ExecutorService executor;
+		private ExecutorService logExecutor;
 
 		public Builder withHttpClient(OkHttpClient.Builder client) {
 			this.httpClient = client;
@@ -534,15 +572,32 @@ public class ReportPortal {
 			return this;
 		}
 
+		/**
+		 * Sets a separate executor for log uploads, so they don't compete with launch and item requests.
+		 *
+		 * @param logExecutor an executor for log requests
+		 * @return this builder
+		 */
+		public Builder withLogExecutorService(ExecutorService logExecutor) {
+			this.logExecutor = logExecutor;
+			return this;
+		}
+
 		public ReportPortal build() {
 			ListenerParameters params = ofNullable(this.parameters).orElse(new ListenerParameters(defaultPropertiesLoader()));
 			ExecutorService executorService = executor == null ? buildExecutorService(params) : executor;
+			ExecutorService logExecutorService = ofNullable(logExecutor).orElseGet(() -> params.getLogIoPoolSize() > 0 ?
+					buildLogExecutorService(params) :
+					executorService);
 			Class<? extends ReportPortalClient> clientType = params.isAsyncReporting() ?
 					ReportPortalClientV2.class :
 					ReportPortalClient.class;
 			return new ReportPortal(
-					ofNullable(params.getEnable()).orElse(false) ? buildClient(clientType, params, executorService) : null,
+					ofNullable(params.getEnable()).orElse(false) ?
+							buildClient(clientType, params, executorService, logExecutorService) :
+							null,
 					executorService,
+					logExecutorService,
 					params,
 					buildLaunchLock(params)
 			);
@@ -556,7 +611,8 @@ public class ReportPortal {
 		 */
 		@Nullable
 		public <T extends ReportPortalClient> T buildClient(@Nonnull final Class<T> clientType, @Nonnull final ListenerParameters params) {
-			return buildClient(clientType, params, buildExecutorService(params));
+			// Use shared executor instead of building a new one for each client
+			return buildClient(clientType, params, HttpRuntime.get(params).getExecutor());
 		}
 
 		/**
@@ -569,14 +625,44 @@ public class ReportPortal {
 		@Nullable
 		public <T extends ReportPortalClient> T buildClient(@Nonnull final Class<T> clientType, @Nonnull final ListenerParameters params,
 				@Nonnull final ExecutorService executor) {
+			return buildClient(clientType, params, executor, executor);
+		}
+
+		/**
+		 * @param clientType  a class to instantiate
+		 * @param params      {@link ListenerParameters} ReportPortal parameters
+		 * @param <T>         ReportPortal Client interface class
+		 * @param executor    {@link ExecutorService} an Executor which will be used for launch and item requests
+		 * @param logExecutor {@link ExecutorService} an Executor which will be used for log requests
+		 * @return a ReportPortal Client instance
+		 */
+		@Nullable
+		public <T extends ReportPortalClient> T buildClient(@Nonnull final Class<T> clientType, @Nonnull final ListenerParameters params,
+				@Nonnull final ExecutorService executor, @Nonnull final ExecutorService logExecutor) {
 			OkHttpClient client = ofNullable(this.httpClient).map(builder -> {
+				ClientUtils.setupConcurrencyLimitInterceptor(builder, params);
+				ClientUtils.setupMetricsInterceptor(builder);
 				ClientUtils.setupAuthInterceptor(builder, params);
 				builder.addInterceptor(new PathParamInterceptor("projectName", params.getProjectName()));
 				ClientUtils.setupHttpLoggingInterceptor(builder, params);
 				return builder.build();
 			}).orElseGet(() -> defaultClient(params));
 
-			return ofNullable(client).map(c -> buildRestEndpoint(params, c, executor).create(clientType)).orElse(null);
+			if (client == null) {
+				return null;
+			}
+			ClientUtils.warmUpConnections(client, params);
+			Retrofit endpoint;
+			if (params.isHttpAsync()) {
+				endpoint = executor == logExecutor ?
+						buildAsyncRestEndpoint(params, client) :
+						buildAsyncRestEndpoint(params, client, logExecutor);
+			} else if (executor == logExecutor) {
+				endpoint = buildRestEndpoint(params, client, executor);
+			} else {
+				endpoint = buildRestEndpoint(params, client, executor, logExecutor);
+			}
+			return endpoint.create(clientType);
 		}
 
 		/**
@@ -585,7 +671,7 @@ public class ReportPortal {
 		 * @return a ReportPortal endpoint description class
 		 */
 		protected Retrofit buildRestEndpoint(@Nonnull final ListenerParameters parameters, @Nonnull final OkHttpClient client) {
-			return buildRestEndpoint(parameters, client, buildExecutorService(parameters));
+			return buildRestEndpoint(parameters, client, HttpRuntime.get(parameters).getExecutor());
 		}
 
 		/**
@@ -596,6 +682,57 @@ public class ReportPortal {
 		 */
 		protected Retrofit buildRestEndpoint(@Nonnull final ListenerParameters parameters, @Nonnull final OkHttpClient client,
 				@Nonnull final ExecutorService executor) {
+			Scheduler scheduler = Schedulers.from(executor);
+			return restEndpointBuilder(parameters, client).addCallAdapterFactory(RxJava2CallAdapterFactory.createWithScheduler(scheduler))
+					.build();
+		}
+
+		/**
+		 * @param parameters  {@link ListenerParameters} ReportPortal parameters
+		 * @param client      {@link OkHttpClient} an HTTP client instance
+		 * @param executor    {@link ExecutorService} an Executor which will be used for launch and item requests
+		 * @param logExecutor {@link ExecutorService} an Executor which will be used for log requests
+		 * @return a ReportPortal endpoint description class
+		 */
+		protected Retrofit buildRestEndpoint(@Nonnull final ListenerParameters parameters, @Nonnull final OkHttpClient client,
+				@Nonnull final ExecutorService executor, @Nonnull final ExecutorService logExecutor) {
+			return restEndpointBuilder(parameters, client).addCallAdapterFactory(new LaneCallAdapterFactory(
+					Schedulers.from(executor),
+					Schedulers.from(logExecutor)
+			)).build();
+		}
+
+		/**
+		 * Builds an endpoint which enqueues calls to the HTTP client dispatcher, so requests don't hold I/O pool threads while waiting
+		 * for responses. Responses are delivered on the HTTP client dispatcher threads.
+		 *
+		 * @param parameters {@link ListenerParameters} ReportPortal parameters
+		 * @param client     {@link OkHttpClient} an HTTP client instance
+		 * @return a ReportPortal endpoint description class
+		 */
+		protected Retrofit buildAsyncRestEndpoint(@Nonnull final ListenerParameters parameters, @Nonnull final OkHttpClient client) {
+			return restEndpointBuilder(parameters, client).addCallAdapterFactory(RxJava2CallAdapterFactory.createAsync()).build();
+		}
+
+		/**
+		 * Builds an endpoint which enqueues launch and item calls to the HTTP client dispatcher, but uploads log batches on a separate
+		 * executor. That keeps log uploads in their own I/O lane: bulk log batches are limited by the log executor size and don't take
+		 * dispatcher slots needed by item start and finish requests.
+		 *
+		 * @param parameters  {@link ListenerParameters} ReportPortal parameters
+		 * @param client      {@link OkHttpClient} an HTTP client instance
+		 * @param logExecutor {@link ExecutorService} an Executor which will be used for log requests
+		 * @return a ReportPortal endpoint description class
+		 */
+		protected Retrofit buildAsyncRestEndpoint(@Nonnull final ListenerParameters parameters, @Nonnull final OkHttpClient client,
+				@Nonnull final ExecutorService logExecutor) {
+			return restEndpointBuilder(parameters, client).addCallAdapterFactory(new LaneCallAdapterFactory(
+					RxJava2CallAdapterFactory.createAsync(),
+					RxJava2CallAdapterFactory.createWithScheduler(Schedulers.from(logExecutor))
+			)).build();
+		}
+
+		private Retrofit.Builder restEndpointBuilder(@Nonnull final ListenerParameters parameters, @Nonnull final OkHttpClient client) {
 			String baseUrl = (parameters.getBaseUrl().endsWith("/") ? parameters.getBaseUrl() : parameters.getBaseUrl() + "/") + API_PATH;
 			Retrofit.Builder builder = new Retrofit.Builder().client(client);
 			try {
@@ -608,9 +745,7 @@ public class ReportPortal {
 								+ "please use selenium-java 3.141.0 as minimum.", e
 				);
 			}
-			return builder.addCallAdapterFactory(RxJava2CallAdapterFactory.createWithScheduler(Schedulers.from(executor)))
-					.addConverterFactory(JacksonConverterFactory.create(HttpRequestUtils.MAPPER))
-					.build();
+			return builder.addConverterFactory(JacksonConverterFactory.create(HttpRequestUtils.MAPPER));
 		}
 
 		@Nullable
@@ -628,12 +763,15 @@ public class ReportPortal {
 				throw new InternalReportPortalClientException("Unable to parse ReportPortal URL", e);
 			}
 
-			OkHttpClient.Builder builder = new OkHttpClient.Builder();
+			OkHttpClient.Builder builder = HttpRuntime.get(parameters).newClientBuilder();
+			ClientUtils.setupConcurrencyLimitInterceptor(builder, parameters);
+			ClientUtils.setupMetricsInterceptor(builder);
 			ClientUtils.setupAuthInterceptor(builder, parameters);
 			ClientUtils.setupSsl(builder, baseUrl, parameters);
 			ClientUtils.setupProxy(builder, parameters);
 			builder.addInterceptor(new PathParamInterceptor("projectName", parameters.getProjectName()));
 			ClientUtils.setupHttpLoggingInterceptor(builder, parameters);
+			ClientUtils.setupProtocol(builder, parameters);
 
 			ofNullable(parameters.getHttpConnectTimeout()).map(d -> builder.connectTimeout(d.toMillis(), TimeUnit.MILLISECONDS));
 			ofNullable(parameters.getHttpReadTimeout()).map(d -> builder.readTimeout(d.toMillis(), TimeUnit.MILLISECONDS));
@@ -660,5 +798,9 @@ public class ReportPortal {
 		protected ExecutorService buildExecutorService(ListenerParameters params) {
 			return MultithreadingUtils.buildExecutorService("rp-io-", params);
 		}
+
+		protected ExecutorService buildLogExecutorService(ListenerParameters params) {
+			return MultithreadingUtils.buildExecutorService("rp-io-log-", params.getLogIoPoolSize(), params.isIoPoolVirtual());
+		}
 	}
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static com.epam.reportportal.utils.http.HttpRequestUtils.MAPPER;
+import static java.util.Optional.ofNullable;
+
+/**
+ * File cache of rarely changing ReportPortal server responses, like API info and project settings. Allows to avoid repeating the
+ * same requests on every launch start, e.g. for forked test JVMs. Every value is stored in a separate JSON file and expires when the
+ * file is older than configured TTL. The cache is best-effort: any I/O error is treated as a cache miss.
+ */
+class ServerInfoCache {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ServerInfoCache.class);
+
+	static final String API_INFO_PREFIX = "api-info-";
+	static final String PROJECT_SETTINGS_PREFIX = "project-settings-";
+
+	private static final String DEFAULT_DIRECTORY = "reportportal";
+	private static final String FILE_EXTENSION = ".json";
+
+	private final Path directory;
+	private final Duration ttl;
+
+	ServerInfoCache(@Nonnull Path cacheDirectory, @Nonnull Duration timeToLive) {
+		directory = cacheDirectory;
+		ttl = timeToLive;
+	}
+
+	/**
+	 * Creates cache instance according to ReportPortal parameters.
+	 *
+	 * @param parameters ReportPortal parameters
+	 * @return cache instance or {@code null} if caching is disabled
+	 */
+	@Nullable
+	static ServerInfoCache create(@Nonnull ListenerParameters parameters) {
+		Duration ttl = parameters.getServerInfoCacheTtl();
+		if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+			return null;
+		}
+		Path directory = ofNullable(parameters.getServerInfoCacheDir()).map(Paths::get)
+				.orElseGet(() -> Paths.get(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY));
+		return new ServerInfoCache(directory, ttl);
+	}
+
+	@Nonnull
+	private Path getFile(@Nonnull String prefix, @Nonnull String id) {
+		return directory.resolve(prefix + UUID.nameUUIDFromBytes(id.getBytes(StandardCharsets.UTF_8)) + FILE_EXTENSION);
+	}
+
+	/**
+	 * Reads cached value.
+	 *
+	 * @param prefix value type prefix, which is used in file name
+	 * @param id     value identifier, e.g. ReportPortal URL
+	 * @param type   value class
+	 * @param <T>    value type
+	 * @return cached value or {@code null} if there is no such value or it is expired
+	 */
+	@Nullable
+	<T> T get(@Nonnull String prefix, @Nonnull String id, @Nonnull Class<T> type) {
+		Path file = getFile(prefix, id);
+		try {
+			if (!Files.isRegularFile(file)) {
+				return null;
+			}
+			Instant modified = Files.getLastModifiedTime(file).toInstant();
+			if (modified.plus(ttl).isBefore(Instant.now())) {
+				return null;
+			}
+			return MAPPER.readValue(Files.readAllBytes(file), type);
+		} catch (IOException e) {
+			LOGGER.debug("Unable to read cached value from file: {}", file, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes value to the cache. The file is replaced atomically, so concurrent readers never see partially written values.
+	 *
+	 * @param prefix value type prefix, which is used in file name
+	 * @param id     value identifier, e.g. ReportPortal URL
+	 * @param value  value to cache
+	 */
+	void put(@Nonnull String prefix, @Nonnull String id, @Nonnull Object value) {
+		Path file = getFile(prefix, id);
+		Path tempFile = null;
+		try {
+			Files.createDirectories(directory);
+			tempFile = Files.createTempFile(directory, prefix, FILE_EXTENSION);
+			Files.write(tempFile, MAPPER.writeValueAsBytes(value));
+			try {
+				Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			LOGGER.debug("Unable to write cached value to file: {}", file, e);
+			if (tempFile != null) {
+				try {
+					Files.deleteIfExists(tempFile);
+				} catch (IOException ignore) {
+					// Nothing to do here
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.jfr;
+
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Java Flight Recorder events of the reporting lifecycle: item requests, log batch assembly and upload, request retries, lock file
+ * waits and polling waits. Events are recorded only when a recording with them is running, e.g. with
+ * {@code -XX:StartFlightRecording} JVM option, otherwise every method here costs about a single check. On JVMs without
+ * {@code jdk.jfr} module all methods do nothing.
+ * <p>
+ * Methods which start an event return an opaque handle, or {@code null} if the event is not recorded, which must be passed to the
+ * corresponding finish method. This way classes which use this one don't depend on {@code jdk.jfr} classes.
+ */
+public final class FlightRecorderEvents {
+	private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+	private FlightRecorderEvents() {
+		throw new IllegalStateException("Static only class. No instances should exist for the class!");
+	}
+
+	/**
+	 * @return {@code true} if current JVM supports Java Flight Recorder
+	 */
+	public static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+	/**
+	 * Records an event for a test item start or finish request.
+	 *
+	 * @param operation   request operation, e.g. "start" or "finish"
+	 * @param itemType    test item type, if known
+	 * @param queuedNanos {@link System#nanoTime()} value at the moment the request was made by an Agent
+	 * @param request     HTTP request to trace
+	 * @param <T>         response type
+	 * @return the same request with tracing
+	 */
+	@Nonnull
+	public static <T> Maybe<T> itemRequest(@Nonnull String operation, @Nullable String itemType, long queuedNanos,
+			@Nonnull Maybe<T> request) {
+		return AVAILABLE ? ItemRequestEvent.trace(operation, itemType, queuedNanos, request) : request;
+	}
+
+	/**
+	 * Records an event for a log batch upload request.
+	 *
+	 * @param batch   logs in the batch
+	 * @param request HTTP request to trace
+	 * @param <T>     response type
+	 * @return the same request with tracing
+	 */
+	@Nonnull
+	public static <T> Maybe<T> logBatchUpload(@Nonnull List<SaveLogRQ> batch, @Nonnull Maybe<T> request) {
+		return AVAILABLE ? LogBatchUploadEvent.trace(batch, request) : request;
+	}
+
+	/**
+	 * Starts a log batch assembly event.
+	 *
+	 * @return event handle or {@code null}
+	 */
+	@Nullable
+	public static Object startLogBatchAssembly() {
+		return AVAILABLE ? LogBatchAssemblyEvent.start() : null;
+	}
+
+	/**
+	 * Finishes a log batch assembly event.
+	 *
+	 * @param event   event handle
+	 * @param records number of logs in the batch
+	 * @param bytes   estimated batch size in bytes
+	 */
+	public static void finishLogBatchAssembly(@Nullable Object event, int records, long bytes) {
+		if (event != null) {
+			LogBatchAssemblyEvent.finish(event, records, bytes);
+		}
+	}
+
+	/**
+	 * Starts a retry delay event.
+	 *
+	 * @return event handle or {@code null}
+	 */
+	@Nullable
+	public static Object startRetry() {
+		return AVAILABLE ? RetryEvent.start() : null;
+	}
+
+	/**
+	 * Finishes a retry delay event.
+	 *
+	 * @param event   event handle
+	 * @param attempt number of the retry
+	 * @param error   the error which caused the retry
+	 */
+	public static void finishRetry(@Nullable Object event, int attempt, @Nonnull Throwable error) {
+		if (event != null) {
+			RetryEvent.finish(event, attempt, error);
+		}
+	}
+
+	/**
+	 * Starts a lock file wait event.
+	 *
+	 * @return event handle or {@code null}
+	 */
+	@Nullable
+	public static Object startLockFileWait() {
+		return AVAILABLE ? LockFileWaitEvent.start() : null;
+	}
+
+	/**
+	 * Finishes a lock file wait event.
+	 *
+	 * @param event    event handle
+	 * @param file     path to the lock file
+	 * @param acquired whether the lock was acquired
+	 */
+	public static void finishLockFileWait(@Nullable Object event, @Nonnull String file, boolean acquired) {
+		if (event != null) {
+			LockFileWaitEvent.finish(event, file, acquired);
+		}
+	}
+
+	/**
+	 * Starts a polling wait event.
+	 *
+	 * @return event handle or {@code null}
+	 */
+	@Nullable
+	public static Object startWait() {
+		return AVAILABLE ? WaiterEvent.start() : null;
+	}
+
+	/**
+	 * Finishes a polling wait event.
+	 *
+	 * @param event       event handle
+	 * @param description wait description
+	 * @param polls       number of condition checks
+	 * @param outcome     wait outcome, e.g. "success" or "timeout"
+	 */
+	public static void finishWait(@Nullable Object event, @Nonnull String description, int polls, @Nonnull String outcome) {
+		if (event != null) {
+			WaiterEvent.finish(event, description, polls, outcome);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.jfr;
+
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.*;
+
+/**
+ * Test item start or finish request. The event duration is the time spent on HTTP calls, including retries, while
+ * {@link #queueWait} is the time from the moment the request was made by an Agent till the HTTP call start, which includes waiting for
+ * parent and child items and for a free I/O thread.
+ */
+@Name("com.epam.reportportal.ItemRequest")
+@Label("Item Request")
+@Category({ "ReportPortal", "Client" })
+@Description("Test item start or finish request to ReportPortal")
+@StackTrace(false)
+class ItemRequestEvent extends Event {
+	private static final EventType TYPE = EventType.getEventType(ItemRequestEvent.class);
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Item Type")
+	String itemType;
+
+	@Label("Queue Wait")
+	@Timespan(Timespan.NANOSECONDS)
+	long queueWait;
+
+	@Label("Successful")
+	boolean successful;
+
+	@Nonnull
+	static <T> Maybe<T> trace(@Nonnull String operation, @Nullable String itemType, long queuedNanos, @Nonnull Maybe<T> request) {
+		if (!TYPE.isEnabled()) {
+			return request;
+		}
+		return Maybe.defer(() -> {
+			ItemRequestEvent event = new ItemRequestEvent();
+			event.queueWait = System.nanoTime() - queuedNanos;
+			event.begin();
+			return request.doOnEvent((result, error) -> {
+				event.operation = operation;
+				event.itemType = itemType;
+				event.successful = error == null;
+				event.commit();
+			});
+		});
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.jfr;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.*;
+
+/**
+ * Wait for a lock on a file used for Launch ID synchronization between processes.
+ */
+@Name("com.epam.reportportal.LockFileWait")
+@Label("Lock File Wait")
+@Category({ "ReportPortal", "Client" })
+@Description("Wait for a lock on a Launch ID synchronization file")
+class LockFileWaitEvent extends Event {
+	private static final EventType TYPE = EventType.getEventType(LockFileWaitEvent.class);
+
+	@Label("File")
+	String file;
+
+	@Label("Acquired")
+	boolean acquired;
+
+	@Nullable
+	static Object start() {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		LockFileWaitEvent event = new LockFileWaitEvent();
+		event.begin();
+		return event;
+	}
+
+	static void finish(@Nonnull Object started, @Nonnull String file, boolean acquired) {
+		LockFileWaitEvent event = (LockFileWaitEvent) started;
+		event.file = file;
+		event.acquired = acquired;
+		event.commit();
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.jfr;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.*;
+
+/**
+ * Assembly of a log batch. The event starts with the first log in a batch and ends when the batch is sent for upload.
+ */
+@Name("com.epam.reportportal.LogBatchAssembly")
+@Label("Log Batch Assembly")
+@Category({ "ReportPortal", "Client" })
+@Description("Collection of logs into a batch for upload")
+@StackTrace(false)
+class LogBatchAssemblyEvent extends Event {
+	private static final EventType TYPE = EventType.getEventType(LogBatchAssemblyEvent.class);
+
+	@Label("Records")
+	int records;
+
+	@Label("Estimated Size")
+	@DataAmount
+	long bytes;
+
+	@Nullable
+	static Object start() {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		LogBatchAssemblyEvent event = new LogBatchAssemblyEvent();
+		event.begin();
+		return event;
+	}
+
+	static void finish(@Nonnull Object started, int records, long bytes) {
+		LogBatchAssemblyEvent event = (LogBatchAssemblyEvent) started;
+		event.records = records;
+		event.bytes = bytes;
+		event.commit();
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.jfr;
+
+import com.epam.reportportal.utils.http.HttpRequestUtils;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import jdk.jfr.*;
+
+import java.util.List;
+
+/**
+ * Upload of a log batch. The event duration is the time spent on HTTP calls, including retries.
+ */
+@Name("com.epam.reportportal.LogBatchUpload")
+@Label("Log Batch Upload")
+@Category({ "ReportPortal", "Client" })
+@Description("Log batch upload to ReportPortal")
+@StackTrace(false)
+class LogBatchUploadEvent extends Event {
+	private static final EventType TYPE = EventType.getEventType(LogBatchUploadEvent.class);
+
+	@Label("Records")
+	int records;
+
+	@Label("Estimated Size")
+	@DataAmount
+	long bytes;
+
+	@Label("Successful")
+	boolean successful;
+
+	@Nonnull
+	static <T> Maybe<T> trace(@Nonnull List<SaveLogRQ> batch, @Nonnull Maybe<T> request) {
+		if (!TYPE.isEnabled()) {
+			return request;
+		}
+		return Maybe.defer(() -> {
+			LogBatchUploadEvent event = new LogBatchUploadEvent();
+			event.records = batch.size();
+			event.bytes = batch.stream().mapToLong(HttpRequestUtils::calculateRequestSize).sum();
+			event.begin();
+			return request.doOnEvent((result, error) -> {
+				event.successful = error == null;
+				event.commit();
+			});
+		});
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.jfr;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.*;
+
+/**
+ * Retry of a failed request. The event duration is the delay before the next attempt.
+ */
+@Name("com.epam.reportportal.Retry")
+@Label("Request Retry")
+@Category({ "ReportPortal", "Client" })
+@Description("Delay before a retry of a failed request to ReportPortal")
+class RetryEvent extends Event {
+	private static final EventType TYPE = EventType.getEventType(RetryEvent.class);
+
+	@Label("Attempt")
+	int attempt;
+
+	@Label("Error")
+	String error;
+
+	@Nullable
+	static Object start() {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		RetryEvent event = new RetryEvent();
+		event.begin();
+		return event;
+	}
+
+	static void finish(@Nonnull Object started, int attempt, @Nonnull Throwable error) {
+		RetryEvent event = (RetryEvent) started;
+		event.attempt = attempt;
+		event.error = error.getClass().getName() + ": " + error.getMessage();
+		event.commit();
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.jfr;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.*;
+
+/**
+ * Polling wait performed by {@link com.epam.reportportal.utils.Waiter}.
+ */
+@Name("com.epam.reportportal.Wait")
+@Label("Wait")
+@Category({ "ReportPortal", "Client" })
+@Description("Polling wait for a condition")
+class WaiterEvent extends Event {
+	private static final EventType TYPE = EventType.getEventType(WaiterEvent.class);
+
+	@Label("Description")
+	String description;
+
+	@Label("Polls")
+	int polls;
+
+	@Label("Outcome")
+	String outcome;
+
+	@Nullable
+	static Object start() {
+		if (!TYPE.isEnabled()) {
+			return null;
+		}
+		WaiterEvent event = new WaiterEvent();
+		event.begin();
+		return event;
+	}
+
+	static void finish(@Nonnull Object started, @Nonnull String description, int polls, @Nonnull String outcome) {
+		WaiterEvent event = (WaiterEvent) started;
+		event.description = description;
+		event.polls = polls;
+		event.outcome = outcome;
+		event.commit();
+	}
+}
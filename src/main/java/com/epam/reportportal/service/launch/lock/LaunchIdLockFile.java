@@ -18,7 +18,7 @@ package com.epam.reportportal.service.launch.lock;
 
 import com.epam.reportportal.exception.InternalReportPortalClientException;
 import com.epam.reportportal.listeners.ListenerParameters;
-import com.epam.reportportal.utils.Waiter;
+import com.epam.reportportal.service.jfr.FlightRecorderEvents;
 import com.epam.reportportal.utils.properties.ListenerProperty;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -26,6 +26,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -35,7 +36,9 @@ import java.nio.channels.FileLock;
 import java.nio.channels.OverlappingFileLockException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -45,6 +48,11 @@ import static java.util.Optional.ofNullable;
  * A service to perform blocking I/O operations on '.lock' and '.sync' file to get single launch UUID for multiple clients on a machine.
  * This class uses a local storage disk, therefore applicable in scope of a single hardware machine. You can control lock and sync file
  * paths with {@link ListenerProperty#FILE_LOCK_NAME} and {@link ListenerProperty#FILE_SYNC_NAME} properties.
+ * <p>
+ * Files are read with a single buffered read and written with a single write, without forcing each write to the device, since the
+ * files are used only to coordinate processes on the same machine. Instance heartbeats overwrite the timestamp of the instance record
+ * in place. Waiting for a locked file is driven by file change notifications, with a periodic retry as a fallback for file systems
+ * which don't support them.
  *
  * @author <a href="mailto:vadzim_hushchanskou@epam.com">Vadzim Hushchanskou</a>
  */
@@ -54,6 +62,7 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 	public static final Charset LOCK_FILE_CHARSET = StandardCharsets.ISO_8859_1;
 	public static final String TIME_SEPARATOR = ":";
 	private static final String LINE_SEPARATOR = System.lineSeparator();
+	private static final long RETRY_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
 
 	private final File lockFile;
 	private final File syncFile;
@@ -65,6 +74,97 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 		T execute(@Nonnull final Pair<RandomAccessFile, FileLock> lock) throws IOException;
 	}
 
+	/**
+	 * A record of a sync or lock file: a timestamp and an instance UUID, separated with {@link #TIME_SEPARATOR}.
+	 */
+	private static final class Record {
+		final long offset;
+		final String time;
+		final String uuid;
+
+		private Record(long recordOffset, @Nonnull String recordTime, @Nonnull String recordUuid) {
+			offset = recordOffset;
+			time = recordTime;
+			uuid = recordUuid;
+		}
+
+		@Override
+		public String toString() {
+			return time + TIME_SEPARATOR + uuid;
+		}
+	}
+
+	/**
+	 * Notifications about changes of a file, based on {@link WatchService} of the file directory. If the file system doesn't support
+	 * them, {@link #await(long)} just sleeps for given time.
+	 */
+	private static final class FileChangeWatch implements Closeable {
+		private final Path fileName;
+		private final WatchService watchService;
+
+		private FileChangeWatch(@Nonnull File file) {
+			Path path = file.getAbsoluteFile().toPath();
+			fileName = path.getFileName();
+			WatchService service = null;
+			try {
+				service = path.getFileSystem().newWatchService();
+				path.getParent().register(service, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+			} catch (IOException | UnsupportedOperationException e) {
+				LOGGER.debug("Unable to watch '{}' file changes, falling back to polling: {}", file.getPath(), e.getLocalizedMessage());
+				if (service != null) {
+					closeService(service);
+					service = null;
+				}
+			}
+			watchService = service;
+		}
+
+		private static void closeService(@Nonnull WatchService service) {
+			try {
+				service.close();
+			} catch (IOException e) {
+				LOGGER.warn("Unable to close file watch service: {}", e.getLocalizedMessage(), e);
+			}
+		}
+
+		/**
+		 * Wait till the file is changed, but not longer than given time.
+		 *
+		 * @param timeoutNanos maximum time to wait in nanoseconds
+		 * @throws InterruptedException if the thread was interrupted
+		 */
+		void await(long timeoutNanos) throws InterruptedException {
+			if (watchService == null) {
+				TimeUnit.NANOSECONDS.sleep(timeoutNanos);
+				return;
+			}
+			long deadline = System.nanoTime() + timeoutNanos;
+			long remaining = timeoutNanos;
+			while (remaining > 0) {
+				WatchKey key = watchService.poll(remaining, TimeUnit.NANOSECONDS);
+				if (key == null) {
+					return;
+				}
+				boolean changed = false;
+				for (WatchEvent<?> event : key.pollEvents()) {
+					changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+				}
+				key.reset();
+				if (changed) {
+					return;
+				}
+				remaining = deadline - System.nanoTime();
+			}
+		}
+
+		@Override
+		public void close() {
+			if (watchService != null) {
+				closeService(watchService);
+			}
+		}
+	}
+
 	private static class UuidAppend implements IoOperation<String> {
 		final String uuid;
 
@@ -107,7 +207,7 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 		final String filePath = file.getPath();
 		RandomAccessFile lockAccess;
 		try {
-			lockAccess = new RandomAccessFile(file, "rwd");
+			lockAccess = new RandomAccessFile(file, "rw");
 		} catch (FileNotFoundException e) {
 			LOGGER.debug("Unable to open '{}' file: {}", filePath, e.getLocalizedMessage(), e);
 			return null;
@@ -149,19 +249,55 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 		}
 	}
 
+	@Nonnull
+	private static List<Record> readRecords(@Nonnull final RandomAccessFile access) throws IOException {
+		long length = access.length();
+		if (length > Integer.MAX_VALUE) {
+			throw new IOException("File is too big: " + length);
+		}
+		byte[] content = new byte[(int) length];
+		access.seek(0);
+		access.readFully(content);
+		// The charset is single-byte, so char positions are equal to byte offsets
+		String text = new String(content, LOCK_FILE_CHARSET);
+		List<Record> records = new ArrayList<>();
+		int start = 0;
+		while (start < text.length()) {
+			int end = start;
+			while (end < text.length() && text.charAt(end) != '\n' && text.charAt(end) != '\r') {
+				end++;
+			}
+			String line = text.substring(start, end).trim();
+			if (!line.isEmpty()) {
+				int separator = line.indexOf(TIME_SEPARATOR);
+				records.add(new Record(start, line.substring(0, Math.max(separator, 0)), line.substring(separator + 1)));
+			}
+			start = end + 1;
+		}
+		return records;
+	}
+
 	@Nullable
 	private static String readLaunchUuid(@Nonnull final RandomAccessFile access) throws IOException {
-		String launchRecord = access.readLine();
-		if (launchRecord == null) {
-			return null;
-		}
-		return launchRecord.substring(launchRecord.indexOf(TIME_SEPARATOR) + 1);
+		List<Record> records = readRecords(access);
+		return records.isEmpty() ? null : records.get(0).uuid;
 	}
 
 	private static void writeString(@Nonnull final RandomAccessFile access, @Nonnull final String text) throws IOException {
 		access.write(text.getBytes(LOCK_FILE_CHARSET));
 	}
 
+	private static void writeRecords(@Nonnull final RandomAccessFile access, @Nonnull final List<Record> records) throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (Record record : records) {
+			content.append(record).append(LINE_SEPARATOR);
+		}
+		byte[] bytes = content.toString().getBytes(LOCK_FILE_CHARSET);
+		access.seek(0);
+		access.write(bytes);
+		access.setLength(bytes.length);
+	}
+
 	private static void writeLine(@Nonnull final RandomAccessFile access, @Nonnull final String text) throws IOException {
 		writeString(access, text + LINE_SEPARATOR);
 	}
@@ -171,6 +307,15 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 		closeAccess(io.getLeft());
 	}
 
+	/**
+	 * Releases the lock and touches the file, so processes waiting for the file are notified even if its content was not changed.
+	 */
+	private static void closeIo(@Nonnull Pair<RandomAccessFile, FileLock> io, @Nonnull File file) {
+		closeIo(io);
+		//noinspection ResultOfMethodCallIgnored
+		file.setLastModified(System.currentTimeMillis());
+	}
+
 	@Nullable
 	private <T> T executeOperation(@Nonnull final IoOperation<T> operation, @Nonnull final Pair<RandomAccessFile, FileLock> fileIo) {
 		try {
@@ -184,22 +329,60 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 
 	@Nullable
 	private <T> T executeBlockingOperation(@Nonnull final IoOperation<T> operation, @Nonnull final File file) {
-		return new Waiter("Wait for a blocking operation on file '" + file.getPath() + "'").duration(fileWaitTimeout, TimeUnit.MILLISECONDS)
-				.applyRandomDiscrepancy(MAX_WAIT_TIME_DISCREPANCY)
-				.till(() -> {
-					Pair<RandomAccessFile, FileLock> fileIo = obtainLock(file);
-					if (fileIo != null) {
-						T result = executeOperation(operation, fileIo);
-						closeIo(fileIo);
-						return result;
-					}
-					return null;
-				});
+		Object event = FlightRecorderEvents.startLockFileWait();
+		T result = null;
+		try {
+			result = waitForOperation(operation, file);
+			return result;
+		} finally {
+			FlightRecorderEvents.finishLockFileWait(event, file.getPath(), result != null);
+		}
+	}
+
+	@Nullable
+	private <T> T tryOperation(@Nonnull final IoOperation<T> operation, @Nonnull final File file) {
+		Pair<RandomAccessFile, FileLock> fileIo = obtainLock(file);
+		if (fileIo != null) {
+			T result = executeOperation(operation, fileIo);
+			closeIo(fileIo, file);
+			return result;
+		}
+		return null;
+	}
+
+	private static long getRetryInterval() {
+		long discrepancy = (long) (RETRY_INTERVAL * MAX_WAIT_TIME_DISCREPANCY);
+		return RETRY_INTERVAL + ThreadLocalRandom.current().nextLong(-discrepancy, discrepancy + 1);
+	}
+
+	@Nullable
+	private <T> T waitForOperation(@Nonnull final IoOperation<T> operation, @Nonnull final File file) {
+		T result = tryOperation(operation, file);
+		if (result != null) {
+			return result;
+		}
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fileWaitTimeout);
+		try (FileChangeWatch watch = new FileChangeWatch(file)) {
+			long remaining;
+			while ((remaining = deadline - System.nanoTime()) > 0) {
+				watch.await(Math.min(remaining, getRetryInterval()));
+				result = tryOperation(operation, file);
+				if (result != null) {
+					return result;
+				}
+			}
+		} catch (InterruptedException e) {
+			LOGGER.warn("Wait for a blocking operation on file '{}' was interrupted", file.getPath());
+			Thread.currentThread().interrupt();
+		}
+		return null;
 	}
 
 	private void rewriteWith(@Nonnull final RandomAccessFile access, @Nonnull final String content) throws IOException {
-		access.setLength(content.length());
-		writeLine(access, content);
+		byte[] bytes = (content + LINE_SEPARATOR).getBytes(LOCK_FILE_CHARSET);
+		access.seek(0);
+		access.write(bytes);
+		access.setLength(bytes.length);
 	}
 
 	void reset() {
@@ -269,16 +452,16 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 					lockUuid = instanceUuid;
 					mainLock = lock;
 					writeLaunchUuid(syncLock);
-					closeIo(syncLock);
+					closeIo(syncLock, syncFile);
 					return instanceUuid;
 				} else {
 					executeOperation(new LaunchRead(instanceUuid), syncLock);
-					closeIo(syncLock);
+					closeIo(syncLock, syncFile);
 				}
 			} else {
 				// another thread obtained main lock while we wait for .sync file
 				executeOperation(new UuidAppend(instanceUuid), syncLock);
-				closeIo(syncLock);
+				closeIo(syncLock, syncFile);
 				return lockUuid;
 			}
 			// main lock file already locked, just close sync lock and proceed with secondary launch logic
@@ -294,30 +477,32 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 	@Override
 	public void updateInstanceUuid(@Nonnull String instanceUuid) {
 		IoOperation<Boolean> uuidUpdate = fileIo -> {
-			String line;
-			List<String> recordList = new ArrayList<>();
 			RandomAccessFile fileAccess = fileIo.getKey();
+			List<Record> records = readRecords(fileAccess);
+			String time = String.valueOf(System.currentTimeMillis());
 			boolean needUpdate = false;
-			while ((line = fileAccess.readLine()) != null) {
-				String record = line.trim();
-				String uuid = record.substring(record.indexOf(TIME_SEPARATOR) + 1);
-				if (instanceUuid.equals(uuid)) {
-					String newRecord = getRecord(instanceUuid);
-					if (!newRecord.equals(record)) {
-						needUpdate = true;
-						recordList.add(newRecord);
-					} else {
-						recordList.add(record);
-					}
-				} else {
-					recordList.add(record);
+			boolean inPlace = true;
+			for (ListIterator<Record> it = records.listIterator(); it.hasNext(); ) {
+				Record record = it.next();
+				if (instanceUuid.equals(record.uuid) && !time.equals(record.time)) {
+					needUpdate = true;
+					inPlace &= record.time.length() == time.length();
+					it.set(new Record(record.offset, time, record.uuid));
 				}
 			}
 
 			if (needUpdate) {
-				fileAccess.seek(0);
-				for (String record : recordList) {
-					writeLine(fileAccess, record);
+				if (inPlace) {
+					// Timestamps have the same length, so only they are overwritten
+					byte[] timeBytes = time.getBytes(LOCK_FILE_CHARSET);
+					for (Record record : records) {
+						if (instanceUuid.equals(record.uuid)) {
+							fileAccess.seek(record.offset);
+							fileAccess.write(timeBytes);
+						}
+					}
+				} else {
+					writeRecords(fileAccess, records);
 				}
 			}
 			return needUpdate;
@@ -334,37 +519,18 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 	@Override
 	public void finishInstanceUuid(@Nonnull final String instanceUuid) {
 		IoOperation<Boolean> uuidRemove = fileIo -> {
-			String line;
-			List<String> recordList = new ArrayList<>();
 			RandomAccessFile fileAccess = fileIo.getKey();
-			boolean needUpdate = false;
-			while ((line = fileAccess.readLine()) != null) {
-				String record = line.trim();
-				String launchUuid = record.substring(record.indexOf(TIME_SEPARATOR) + 1);
-				if (instanceUuid.equals(launchUuid)) {
-					needUpdate = true;
-					continue;
-				}
-				recordList.add(record);
-			}
-
-			if (!needUpdate) {
+			List<Record> records = readRecords(fileAccess);
+			if (!records.removeIf(record -> instanceUuid.equals(record.uuid))) {
 				return false;
 			}
 
-			String recordNl = System.currentTimeMillis() + TIME_SEPARATOR + instanceUuid + LINE_SEPARATOR;
-			long newLength = fileAccess.length() - recordNl.length();
-			if (newLength > 0) {
-				fileAccess.setLength(newLength);
-				fileAccess.seek(0);
-				for (String record : recordList) {
-					writeLine(fileAccess, record);
-				}
-				return false;
-			} else {
-				fileIo.getKey().setLength(0);
+			if (records.isEmpty()) {
+				fileAccess.setLength(0);
 				return true;
 			}
+			writeRecords(fileAccess, records);
+			return false;
 		};
 
 		Boolean isLast = executeBlockingOperation(uuidRemove, syncFile);
@@ -385,22 +551,12 @@ public class LaunchIdLockFile extends AbstractLaunchIdLock {
 	@Nonnull
 	@Override
 	public Collection<String> getLiveInstanceUuids() {
-		IoOperation<List<String>> uuidListRead = fileIo -> {
-			String line;
-			List<String> recordList = new ArrayList<>();
-			RandomAccessFile fileAccess = fileIo.getKey();
-			while ((line = fileAccess.readLine()) != null) {
-				String record = line.trim();
-				recordList.add(record);
-			}
-			return recordList;
-		};
+		IoOperation<List<Record>> uuidListRead = fileIo -> readRecords(fileIo.getKey());
 		long timeoutTime = System.currentTimeMillis() - fileWaitTimeout;
 		return ofNullable(executeBlockingOperation(uuidListRead, syncFile)).orElse(Collections.emptyList())
 				.stream()
-				.map(r -> Pair.of(Long.parseLong(r.substring(0, r.indexOf(TIME_SEPARATOR))), r.substring(r.indexOf(TIME_SEPARATOR) + 1)))
-				.filter(r -> r.getKey() > timeoutTime)
-				.map(Pair::getValue)
+				.filter(r -> Long.parseLong(r.time) > timeoutTime)
+				.map(r -> r.uuid)
 				.collect(Collectors.toSet());
 	}
 }
@@ -28,7 +28,8 @@ import java.lang.reflect.InvocationTargetException;
  */
 public enum LaunchIdLockMode {
 	FILE(LaunchIdLockFile.class),
-	SOCKET(LaunchIdLockSocket.class);
+	SOCKET(LaunchIdLockSocket.class),
+	SHARED_MEMORY(LaunchIdLockSharedMemory.class);
 
 	private final Class<? extends AbstractLaunchIdLock> clazz;
 
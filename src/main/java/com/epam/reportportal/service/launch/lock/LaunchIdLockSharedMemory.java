@@ -0,0 +1,460 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.service.launch.lock;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.utils.Waiter;
+import com.epam.reportportal.utils.properties.ListenerProperty;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A service to get single launch UUID for multiple clients on a machine through a memory-mapped file. The file holds a table of fixed
+ * size: a launch record and instance slots with heartbeat timestamps, all of them are read and written with atomic memory operations, so
+ * heartbeats and live instance lookups don't perform any file I/O. A lock on '.lock' file is used only to elect the primary launch. You
+ * can control file paths with {@link ListenerProperty#FILE_LOCK_NAME} and {@link ListenerProperty#FILE_SHARED_MEMORY_NAME} properties.
+ * <p>
+ * A new file filled with zeros is a valid empty table, so the file does not need any initialization. The launch record contains an ID
+ * and a start time of the primary process, so a record of a crashed primary is never used, even if its process ID was reused. The
+ * shared memory file is not removed after the launch, since other processes may still have it mapped.
+ */
+public class LaunchIdLockSharedMemory extends AbstractLaunchIdLock {
+	private static final Logger LOGGER = LoggerFactory.getLogger(LaunchIdLockSharedMemory.class);
+
+	public static final Charset UUID_CHARSET = StandardCharsets.ISO_8859_1;
+	public static final int MAX_UUID_LENGTH = 128;
+	public static final int SLOT_COUNT = 1024;
+
+	private static final VarHandle LONG_VIEW = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+	private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+	private static final long MAGIC = 0x52504C4F434B3031L; // "RPLOCK01"
+	private static final long CURRENT_PID = ProcessHandle.current().pid();
+	private static final long CURRENT_START_TIME = startTime(ProcessHandle.current());
+
+	// Header layout: magic, slot count, slot size, launch record
+	private static final int MAGIC_OFFSET = 0;
+	private static final int SLOT_COUNT_OFFSET = 8;
+	private static final int SLOT_SIZE_OFFSET = 12;
+	private static final int LAUNCH_VERSION_OFFSET = 16;
+	private static final int LAUNCH_PID_OFFSET = 24;
+	static final int LAUNCH_START_TIME_OFFSET = 32;
+	private static final int LAUNCH_LENGTH_OFFSET = 40;
+	private static final int LAUNCH_UUID_OFFSET = 48;
+	private static final int HEADER_SIZE = 192;
+
+	// Slot layout: version, heartbeat, owner token, UUID
+	private static final int SLOT_VERSION_OFFSET = 0;
+	static final int SLOT_HEARTBEAT_OFFSET = 8;
+	static final int SLOT_OWNER_OFFSET = 16;
+	private static final int SLOT_LENGTH_OFFSET = 24;
+	private static final int SLOT_UUID_OFFSET = 32;
+	private static final int SLOT_SIZE = 160;
+
+	private static final int FILE_SIZE = HEADER_SIZE + SLOT_COUNT * SLOT_SIZE;
+	private static final int READ_ATTEMPTS = 3;
+
+	private static final Object ELECTION_LOCK = new Object();
+	private static volatile String lockUuid;
+	private static volatile FileLock mainLock;
+
+	private final File lockFile;
+	private final File sharedMemoryFile;
+	private final long instanceWaitTimeout;
+	private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+	private volatile MappedByteBuffer table;
+
+	/**
+	 * An instance slot occupied by this process.
+	 */
+	private static final class Slot {
+		final int offset;
+		final long owner;
+
+		private Slot(int slotOffset, long slotOwner) {
+			offset = slotOffset;
+			owner = slotOwner;
+		}
+	}
+
+	public LaunchIdLockSharedMemory(@Nonnull final ListenerParameters listenerParameters) {
+		super(listenerParameters);
+		lockFile = new File(parameters.getLockFileName());
+		sharedMemoryFile = new File(parameters.getSharedMemoryFileName());
+		instanceWaitTimeout = parameters.getLockWaitTimeout();
+	}
+
+	/**
+	 * Returns the process start time in milliseconds, or 0 if the platform doesn't provide it.
+	 */
+	private static long startTime(@Nonnull ProcessHandle process) {
+		return process.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+	}
+
+	static int slotOffset(int index) {
+		return HEADER_SIZE + index * SLOT_SIZE;
+	}
+
+	@Nullable
+	private MappedByteBuffer getTable() {
+		MappedByteBuffer result = table;
+		if (result != null) {
+			return result;
+		}
+		synchronized (this) {
+			if (table != null) {
+				return table;
+			}
+			try (RandomAccessFile file = new RandomAccessFile(sharedMemoryFile, "rw"); FileChannel channel = file.getChannel()) {
+				// Mapping extends the file with zeros if it's shorter, the mapping stays valid after the channel is closed
+				result = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+			} catch (IOException e) {
+				LOGGER.warn("Unable to map '{}' file: {}", sharedMemoryFile.getPath(), e.getLocalizedMessage(), e);
+				return null;
+			}
+			if (!LONG_VIEW.compareAndSet(result, MAGIC_OFFSET, 0L, MAGIC) && (long) LONG_VIEW.getVolatile(result, MAGIC_OFFSET) != MAGIC) {
+				LOGGER.warn("File '{}' has unknown format", sharedMemoryFile.getPath());
+				return null;
+			}
+			INT_VIEW.compareAndSet(result, SLOT_COUNT_OFFSET, 0, SLOT_COUNT);
+			INT_VIEW.compareAndSet(result, SLOT_SIZE_OFFSET, 0, SLOT_SIZE);
+			if ((int) INT_VIEW.getVolatile(result, SLOT_COUNT_OFFSET) != SLOT_COUNT
+					|| (int) INT_VIEW.getVolatile(result, SLOT_SIZE_OFFSET) != SLOT_SIZE) {
+				LOGGER.warn("File '{}' has incompatible layout", sharedMemoryFile.getPath());
+				return null;
+			}
+			table = result;
+			return result;
+		}
+	}
+
+	private static void writeBytes(@Nonnull ByteBuffer buffer, int offset, @Nonnull byte[] bytes) {
+		ByteBuffer view = buffer.duplicate();
+		view.position(offset);
+		view.put(bytes);
+	}
+
+	@Nonnull
+	private static byte[] readBytes(@Nonnull ByteBuffer buffer, int offset, int length) {
+		byte[] bytes = new byte[length];
+		ByteBuffer view = buffer.duplicate();
+		view.position(offset);
+		view.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Reads a UUID guarded with a version counter: odd versions mean a write in progress, a changed version means the UUID was
+	 * overwritten while reading.
+	 */
+	@Nullable
+	private static String readUuid(@Nonnull ByteBuffer buffer, int versionOffset, int lengthOffset, int uuidOffset) {
+		for (int i = 0; i < READ_ATTEMPTS; i++) {
+			long version = (long) LONG_VIEW.getVolatile(buffer, versionOffset);
+			if ((version & 1) != 0) {
+				Thread.onSpinWait();
+				continue;
+			}
+			int length = (int) INT_VIEW.getVolatile(buffer, lengthOffset);
+			if (length <= 0 || length > MAX_UUID_LENGTH) {
+				return null;
+			}
+			byte[] uuid = readBytes(buffer, uuidOffset, length);
+			VarHandle.acquireFence();
+			if ((long) LONG_VIEW.getVolatile(buffer, versionOffset) == version) {
+				return new String(uuid, UUID_CHARSET);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Writes a UUID guarded with a version counter, the caller should be the only writer of the record.
+	 */
+	private static void writeUuid(@Nonnull ByteBuffer buffer, int versionOffset, int lengthOffset, int uuidOffset, @Nullable byte[] uuid) {
+		LONG_VIEW.getAndAdd(buffer, versionOffset, 1L);
+		if (uuid != null) {
+			writeBytes(buffer, uuidOffset, uuid);
+		}
+		INT_VIEW.setVolatile(buffer, lengthOffset, uuid == null ? 0 : uuid.length);
+		LONG_VIEW.getAndAdd(buffer, versionOffset, 1L);
+	}
+
+	@Nullable
+	private static byte[] toBytes(@Nonnull String uuid) {
+		byte[] bytes = uuid.getBytes(UUID_CHARSET);
+		if (bytes.length > MAX_UUID_LENGTH) {
+			LOGGER.warn("UUID '{}' is longer than {} bytes and can't be shared", uuid, MAX_UUID_LENGTH);
+			return null;
+		}
+		return bytes;
+	}
+
+	/**
+	 * Publishes or clears the launch record. The process ID is set after the UUID and the start time and cleared before them, so a UUID
+	 * is never paired with a process of another primary.
+	 */
+	private static void writeLaunchUuid(@Nonnull ByteBuffer buffer, @Nullable byte[] launchUuid) {
+		if (launchUuid == null) {
+			LONG_VIEW.setVolatile(buffer, LAUNCH_PID_OFFSET, 0L);
+			writeUuid(buffer, LAUNCH_VERSION_OFFSET, LAUNCH_LENGTH_OFFSET, LAUNCH_UUID_OFFSET, null);
+		} else {
+			writeUuid(buffer, LAUNCH_VERSION_OFFSET, LAUNCH_LENGTH_OFFSET, LAUNCH_UUID_OFFSET, launchUuid);
+			LONG_VIEW.setVolatile(buffer, LAUNCH_START_TIME_OFFSET, CURRENT_START_TIME);
+			LONG_VIEW.setVolatile(buffer, LAUNCH_PID_OFFSET, CURRENT_PID);
+		}
+	}
+
+	@Nullable
+	private static String readLaunchUuid(@Nonnull ByteBuffer buffer) {
+		long pid = (long) LONG_VIEW.getVolatile(buffer, LAUNCH_PID_OFFSET);
+		if (pid == 0) {
+			return null;
+		}
+		// Process IDs get reused, so the record belongs to a live primary only if its start time matches too
+		long startTime = (long) LONG_VIEW.getVolatile(buffer, LAUNCH_START_TIME_OFFSET);
+		boolean alive = pid == CURRENT_PID
+				? startTime == CURRENT_START_TIME
+				: ProcessHandle.of(pid).filter(ProcessHandle::isAlive).map(p -> startTime(p) == startTime).orElse(false);
+		if (!alive) {
+			return null;
+		}
+		return readUuid(buffer, LAUNCH_VERSION_OFFSET, LAUNCH_LENGTH_OFFSET, LAUNCH_UUID_OFFSET);
+	}
+
+	private boolean isExpired(long heartbeat, long now) {
+		return heartbeat <= now - instanceWaitTimeout;
+	}
+
+	/**
+	 * Occupies a free or expired slot for the instance UUID, or updates its heartbeat if the slot is already occupied.
+	 */
+	private boolean registerInstance(@Nonnull ByteBuffer buffer, @Nonnull String instanceUuid) {
+		Slot slot = slots.get(instanceUuid);
+		long now = System.currentTimeMillis();
+		if (slot != null) {
+			if ((long) LONG_VIEW.getVolatile(buffer, slot.offset + SLOT_OWNER_OFFSET) == slot.owner) {
+				LONG_VIEW.setVolatile(buffer, slot.offset + SLOT_HEARTBEAT_OFFSET, now);
+				return true;
+			}
+			// The slot was taken over by another process after expiration
+			slots.remove(instanceUuid, slot);
+		}
+		byte[] uuid = toBytes(instanceUuid);
+		if (uuid == null) {
+			return false;
+		}
+		long owner = ThreadLocalRandom.current().nextLong() | 1L;
+		for (int i = 0; i < SLOT_COUNT; i++) {
+			int offset = slotOffset(i);
+			long currentOwner = (long) LONG_VIEW.getVolatile(buffer, offset + SLOT_OWNER_OFFSET);
+			// A slot of a process killed while claiming or releasing it has an owner and an old heartbeat, so it expires as well
+			if (currentOwner != 0 && !isExpired((long) LONG_VIEW.getVolatile(buffer, offset + SLOT_HEARTBEAT_OFFSET), now)) {
+				continue;
+			}
+			if (LONG_VIEW.compareAndSet(buffer, offset + SLOT_OWNER_OFFSET, currentOwner, owner)) {
+				// Clear the UUID of an expired instance before the heartbeat makes the slot live again
+				writeUuid(buffer, offset + SLOT_VERSION_OFFSET, offset + SLOT_LENGTH_OFFSET, offset + SLOT_UUID_OFFSET, null);
+				LONG_VIEW.setVolatile(buffer, offset + SLOT_HEARTBEAT_OFFSET, now);
+				writeUuid(buffer, offset + SLOT_VERSION_OFFSET, offset + SLOT_LENGTH_OFFSET, offset + SLOT_UUID_OFFSET, uuid);
+				slots.put(instanceUuid, new Slot(offset, owner));
+				return true;
+			}
+		}
+		LOGGER.warn("No free slots left in '{}' file for instance UUID '{}'", sharedMemoryFile.getPath(), instanceUuid);
+		return false;
+	}
+
+	private static void releaseSlot(@Nonnull ByteBuffer buffer, @Nonnull Slot slot) {
+		int offset = slot.offset;
+		if ((long) LONG_VIEW.getVolatile(buffer, offset + SLOT_OWNER_OFFSET) != slot.owner) {
+			return;
+		}
+		writeUuid(buffer, offset + SLOT_VERSION_OFFSET, offset + SLOT_LENGTH_OFFSET, offset + SLOT_UUID_OFFSET, null);
+		LONG_VIEW.compareAndSet(buffer, offset + SLOT_OWNER_OFFSET, slot.owner, 0L);
+	}
+
+	@Nullable
+	private static FileLock obtainLock(@Nonnull final File file) {
+		RandomAccessFile access = null;
+		try {
+			access = new RandomAccessFile(file, "rw");
+			FileLock lock = access.getChannel().tryLock();
+			if (lock != null) {
+				return lock;
+			}
+		} catch (OverlappingFileLockException e) {
+			LOGGER.debug("Lock already acquired on '{}' file: {}", file.getPath(), e.getLocalizedMessage(), e);
+		} catch (IOException e) {
+			LOGGER.warn("Unexpected I/O exception while obtaining lock on '{}' file: {}", file.getPath(), e.getLocalizedMessage(), e);
+		}
+		if (access != null) {
+			try {
+				access.close();
+			} catch (IOException e) {
+				LOGGER.warn("Unexpected I/O exception while closing file: {}", e.getLocalizedMessage(), e);
+			}
+		}
+		return null;
+	}
+
+	private static void releaseLock(@Nonnull final FileLock lock) {
+		try {
+			lock.release();
+			lock.channel().close();
+		} catch (IOException e) {
+			LOGGER.warn("Unexpected I/O exception while releasing file lock: {}", e.getLocalizedMessage(), e);
+		}
+	}
+
+	void reset() {
+		if (mainLock != null) {
+			releaseLock(mainLock);
+			mainLock = null;
+		}
+		lockUuid = null;
+	}
+
+	/**
+	 * Returns a Launch UUID for many Clients launched on one machine.
+	 *
+	 * @param instanceUuid a Client instance UUID, which will be written to the shared memory file and, if it is the first process which
+	 *                     managed to obtain lock on '.lock' file, returned to every client instance.
+	 * @return either a Client instance UUID, either the first UUID which process managed to place a lock on a '.lock' file.
+	 */
+	@Override
+	@Nullable
+	public String obtainLaunchUuid(@Nonnull final String instanceUuid) {
+		Objects.requireNonNull(instanceUuid);
+		MappedByteBuffer buffer = getTable();
+		if (buffer == null || !registerInstance(buffer, instanceUuid)) {
+			return null;
+		}
+		if (mainLock == null) {
+			synchronized (ELECTION_LOCK) {
+				if (mainLock == null) {
+					byte[] launchUuid = toBytes(instanceUuid);
+					FileLock lock = obtainLock(lockFile);
+					if (lock != null) {
+						// we are the main process
+						writeLaunchUuid(buffer, launchUuid);
+						lockUuid = instanceUuid;
+						mainLock = lock;
+						return instanceUuid;
+					}
+				}
+			}
+		}
+		String launchUuid = lockUuid;
+		if (launchUuid != null) {
+			return launchUuid;
+		}
+		// Another process is the primary one, wait until it publishes the launch UUID
+		return new Waiter("Wait for a launch UUID in '" + sharedMemoryFile.getPath() + "'").duration(
+						instanceWaitTimeout,
+						TimeUnit.MILLISECONDS
+				)
+				.pollingEvery(10, TimeUnit.MILLISECONDS)
+				.applyRandomDiscrepancy(MAX_WAIT_TIME_DISCREPANCY)
+				.till(() -> readLaunchUuid(buffer));
+	}
+
+	/**
+	 * Update heartbeat timestamp of the instance slot in the shared memory file.
+	 *
+	 * @param instanceUuid a Client instance UUID
+	 */
+	@Override
+	public void updateInstanceUuid(@Nonnull final String instanceUuid) {
+		MappedByteBuffer buffer = getTable();
+		if (buffer != null) {
+			registerInstance(buffer, instanceUuid);
+		}
+	}
+
+	/**
+	 * Free the instance slot in the shared memory file, means that a client finished its Launch. If this is the primary instance, the
+	 * launch record is cleared and '.lock' file is removed.
+	 *
+	 * @param instanceUuid a Client instance UUID.
+	 */
+	@Override
+	public void finishInstanceUuid(@Nonnull final String instanceUuid) {
+		MappedByteBuffer buffer = getTable();
+		if (buffer == null) {
+			return;
+		}
+		Slot slot = slots.remove(instanceUuid);
+		if (slot != null) {
+			releaseSlot(buffer, slot);
+		}
+		synchronized (ELECTION_LOCK) {
+			if (mainLock != null && instanceUuid.equals(lockUuid)) {
+				writeLaunchUuid(buffer, null);
+				reset();
+				if (!lockFile.delete()) {
+					LOGGER.warn("Unable to delete locking file: {}", lockFile.getPath());
+				}
+			}
+		}
+	}
+
+	@Nonnull
+	@Override
+	public Collection<String> getLiveInstanceUuids() {
+		MappedByteBuffer buffer = getTable();
+		if (buffer == null) {
+			return Collections.emptyList();
+		}
+		long now = System.currentTimeMillis();
+		Set<String> result = new HashSet<>();
+		for (int i = 0; i < SLOT_COUNT; i++) {
+			int offset = slotOffset(i);
+			long heartbeat = (long) LONG_VIEW.getVolatile(buffer, offset + SLOT_HEARTBEAT_OFFSET);
+			if (heartbeat == 0 || isExpired(heartbeat, now)) {
+				continue;
+			}
+			String uuid = readUuid(buffer, offset + SLOT_VERSION_OFFSET, offset + SLOT_LENGTH_OFFSET, offset + SLOT_UUID_OFFSET);
+			if (uuid != null) {
+				result.add(uuid);
+			}
+		}
+		return result;
+	}
+}
@@ -20,15 +20,16 @@ import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.utils.Waiter;
 import com.epam.reportportal.utils.properties.ListenerProperty;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.DataInputStream;
-import java.io.IOException;
-import java.io.OutputStream;
+import java.io.*;
 import java.net.InetAddress;
-import java.net.ServerSocket;
+import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -41,6 +42,11 @@ import java.util.stream.Collectors;
  * A service to perform blocking I/O operations on network sockets to get single launch UUID for multiple clients on a machine.
  * This class uses local networking, therefore applicable in scope of a single hardware machine. You can control port number
  * with {@link ListenerProperty#CLIENT_JOIN_LOCK_PORT} property.
+ * <p>
+ * The primary instance serves all connections with a single non-blocking selector thread. Secondary instances keep their connection
+ * open and send all their commands through it, one line per command and one line per answer. The primary instance also serves
+ * secondary instances of older versions, which open a connection per command and send it without a line delimiter. The opposite is
+ * not supported: older primary instances don't answer commands sent through persistent connections.
  *
  * @author <a href="mailto:vadzim_hushchanskou@epam.com">Vadzim Hushchanskou</a>
  */
@@ -51,90 +57,281 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock {
 	private static final int SOCKET_BACKLOG = 50;
 	private static final String COMMAND_DELIMITER = " - ";
 	private static final String OK_SUFFIX = COMMAND_DELIMITER + "OK";
+	private static final char LINE_DELIMITER = '\n';
+	private static final int MAX_LINE_LENGTH = 8192;
+	private static final int LEGACY_COMMAND_LENGTH = Command.UPDATE.name().length() + COMMAND_DELIMITER.length();
 	private static final Map<String, Date> INSTANCES = new ConcurrentHashMap<>();
 
 	private static final ReentrantLock classLevelLock = new ReentrantLock();
 
-	private static volatile ServerSocket mainLock;
+	private static volatile ServerSocketChannel mainLock;
 	private static volatile String lockUuid;
 	private volatile ServerHandler handler;
 
 	private final int portNumber;
 	private final long instanceWaitTimeout;
+	private final ReentrantLock connectionLock = new ReentrantLock();
+	private Connection connection;
 
 	/**
-	 * Internal supported communication commands. Should be exactly 6 characters long.
+	 * Internal supported communication commands. Names should be exactly 6 characters long: secondary instances of older versions send
+	 * commands without a line delimiter, so the server reads such commands by length.
 	 */
 	enum Command {
 		UPDATE,
 		FINISH
 	}
 
-	private static class ServerHandler extends Thread {
+	private static void applyCommand(@Nonnull final Command command, @Nonnull final String instanceUuid) {
+		switch (command) {
+			case UPDATE:
+				INSTANCES.put(instanceUuid, new Date());
+				break;
+			case FINISH:
+				INSTANCES.remove(instanceUuid);
+				break;
+		}
+	}
+
+	private static void closeQuietly(@Nullable final Closeable closeable) {
+		if (closeable == null) {
+			return;
+		}
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			LOGGER.warn("Unable to close socket properly", e);
+		}
+	}
 
-		private final Random random = new Random();
-		private final Queue<Socket> workSockets = new LinkedList<>();
+	/**
+	 * Server side state of a client connection: a buffer of received and not yet processed data and a buffer of answers which were not
+	 * sent yet.
+	 */
+	private static class ClientChannel {
+		private ByteBuffer input = ByteBuffer.allocate(128);
+		private ByteBuffer output = ByteBuffer.allocate(0);
+	}
+
+	private static class ServerHandler extends Thread {
+		private final ServerSocketChannel server;
+		private final Selector selector;
 		private volatile boolean running = true;
 
-		public ServerHandler() {
+		public ServerHandler(@Nonnull ServerSocketChannel serverChannel) throws IOException {
+			server = serverChannel;
+			selector = Selector.open();
+			try {
+				server.configureBlocking(false);
+				server.register(selector, SelectionKey.OP_ACCEPT);
+			} catch (IOException e) {
+				closeQuietly(selector);
+				throw e;
+			}
 			setDaemon(true);
 			setName("rp-launch-join");
 		}
 
-		@Override
-		public void run() {
+		void shutdown() {
+			running = false;
+			selector.wakeup();
+		}
 
-			while (running) {
-				try {
-					Socket s = mainLock.accept();
-					workSockets.add(s);
-					OutputStream os = s.getOutputStream();
-					byte[] launchUuid = lockUuid.getBytes(TRANSFER_CHARSET);
-					os.write(launchUuid);
-					os.flush();
-					byte[] updateUuid = new byte[(Command.UPDATE.name() + COMMAND_DELIMITER + lockUuid).getBytes(TRANSFER_CHARSET).length];
-					DataInputStream is = new DataInputStream(s.getInputStream());
-					is.readFully(updateUuid);
-					String data = new String(updateUuid, TRANSFER_CHARSET);
-					final Command command = Command.valueOf(data.substring(0, data.indexOf(COMMAND_DELIMITER)));
-					final String instanceUuid = data.substring(data.indexOf(COMMAND_DELIMITER) + COMMAND_DELIMITER.length());
-					switch (command) {
-						case UPDATE:
-							INSTANCES.put(instanceUuid, new Date());
-							break;
-						case FINISH:
-							INSTANCES.remove(instanceUuid);
-							break;
+		private void accept() throws IOException {
+			SocketChannel client;
+			while ((client = server.accept()) != null) {
+				client.configureBlocking(false);
+				client.socket().setTcpNoDelay(true);
+				SelectionKey key = client.register(selector, SelectionKey.OP_READ, new ClientChannel());
+				// No line delimiter: older clients read the greeting by length, newer ones get it as a prefix of the first answer line
+				send(key, lockUuid);
+			}
+		}
+
+		private void send(@Nonnull SelectionKey key, @Nonnull String message) throws IOException {
+			ClientChannel clientChannel = (ClientChannel) key.attachment();
+			byte[] data = message.getBytes(TRANSFER_CHARSET);
+			ByteBuffer output = clientChannel.output;
+			if (output.hasRemaining()) {
+				ByteBuffer buffer = ByteBuffer.allocate(output.remaining() + data.length);
+				buffer.put(output).put(data).flip();
+				clientChannel.output = buffer;
+			} else {
+				clientChannel.output = ByteBuffer.wrap(data);
+			}
+			write(key);
+		}
+
+		private void write(@Nonnull SelectionKey key) throws IOException {
+			ClientChannel clientChannel = (ClientChannel) key.attachment();
+			((SocketChannel) key.channel()).write(clientChannel.output);
+			if (clientChannel.output.hasRemaining()) {
+				key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+			} else {
+				key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+			}
+		}
+
+		private void read(@Nonnull SelectionKey key) throws IOException {
+			ClientChannel clientChannel = (ClientChannel) key.attachment();
+			SocketChannel channel = (SocketChannel) key.channel();
+			int read;
+			while ((read = channel.read(clientChannel.input)) > 0) {
+				processLines(key);
+				if (!clientChannel.input.hasRemaining()) {
+					if (clientChannel.input.capacity() >= MAX_LINE_LENGTH) {
+						throw new IOException("Command is too long");
 					}
-					String answer = instanceUuid + OK_SUFFIX;
-					byte[] answerBuffer = answer.getBytes(TRANSFER_CHARSET);
-					os.write(answerBuffer);
-					os.flush();
-					if (random.nextInt(5) == 0) {
-						Collection<Socket> checked = new LinkedList<>();
-						Socket current;
-						while ((current = workSockets.poll()) != null) {
-							if (!current.isClosed()) {
-								checked.add(current);
+					ByteBuffer buffer = ByteBuffer.allocate(clientChannel.input.capacity() * 2);
+					clientChannel.input.flip();
+					clientChannel.input = buffer.put(clientChannel.input);
+				}
+			}
+			if (read < 0) {
+				close(key);
+			}
+		}
+
+		private void processLines(@Nonnull SelectionKey key) throws IOException {
+			ClientChannel clientChannel = (ClientChannel) key.attachment();
+			ByteBuffer input = clientChannel.input;
+			input.flip();
+			int start = input.position();
+			for (int i = start; i < input.limit(); i++) {
+				if (input.get(i) == LINE_DELIMITER) {
+					byte[] line = new byte[i - start];
+					input.get(line);
+					input.get(); // skip the delimiter
+					processCommand(key, new String(line, TRANSFER_CHARSET).trim());
+					start = i + 1;
+				}
+			}
+			// Secondary instances of older versions send a command of fixed length without a delimiter and wait for the answer
+			int legacyLength = LEGACY_COMMAND_LENGTH + lockUuid.length();
+			if (input.remaining() >= legacyLength) {
+				byte[] command = new byte[legacyLength];
+				input.get(command);
+				processCommand(key, new String(command, TRANSFER_CHARSET).trim());
+			}
+			input.compact();
+		}
+
+		private void processCommand(@Nonnull SelectionKey key, @Nonnull String data) throws IOException {
+			if (data.isEmpty()) {
+				// The rest of a line which was already processed as a fixed length command
+				return;
+			}
+			int delimiterIndex = data.indexOf(COMMAND_DELIMITER);
+			if (delimiterIndex < 0) {
+				throw new IOException("Invalid command: " + data);
+			}
+			final Command command;
+			try {
+				command = Command.valueOf(data.substring(0, delimiterIndex));
+			} catch (IllegalArgumentException e) {
+				throw new IOException("Unknown command: " + data, e);
+			}
+			final String instanceUuid = data.substring(delimiterIndex + COMMAND_DELIMITER.length());
+			applyCommand(command, instanceUuid);
+			// Older secondary instances read the answer by length and close the connection, so the delimiter doesn't bother them
+			send(key, instanceUuid + OK_SUFFIX + LINE_DELIMITER);
+		}
+
+		private static void close(@Nonnull SelectionKey key) {
+			key.cancel();
+			closeQuietly(key.channel());
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (running && server.isOpen()) {
+					selector.select();
+					Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+					while (keys.hasNext()) {
+						SelectionKey key = keys.next();
+						keys.remove();
+						try {
+							if (!key.isValid()) {
+								continue;
+							}
+							if (key.isAcceptable()) {
+								accept();
+								continue;
+							}
+							if (key.isReadable()) {
+								read(key);
+							}
+							if (key.isValid() && key.isWritable()) {
+								write(key);
+							}
+						} catch (IOException | CancelledKeyException e) {
+							LOGGER.warn("Error serving server connections: ", e);
+							if (key.channel() != server) {
+								close(key);
 							}
 						}
-						workSockets.addAll(checked);
 					}
-				} catch (IOException e) {
-					LOGGER.warn("Error serving server connections: ", e);
 				}
+			} catch (IOException | ClosedSelectorException e) {
+				LOGGER.warn("Error serving server connections: ", e);
+			} finally {
+				for (SelectionKey key : selector.keys()) {
+					if (key.channel() != server) {
+						closeQuietly(key.channel());
+					}
+				}
+				closeQuietly(selector);
 			}
+		}
+	}
 
-			Socket current;
-			while ((current = workSockets.poll()) != null) {
-				if (!current.isClosed()) {
-					try {
-						current.close();
-					} catch (IOException e) {
-						LOGGER.warn("Unable to close socket properly", e);
-					}
+	/**
+	 * Client side of a persistent connection to the primary instance.
+	 */
+	private static class Connection implements Closeable {
+		private final Socket socket;
+		private final BufferedReader reader;
+		private final OutputStream writer;
+		private String launchUuid;
+
+		private Connection(int port, long timeout) throws IOException {
+			socket = new Socket();
+			try {
+				socket.setTcpNoDelay(true);
+				socket.setSoTimeout(timeout > Integer.MAX_VALUE ? 0 : (int) timeout);
+				socket.connect(new InetSocketAddress(InetAddress.getLocalHost(), port));
+				reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), TRANSFER_CHARSET));
+				writer = new BufferedOutputStream(socket.getOutputStream());
+			} catch (IOException e) {
+				closeQuietly(socket);
+				throw e;
+			}
+		}
+
+		@Nonnull
+		String execute(@Nonnull final Command command, @Nonnull final String instanceUuid) throws IOException {
+			writer.write((command.name() + COMMAND_DELIMITER + instanceUuid + LINE_DELIMITER).getBytes(TRANSFER_CHARSET));
+			writer.flush();
+			String answer = reader.readLine();
+			if (answer == null) {
+				throw new EOFException("Connection closed by the server");
+			}
+			if (launchUuid == null) {
+				// The server greets with Launch UUID without a line delimiter, so it prefixes the first answer
+				String expectedAnswer = instanceUuid + OK_SUFFIX;
+				if (answer.length() <= expectedAnswer.length() || !answer.endsWith(expectedAnswer)) {
+					return answer;
 				}
+				launchUuid = answer.substring(0, answer.length() - expectedAnswer.length());
+				return expectedAnswer;
 			}
+			return answer;
+		}
+
+		@Override
+		public void close() {
+			closeQuietly(socket);
 		}
 	}
 
@@ -144,29 +341,46 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock {
 		instanceWaitTimeout = listenerParameters.getLockWaitTimeout();
 	}
 
+	@Nullable
+	private String sendCommandOnce(@Nonnull final Command command, @Nonnull final String instanceUuid) throws IOException {
+		connectionLock.lock();
+		try {
+			boolean reused = connection != null;
+			for (; ; ) {
+				if (connection == null) {
+					connection = new Connection(portNumber, instanceWaitTimeout);
+				}
+				String answer;
+				try {
+					answer = connection.execute(command, instanceUuid);
+				} catch (IOException e) {
+					closeConnection();
+					if (reused) {
+						// The server could close an idle connection or restart, try again with a new one
+						reused = false;
+						continue;
+					}
+					throw e;
+				}
+				if (!(instanceUuid + OK_SUFFIX).equals(answer)) {
+					LOGGER.warn("Invalid server instance UUID '{}' answer", command.name());
+					closeConnection();
+					return null;
+				}
+				return connection.launchUuid;
+			}
+		} finally {
+			connectionLock.unlock();
+		}
+	}
+
 	String sendCommand(@Nonnull final Command command, @Nonnull final String instanceUuid) {
 		String result = new Waiter("Wait for a socket connection").duration(instanceWaitTimeout, TimeUnit.MILLISECONDS)
 				.applyRandomDiscrepancy(MAX_WAIT_TIME_DISCREPANCY)
 				.pollingEvery(1, TimeUnit.SECONDS)
 				.till(() -> {
-					try (Socket socket = new Socket(InetAddress.getLocalHost(), portNumber)) {
-						byte[] launchAnswerBuffer = new byte[instanceUuid.getBytes(TRANSFER_CHARSET).length];
-						DataInputStream is = new DataInputStream(socket.getInputStream());
-						is.readFully(launchAnswerBuffer);
-						String launchUuid = new String(launchAnswerBuffer, TRANSFER_CHARSET);
-						byte[] saveBuffer = (command.name() + COMMAND_DELIMITER + instanceUuid).getBytes(TRANSFER_CHARSET);
-						OutputStream os = socket.getOutputStream();
-						os.write(saveBuffer);
-						os.flush();
-						String expectedAnswer = instanceUuid + OK_SUFFIX;
-						byte[] answerBuffer = new byte[expectedAnswer.getBytes(TRANSFER_CHARSET).length];
-						is.readFully(answerBuffer);
-						String answer = new String(answerBuffer, TRANSFER_CHARSET);
-						if (!expectedAnswer.equals(answer)) {
-							LOGGER.warn("Invalid server instance UUID '{}' answer", command.name());
-							return null;
-						}
-						return launchUuid;
+					try {
+						return sendCommandOnce(command, instanceUuid);
 					} catch (IOException e) {
 						LOGGER.warn("Unable to '{}' instance UUID on port '{}', connection error", command.name(), portNumber, e);
 						return null;
@@ -176,16 +390,21 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock {
 		return result == null ? instanceUuid : result;
 	}
 
+	private void closeConnection() {
+		connectionLock.lock();
+		try {
+			if (connection != null) {
+				connection.close();
+				connection = null;
+			}
+		} finally {
+			connectionLock.unlock();
+		}
+	}
+
 	private String executeCommand(@Nonnull final Command command, @Nonnull final String instanceUuid) {
 		if (mainLock != null) {
-			switch (command) {
-				case UPDATE:
-					INSTANCES.put(instanceUuid, new Date());
-					break;
-				case FINISH:
-					INSTANCES.remove(instanceUuid);
-					break;
-			}
+			applyCommand(command, instanceUuid);
 			return lockUuid;
 		}
 
@@ -210,9 +429,19 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock {
 			classLevelLock.lock();
 			try {
 				if (mainLock == null) {
-					mainLock = new ServerSocket(portNumber, SOCKET_BACKLOG, InetAddress.getLocalHost());
+					ServerSocketChannel server = ServerSocketChannel.open();
+					try {
+						server.bind(new InetSocketAddress(InetAddress.getLocalHost(), portNumber), SOCKET_BACKLOG);
+						handler = new ServerHandler(server);
+					} catch (IOException e) {
+						closeQuietly(server);
+						throw e;
+					}
+					mainLock = server;
 					lockUuid = uuid;
 					INSTANCES.put(uuid, new Date());
+					// This is the main thread, serve clients
+					handler.start();
 				}
 				classLevelLock.unlock();
 			} catch (IOException e) {
@@ -220,11 +449,7 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock {
 				classLevelLock.unlock();
 				LOGGER.debug("Unable to obtain lock socket", e);
 			}
-			if (uuid.equals(lockUuid)) {
-				// This is the main thread, serve clients
-				handler = new ServerHandler();
-				handler.start();
-			} else {
+			if (!uuid.equals(lockUuid)) {
 				// Another thread acquired lock while synchronization wait
 				return writeInstanceUuid(uuid);
 			}
@@ -242,14 +467,13 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock {
 	}
 
 	void reset() {
-		if (handler != null) {
-			handler.running = false;
-			handler = null;
-		}
+		closeConnection();
+		ServerHandler serverHandler = handler;
+		handler = null;
 		lockUuid = null;
 		INSTANCES.clear();
 		if (mainLock != null) {
-			ServerSocket socket = mainLock;
+			ServerSocketChannel socket = mainLock;
 			mainLock = null; // faster than closing connection
 			try {
 				socket.close();
@@ -257,6 +481,9 @@ public class LaunchIdLockSocket extends AbstractLaunchIdLock {
 				LOGGER.warn("Unable to close server socket properly", e);
 			}
 		}
+		if (serverHandler != null) {
+			serverHandler.shutdown();
+		}
 	}
 
 	/**
@@ -1,5 +1,7 @@
 package com.epam.reportportal.service.logs;
 
+import com.epam.reportportal.service.jfr.FlightRecorderEvents;
+import com.epam.reportportal.service.metrics.ReportingMetrics;
 import com.epam.reportportal.utils.http.HttpRequestUtils;
 import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.reactivex.FlowableSubscriber;
@@ -32,12 +34,14 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public class BufferSubscriber implements FlowableSubscriber<SaveLogRQ>, Subscription {
 	private final ReentrantLock lock = new ReentrantLock();
+	private final ReportingMetrics metrics = ReportingMetrics.getInstance();
 	private final Subscriber<? super List<SaveLogRQ>> downstream;
 	private final int maxSize;
 	private final long payloadLimit;
 
 	private volatile List<SaveLogRQ> buffer;
 	private volatile long payloadSize;
+	private volatile Object assemblyEvent;
 	private volatile Subscription upstream;
 	private volatile boolean done;
 
@@ -64,10 +68,25 @@ public class BufferSubscriber implements FlowableSubscriber<SaveLogRQ>, Subscrip
 		payloadSize = HttpRequestUtils.TYPICAL_MULTIPART_FOOTER_LENGTH;
 	}
 
+	private void flush(@Nonnull List<List<SaveLogRQ>> toSend) {
+		metrics.record(ReportingMetrics.LOG_BATCH_SIZE, null, buffer.size());
+		metrics.record(ReportingMetrics.LOG_BATCH_BYTES, null, payloadSize);
+		FlightRecorderEvents.finishLogBatchAssembly(assemblyEvent, buffer.size(), payloadSize);
+		assemblyEvent = null;
+		toSend.add(buffer);
+		reset();
+	}
+
+	private void drop() {
+		metrics.increment(ReportingMetrics.LOGS_DROPPED);
+		metrics.add(ReportingMetrics.LOGS_PENDING, null, -1);
+	}
+
 	@Override
 	@SuppressWarnings("UnnecessaryLocalVariable")
 	public void onNext(SaveLogRQ t) {
 		if (done) {
+			drop();
 			return;
 		}
 		long size = HttpRequestUtils.calculateRequestSize(t);
@@ -75,20 +94,22 @@ public class BufferSubscriber implements FlowableSubscriber<SaveLogRQ>, Subscrip
 		lock.lock();
 		if (buffer == null) {
 			lock.unlock();
+			drop();
 			return;
 		}
 		if (payloadSize + size > payloadLimit) {
 			if (!buffer.isEmpty()) {
-				toSend.add(buffer);
-				reset();
+				flush(toSend);
 			}
 		}
+		if (buffer.isEmpty()) {
+			assemblyEvent = FlightRecorderEvents.startLogBatchAssembly();
+		}
 		buffer.add(t);
 		long newSize = payloadSize + size;
 		payloadSize = newSize;
 		if (buffer.size() >= maxSize) {
-			toSend.add(buffer);
-			reset();
+			flush(toSend);
 		}
 		lock.unlock();
 		toSend.forEach(downstream::onNext);
@@ -114,8 +135,7 @@ public class BufferSubscriber implements FlowableSubscriber<SaveLogRQ>, Subscrip
 		List<List<SaveLogRQ>> toSend = new ArrayList<>();
 		lock.lock();
 		if (buffer != null && !buffer.isEmpty()) {
-			toSend.add(buffer);
-			reset();
+			flush(toSend);
 		}
 		lock.unlock();
 		toSend.forEach(downstream::onNext);
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.metrics;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values with exponential (power of two) buckets. Percentiles are estimated as upper bounds of
+ * the buckets, which is precise enough to see the order of latencies and batch sizes and costs only a few atomic increments per value.
+ */
+public class Histogram {
+	private static final int BUCKETS = Long.SIZE;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Immutable state of a {@link Histogram} at some moment.
+	 */
+	public static class Snapshot {
+		private final long count;
+		private final long sum;
+		private final long max;
+		private final long p50;
+		private final long p95;
+		private final long p99;
+
+		private Snapshot(long count, long sum, long max, long p50, long p95, long p99) {
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+			this.p50 = p50;
+			this.p95 = p95;
+			this.p99 = p99;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public long getSum() {
+			return sum;
+		}
+
+		public long getMax() {
+			return max;
+		}
+
+		public long getMean() {
+			return count > 0 ? sum / count : 0;
+		}
+
+		public long getP50() {
+			return p50;
+		}
+
+		public long getP95() {
+			return p95;
+		}
+
+		public long getP99() {
+			return p99;
+		}
+	}
+
+	private static int bucketOf(long value) {
+		return Long.SIZE - Long.numberOfLeadingZeros(value);
+	}
+
+	private static long upperBound(int bucket) {
+		// Overflows to Long.MAX_VALUE for the last bucket
+		return (1L << bucket) - 1;
+	}
+
+	/**
+	 * Records a value, negative values are counted as zeros.
+	 *
+	 * @param value a value to record
+	 */
+	public void record(long value) {
+		long myValue = Math.max(0, value);
+		buckets.incrementAndGet(bucketOf(myValue));
+		count.increment();
+		sum.add(myValue);
+		max.accumulate(myValue);
+	}
+
+	private long percentile(long[] counts, long total, double percentile, long maxValue) {
+		long threshold = (long) Math.ceil(total * percentile);
+		long accumulated = 0;
+		for (int i = 0; i < counts.length; i++) {
+			accumulated += counts[i];
+			if (accumulated >= threshold) {
+				return Math.min(upperBound(i), maxValue);
+			}
+		}
+		return maxValue;
+	}
+
+	/**
+	 * @return current state of the histogram
+	 */
+	@Nonnull
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets.get(i);
+			total += counts[i];
+		}
+		long maxValue = max.get();
+		if (total == 0) {
+			return new Snapshot(0, 0, 0, 0, 0, 0);
+		}
+		return new Snapshot(
+				total,
+				sum.sum(),
+				maxValue,
+				percentile(counts, total, 0.5d, maxValue),
+				percentile(counts, total, 0.95d, maxValue),
+				percentile(counts, total, 0.99d, maxValue)
+		);
+	}
+}
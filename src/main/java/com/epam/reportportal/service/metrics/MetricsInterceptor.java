@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.metrics;
+
+import jakarta.annotation.Nonnull;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OkHttp {@link Interceptor} which counts requests to ReportPortal, their errors, latencies and sent bytes in
+ * {@link ReportingMetrics}. Requests are tagged with an endpoint: HTTP method and URL path where IDs and UUIDs are replaced with
+ * {@code {id}}, so the number of tags stays small.
+ */
+public class MetricsInterceptor implements Interceptor {
+	private static final String ID_PLACEHOLDER = "{id}";
+	private static final int MIN_ID_LENGTH = 8;
+
+	private final ReportingMetrics metrics;
+
+	public MetricsInterceptor(@Nonnull ReportingMetrics reportingMetrics) {
+		metrics = reportingMetrics;
+	}
+
+	public MetricsInterceptor() {
+		this(ReportingMetrics.getInstance());
+	}
+
+	private static boolean isId(@Nonnull String segment) {
+		boolean hasDigit = false;
+		boolean onlyDigits = true;
+		for (int i = 0; i < segment.length(); i++) {
+			char c = segment.charAt(i);
+			if (c >= '0' && c <= '9') {
+				hasDigit = true;
+			} else if ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || c == '-') {
+				onlyDigits = false;
+			} else {
+				return false;
+			}
+		}
+		return hasDigit && (onlyDigits || segment.length() >= MIN_ID_LENGTH);
+	}
+
+	/**
+	 * Converts a request into an endpoint tag, e.g. {@code PUT /api/v1/{projectName}/item/{id}}.
+	 *
+	 * @param request HTTP request
+	 * @return endpoint tag
+	 */
+	@Nonnull
+	public static String getEndpoint(@Nonnull Request request) {
+		StringBuilder result = new StringBuilder(request.method()).append(' ');
+		List<String> segments = request.url().pathSegments();
+		for (String segment : segments) {
+			result.append('/').append(isId(segment) ? ID_PLACEHOLDER : segment);
+		}
+		return result.toString();
+	}
+
+	@Override
+	@Nonnull
+	public Response intercept(@Nonnull Chain chain) throws IOException {
+		Request request = chain.request();
+		String endpoint = getEndpoint(request);
+		metrics.increment(ReportingMetrics.HTTP_REQUESTS, endpoint);
+		RequestBody body = request.body();
+		if (body != null) {
+			long length = body.contentLength();
+			if (length > 0) {
+				metrics.add(ReportingMetrics.HTTP_BYTES_SENT, null, length);
+			}
+		}
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			Response response = chain.proceed(request);
+			failed = !response.isSuccessful();
+			return response;
+		} finally {
+			metrics.record(ReportingMetrics.HTTP_LATENCY, endpoint, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+			if (failed) {
+				metrics.increment(ReportingMetrics.HTTP_ERRORS, endpoint);
+			}
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.service.metrics;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Receives updates of {@link ReportingMetrics}, e.g. to bridge them to Micrometer or Prometheus. Implementations are discovered with
+ * {@link java.util.ServiceLoader}, so an Agent or a project can register a listener with a
+ * {@code META-INF/services/com.epam.reportportal.service.metrics.MetricsListener} file, or they can be added with
+ * {@link ReportingMetrics#addListener(MetricsListener)} method.
+ * <p>
+ * Methods are called on reporting threads, so implementations should be fast and thread-safe.
+ */
+public interface MetricsListener {
+
+	/**
+	 * Called on a counter change.
+	 *
+	 * @param name   metric name, see {@link ReportingMetrics} constants
+	 * @param tag    metric tag, e.g. an endpoint, or {@code null}
+	 * @param amount change amount, can be negative for counters of pending items
+	 */
+	default void onCount(@Nonnull String name, @Nullable String tag, long amount) {
+	}
+
+	/**
+	 * Called on a histogram value record.
+	 *
+	 * @param name  metric name, see {@link ReportingMetrics} constants
+	 * @param tag   metric tag, e.g. an endpoint, or {@code null}
+	 * @param value recorded value
+	 */
+	default void onRecord(@Nonnull String name, @Nullable String tag, long value) {
+	}
+
+	/**
+	 * Called on a gauge registration, also for gauges which were registered before the listener was added.
+	 *
+	 * @param name  metric name, see {@link ReportingMetrics} constants
+	 * @param gauge current value supplier
+	 */
+	default void onGauge(@Nonnull String name, @Nonnull LongSupplier gauge) {
+	}
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.service.metrics;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Registry of the client's own reporting metrics: requests, latencies, retries, pending items and logs, batch sizes, queue depths and
+ * dropped records. The metrics help to tune batch size and I/O pool size with real data. The registry is process-wide, so all
+ * {@link com.epam.reportportal.service.ReportPortal} instances and Launches report to the same place.
+ * <p>
+ * Metrics are available with getter methods, through the JMX MBean, see {@link #registerMBean()}, and through
+ * {@link MetricsListener}s.
+ */
+public class ReportingMetrics implements ReportingMetricsMXBean {
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReportingMetrics.class);
+
+	/**
+	 * JMX Object Name of the registry MBean.
+	 */
+	public static final String OBJECT_NAME = "com.epam.reportportal:type=ReportingMetrics";
+
+	/**
+	 * Counter of HTTP requests to ReportPortal tagged with an endpoint, e.g. {@code POST /api/v2/{project}/item/{id}}.
+	 */
+	public static final String HTTP_REQUESTS = "rp.http.requests";
+	/**
+	 * Counter of failed HTTP requests (I/O errors and non-2xx responses) tagged with an endpoint.
+	 */
+	public static final String HTTP_ERRORS = "rp.http.errors";
+	/**
+	 * Histogram of HTTP request latencies in milliseconds tagged with an endpoint.
+	 */
+	public static final String HTTP_LATENCY = "rp.http.latency";
+	/**
+	 * Counter of HTTP request body bytes sent to ReportPortal.
+	 */
+	public static final String HTTP_BYTES_SENT = "rp.http.bytes.sent";
+	/**
+	 * Counter of request retries.
+	 */
+	public static final String RETRIES = "rp.retries";
+	/**
+	 * Counter of test item start and finish requests which are created but not completed yet.
+	 */
+	public static final String ITEMS_PENDING = "rp.items.pending";
+	/**
+	 * Counter of log entries which are emitted but not sent yet.
+	 */
+	public static final String LOGS_PENDING = "rp.logs.pending";
+	/**
+	 * Counter of log entries which were dropped, e.g. emitted after Launch finish.
+	 */
+	public static final String LOGS_DROPPED = "rp.logs.dropped";
+	/**
+	 * Histogram of log batch sizes in entries.
+	 */
+	public static final String LOG_BATCH_SIZE = "rp.logs.batch.size";
+	/**
+	 * Histogram of log batch sizes in bytes.
+	 */
+	public static final String LOG_BATCH_BYTES = "rp.logs.batch.bytes";
+	/**
+	 * Gauge of tasks waiting in the I/O queues for launch and item requests, summed over all ReportPortal instances.
+	 */
+	public static final String IO_QUEUE_DEPTH = "rp.io.queue.depth";
+	/**
+	 * Gauge of tasks waiting in the I/O queues for log requests, summed over all ReportPortal instances.
+	 */
+	public static final String LOG_IO_QUEUE_DEPTH = "rp.io.log.queue.depth";
+	/**
+	 * Gauge of the current adaptive HTTP concurrency limits, summed over all HTTP clients.
+	 */
+	public static final String HTTP_CONCURRENCY_LIMIT = "rp.http.concurrency.limit";
+	/**
+	 * Gauge of HTTP requests currently passed through the adaptive concurrency limiters of all HTTP clients.
+	 */
+	public static final String HTTP_CONCURRENCY_IN_FLIGHT = "rp.http.concurrency.in.flight";
+
+	private static final ReportingMetrics INSTANCE = new ReportingMetrics(true);
+
+	private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+	private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+	private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+	private final List<MetricsListener> listeners = new CopyOnWriteArrayList<>();
+	private volatile boolean mBeanRegistered;
+
+	ReportingMetrics(boolean loadListeners) {
+		if (!loadListeners) {
+			return;
+		}
+		try {
+			ServiceLoader.load(MetricsListener.class).forEach(listeners::add);
+		} catch (ServiceConfigurationError e) {
+			LOGGER.warn("Unable to load metrics listeners", e);
+		}
+	}
+
+	/**
+	 * @return process-wide metrics registry
+	 */
+	@Nonnull
+	public static ReportingMetrics getInstance() {
+		return INSTANCE;
+	}
+
+	@Nonnull
+	private static String key(@Nonnull String name, @Nullable String tag) {
+		return tag == null ? name : name + "{" + tag + "}";
+	}
+
+	/**
+	 * Increments a counter by one.
+	 *
+	 * @param name metric name
+	 */
+	public void increment(@Nonnull String name) {
+		add(name, null, 1);
+	}
+
+	/**
+	 * Increments a tagged counter by one.
+	 *
+	 * @param name metric name
+	 * @param tag  metric tag
+	 */
+	public void increment(@Nonnull String name, @Nullable String tag) {
+		add(name, tag, 1);
+	}
+
+	/**
+	 * Adds an amount to a counter. The amount can be negative for counters of pending items.
+	 *
+	 * @param name   metric name
+	 * @param tag    metric tag
+	 * @param amount amount to add
+	 */
+	public void add(@Nonnull String name, @Nullable String tag, long amount) {
+		counters.computeIfAbsent(key(name, tag), k -> new LongAdder()).add(amount);
+		for (MetricsListener listener : listeners) {
+			try {
+				listener.onCount(name, tag, amount);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Metrics listener failed", e);
+			}
+		}
+	}
+
+	/**
+	 * Records a value into a histogram.
+	 *
+	 * @param name  metric name
+	 * @param tag   metric tag
+	 * @param value value to record
+	 */
+	public void record(@Nonnull String name, @Nullable String tag, long value) {
+		histograms.computeIfAbsent(key(name, tag), k -> new Histogram()).record(value);
+		for (MetricsListener listener : listeners) {
+			try {
+				listener.onRecord(name, tag, value);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Metrics listener failed", e);
+			}
+		}
+	}
+
+	/**
+	 * Registers a gauge, replacing a previously registered one with the same name.
+	 *
+	 * @param name  metric name
+	 * @param gauge current value supplier
+	 */
+	public void gauge(@Nonnull String name, @Nonnull LongSupplier gauge) {
+		gauges.put(name, gauge);
+		notifyGauge(name, gauge);
+	}
+
+	/**
+	 * Adds an object to a gauge which sums values of all objects registered under the same name, e.g. I/O queue depths of all
+	 * {@link com.epam.reportportal.service.ReportPortal} instances. The gauge holds weak references to its objects, so it doesn't
+	 * prevent them from being garbage collected, collected objects are removed from the sum. Negative values mean "unknown" and are
+	 * skipped, the gauge returns {@code -1} if none of its objects has a value.
+	 *
+	 * @param name     metric name
+	 * @param object   an object to get the value from
+	 * @param function value function
+	 * @param <T>      object type
+	 */
+	public <T> void gauge(@Nonnull String name, @Nonnull T object, @Nonnull ToLongFunction<T> function) {
+		boolean[] created = new boolean[1];
+		LongSupplier gauge = gauges.compute(name, (k, v) -> {
+			if (v instanceof AggregateGauge) {
+				return v;
+			}
+			created[0] = true;
+			return new AggregateGauge();
+		});
+		((AggregateGauge) gauge).add(object, function);
+		if (created[0]) {
+			notifyGauge(name, gauge);
+		}
+	}
+
+	private void notifyGauge(@Nonnull String name, @Nonnull LongSupplier gauge) {
+		for (MetricsListener listener : listeners) {
+			try {
+				listener.onGauge(name, gauge);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Metrics listener failed", e);
+			}
+		}
+	}
+
+	/**
+	 * Adds a listener, which also receives all gauges registered before.
+	 *
+	 * @param listener metrics listener
+	 */
+	public void addListener(@Nonnull MetricsListener listener) {
+		listeners.add(listener);
+		gauges.forEach(listener::onGauge);
+	}
+
+	/**
+	 * @param listener metrics listener to remove
+	 */
+	public void removeListener(@Nonnull MetricsListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * @param name metric name
+	 * @param tag  metric tag
+	 * @return current counter value
+	 */
+	public long getCounter(@Nonnull String name, @Nullable String tag) {
+		LongAdder counter = counters.get(key(name, tag));
+		return counter == null ? 0 : counter.sum();
+	}
+
+	/**
+	 * @param name metric name
+	 * @return current gauge value, or {@code -1} if there is no such gauge
+	 */
+	public long getGauge(@Nonnull String name) {
+		LongSupplier gauge = gauges.get(name);
+		return gauge == null ? -1 : gauge.getAsLong();
+	}
+
+	/**
+	 * @param name metric name
+	 * @param tag  metric tag
+	 * @return current histogram state, or {@code null} if nothing was recorded
+	 */
+	@Nullable
+	public Histogram.Snapshot getHistogram(@Nonnull String name, @Nullable String tag) {
+		Histogram histogram = histograms.get(key(name, tag));
+		return histogram == null ? null : histogram.snapshot();
+	}
+
+	@Override
+	@Nonnull
+	public Map<String, Long> getCounters() {
+		Map<String, Long> result = new TreeMap<>();
+		counters.forEach((k, v) -> result.put(k, v.sum()));
+		return result;
+	}
+
+	@Override
+	@Nonnull
+	public Map<String, Long> getGauges() {
+		Map<String, Long> result = new TreeMap<>();
+		gauges.forEach((k, v) -> result.put(k, v.getAsLong()));
+		return result;
+	}
+
+	@Override
+	@Nonnull
+	public Map<String, Long> getHistograms() {
+		Map<String, Long> result = new TreeMap<>();
+		histograms.forEach((k, v) -> {
+			Histogram.Snapshot snapshot = v.snapshot();
+			result.put(k + ".count", snapshot.getCount());
+			result.put(k + ".sum", snapshot.getSum());
+			result.put(k + ".max", snapshot.getMax());
+			result.put(k + ".p50", snapshot.getP50());
+			result.put(k + ".p95", snapshot.getP95());
+			result.put(k + ".p99", snapshot.getP99());
+		});
+		return result;
+	}
+
+	/**
+	 * Registers the registry in the platform MBean server under {@link #OBJECT_NAME} name. Subsequent calls do nothing.
+	 */
+	public synchronized void registerMBean() {
+		if (mBeanRegistered) {
+			return;
+		}
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			server.registerMBean(this, new ObjectName(OBJECT_NAME));
+			mBeanRegistered = true;
+		} catch (InstanceAlreadyExistsException e) {
+			// E.g. the client is loaded by several class loaders
+			LOGGER.warn("ReportPortal metrics MBean is already registered by another instance of the client");
+			mBeanRegistered = true;
+		} catch (JMException | RuntimeException e) {
+			LOGGER.warn("Unable to register ReportPortal metrics MBean", e);
+		}
+	}
+
+	private static class GaugeSource<T> {
+		private final WeakReference<T> reference;
+		private final ToLongFunction<T> function;
+
+		private GaugeSource(@Nonnull T object, @Nonnull ToLongFunction<T> function) {
+			reference = new WeakReference<>(object);
+			this.function = function;
+		}
+
+		private boolean isCollected() {
+			return reference.get() == null;
+		}
+
+		private long getValue() {
+			T value = reference.get();
+			return value == null ? -1 : function.applyAsLong(value);
+		}
+	}
+
+	private static class AggregateGauge implements LongSupplier {
+		private final List<GaugeSource<?>> sources = new CopyOnWriteArrayList<>();
+
+		private <T> void add(@Nonnull T object, @Nonnull ToLongFunction<T> function) {
+			sources.removeIf(GaugeSource::isCollected);
+			sources.add(new GaugeSource<>(object, function));
+		}
+
+		@Override
+		public long getAsLong() {
+			long result = -1;
+			for (GaugeSource<?> source : sources) {
+				long value = source.getValue();
+				if (value >= 0) {
+					result = result < 0 ? value : result + value;
+				}
+			}
+			return result;
+		}
+	}
+}
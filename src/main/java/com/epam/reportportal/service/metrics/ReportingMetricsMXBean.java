@@ -0,0 +1,31 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.epam.reportportal.service.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link ReportingMetrics}. Tagged metrics are named as {@code name{tag}}, histograms are flattened into
+ * {@code .count}, {@code .sum}, {@code .max}, {@code .p50}, {@code .p95} and {@code .p99} values.
+ */
+public interface ReportingMetricsMXBean {
+
+	Map<String, Long> getCounters();
+
+	Map<String, Long> getGauges();
+
+	Map<String, Long> getHistograms();
+}
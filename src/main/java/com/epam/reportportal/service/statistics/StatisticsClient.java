@@ -19,9 +19,8 @@ package com.epam.reportportal.service.statistics;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.statistics.item.StatisticsItem;
 import com.epam.reportportal.utils.http.ClientUtils;
+import com.epam.reportportal.utils.http.HttpRuntime;
 import io.reactivex.Maybe;
-import io.reactivex.Scheduler;
-import io.reactivex.schedulers.Schedulers;
 import okhttp3.OkHttpClient;
 import okhttp3.ResponseBody;
 import retrofit2.Response;
@@ -29,14 +28,6 @@ import retrofit2.Retrofit;
 import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
 import retrofit2.converter.jackson.JacksonConverterFactory;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
-
-import static java.util.Optional.ofNullable;
-
 /**
  * Statistics backend service asynchronous client. Require resource identifier by provided `trackingId` for sending statistics event.
  */
@@ -45,26 +36,17 @@ public class StatisticsClient implements Statistics {
 
 	private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/92.0.4515.107 Safari/537.36";
 
-	private static final AtomicLong THREAD_COUNTER = new AtomicLong();
-	private static final ThreadFactory THREAD_FACTORY = r -> {
-		Thread t = new Thread(r);
-		t.setDaemon(true);
-		t.setName("rp-stat-io-" + THREAD_COUNTER.incrementAndGet());
-		return t;
-	};
-
 	private final StatisticsApiClient client;
 	private final String measurementId;
 	private final String apiSecret;
-	private OkHttpClient httpClient;
-	private ExecutorService executor;
 
-	private static OkHttpClient buildHttpClient(ListenerParameters parameters) {
-		return ClientUtils.setupProxy(new OkHttpClient.Builder(), parameters).retryOnConnectionFailure(true).build();
+	private static OkHttpClient buildHttpClient(HttpRuntime runtime, ListenerParameters parameters) {
+		return ClientUtils.setupProxy(runtime.newClientBuilder(), parameters).retryOnConnectionFailure(true).build();
 	}
 
-	private static StatisticsApiClient buildClient(OkHttpClient httpClient, Scheduler scheduler) {
-		RxJava2CallAdapterFactory rxFactory = RxJava2CallAdapterFactory.createWithScheduler(scheduler);
+	private static StatisticsApiClient buildClient(OkHttpClient httpClient) {
+		// Calls are enqueued to the shared dispatcher, so the client doesn't need its own executor
+		RxJava2CallAdapterFactory rxFactory = RxJava2CallAdapterFactory.createAsync();
 		Retrofit retrofit = new Retrofit.Builder().baseUrl(BASE_URL)
 				.addConverterFactory(JacksonConverterFactory.create())
 				.addCallAdapterFactory(rxFactory)
@@ -74,7 +56,7 @@ public class StatisticsClient implements Statistics {
 	}
 
 	/**
-	 * Create an instance of the client, construct own HTTP client by given parameters
+	 * Create an instance of the client, construct own HTTP client by given parameters on top of shared {@link HttpRuntime}
 	 *
 	 * @param measurementId ID of the statistics resource
 	 * @param apiSecret     API Secret Key
@@ -83,9 +65,7 @@ public class StatisticsClient implements Statistics {
 	public StatisticsClient(String measurementId, String apiSecret, ListenerParameters parameters) {
 		this.measurementId = measurementId;
 		this.apiSecret = apiSecret;
-		executor = Executors.newSingleThreadExecutor(THREAD_FACTORY);
-		httpClient = buildHttpClient(parameters);
-		client = buildClient(httpClient, Schedulers.from(executor));
+		client = buildClient(buildHttpClient(HttpRuntime.get(parameters), parameters));
 	}
 
 	/**
@@ -114,19 +94,6 @@ public class StatisticsClient implements Statistics {
 
 	@Override
 	public void close() {
-		ofNullable(httpClient).ifPresent(c -> {
-			ExecutorService e = c.dispatcher().executorService();
-			e.shutdown();
-			try {
-				if (!e.awaitTermination(10, TimeUnit.SECONDS)) {
-					e.shutdownNow();
-				}
-			} catch (InterruptedException ignore) {
-			}
-			c.connectionPool().evictAll();
-		});
-		httpClient = null;
-		ofNullable(executor).ifPresent(ExecutorService::shutdownNow);
-		executor = null;
+		// Nothing to release: the client works on top of shared HTTP runtime
 	}
 }
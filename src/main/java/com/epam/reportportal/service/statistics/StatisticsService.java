@@ -20,7 +20,7 @@ import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.statistics.item.StatisticsEvent;
 import com.epam.reportportal.service.statistics.item.StatisticsItem;
 import com.epam.reportportal.utils.ClientIdProvider;
-import com.epam.reportportal.utils.concurrency.MultithreadingUtils;
+import com.epam.reportportal.utils.http.HttpRuntime;
 import com.epam.reportportal.utils.properties.ClientProperties;
 import com.epam.reportportal.utils.properties.DefaultProperties;
 import com.epam.reportportal.utils.properties.SystemAttributesExtractor;
@@ -34,7 +34,6 @@ import okhttp3.ResponseBody;
 import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import retrofit2.Response;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -42,7 +41,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -67,8 +65,7 @@ public class StatisticsService implements Closeable {
 
 	private static final String CLIENT_ID = ClientIdProvider.getClientId();
 
-	private final ExecutorService statisticsExecutor = MultithreadingUtils.buildExecutorService("rp-stat-", 1);
-	private final Scheduler scheduler = Schedulers.from(statisticsExecutor);
+	private final Scheduler scheduler;
 	private final Statistics statistics;
 	private final List<Completable> dependencies = new CopyOnWriteArrayList<>();
 
@@ -77,6 +74,7 @@ public class StatisticsService implements Closeable {
 	public StatisticsService(ListenerParameters listenerParameters, Statistics client) {
 		this.parameters = listenerParameters;
 		this.statistics = client;
+		this.scheduler = Schedulers.from(HttpRuntime.get(listenerParameters).getExecutor());
 	}
 
 	public StatisticsService(ListenerParameters listenerParameters) {
@@ -110,19 +108,19 @@ public class StatisticsService implements Closeable {
 				.ifPresent(a -> Stream.of(Pair.of(AGENT_NAME_PARAM, a[0]), Pair.of(AGENT_VERSION_PARAM, a[1]))
 						.forEach(p -> event.addParam(p.getKey(), p.getValue())));
 
-		Maybe<Response<ResponseBody>> statisticsMaybe = launchIdMaybe.flatMap(l -> getStatistics().send(new StatisticsItem(CLIENT_ID).addEvent(
-				event))).cache().subscribeOn(scheduler);
-		dependencies.add(statisticsMaybe.ignoreElement());
+		// Response handling is a part of the completable, so 'close' method waits for it along with the request itself
+		Completable statisticsCompletable = launchIdMaybe.flatMap(l -> getStatistics().send(new StatisticsItem(CLIENT_ID).addEvent(
+						event)))
+				.subscribeOn(scheduler)
+				.doOnSuccess(t -> ofNullable(t.body()).ifPresent(ResponseBody::close))
+				.doOnError(t -> LOGGER.error("Unable to send statistics", t))
+				.ignoreElement()
+				.onErrorComplete()
+				.doFinally(() -> getStatistics().close())
+				.cache();
+		dependencies.add(statisticsCompletable);
 		//noinspection ResultOfMethodCallIgnored
-		statisticsMaybe.subscribe(
-				t -> {
-					ofNullable(t.body()).ifPresent(ResponseBody::close);
-					getStatistics().close();
-				}, t -> {
-					LOGGER.error("Unable to send statistics", t);
-					getStatistics().close();
-				}
-		);
+		statisticsCompletable.subscribe();
 	}
 
 	@Override
@@ -131,14 +129,6 @@ public class StatisticsService implements Closeable {
 		if (result != null) {
 			LOGGER.warn("Unable to complete execution of all dependencies", result);
 		}
-		statisticsExecutor.shutdown();
-		try {
-			if (!statisticsExecutor.awaitTermination(parameters.getReportingTimeout(), TimeUnit.SECONDS)) {
-				statisticsExecutor.shutdownNow();
-			}
-		} catch (InterruptedException exc) {
-			//do nothing
-		}
 		try {
 			getStatistics().close();
 		} catch (IOException ignore) {
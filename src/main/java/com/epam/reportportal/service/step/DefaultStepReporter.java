@@ -20,6 +20,7 @@ import com.epam.reportportal.listeners.ItemStatus;
 import com.epam.reportportal.listeners.LogLevel;
 import com.epam.reportportal.message.TypeAwareByteSource;
 import com.epam.reportportal.service.Launch;
+import com.epam.reportportal.service.LoggingContext;
 import com.epam.reportportal.service.ReportPortal;
 import com.epam.reportportal.utils.ObjectUtils;
 import com.epam.reportportal.utils.StatusEvaluation;
@@ -31,6 +32,7 @@ import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
 import io.reactivex.Maybe;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,12 +42,10 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Supplier;
 
 import static com.epam.reportportal.service.step.StepRequestUtils.buildFinishTestItemRequest;
 import static java.util.Optional.ofNullable;
-import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
 
 /**
  * {@inheritDoc}
@@ -55,46 +55,133 @@ public class DefaultStepReporter implements StepReporter {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(DefaultStepReporter.class);
 
-	private final ThreadLocal<Deque<Maybe<String>>> stepStack = ThreadLocal.withInitial(ConcurrentLinkedDeque::new);
+	/**
+	 * An item on a thread's parent stack. Holds a pending finish request of a nested step started by the reporter and a flag which
+	 * tells that the item and all items below it on the stack already have been marked as failed. Frames of aggregated step
+	 * invocations also keep the invocation start and its request supplier.
+	 */
+	private static final class Frame {
+		private final Maybe<String> itemId;
+		private StepEntry entry;
+		private boolean failed;
+		private Aggregate aggregate;
+		private Supplier<StartTestItemRQ> request;
+		private long startNanos;
+
+		private Frame(@Nonnull Maybe<String> item) {
+			itemId = item;
+		}
+	}
 
-	private final Map<Maybe<String>, StepEntry> steps = new ConcurrentHashMap<>();
+	/**
+	 * Step state of a single thread. It is never shared with other threads, so plain {@link ArrayDeque}s are used.
+	 */
+	private static final class ThreadSteps {
+		private final Deque<Frame> frames = new ArrayDeque<>();
+		private final Deque<Frame> imperativeSteps = new ArrayDeque<>();
+	}
 
-	private final Deque<Maybe<String>> imperativeSteps = new ConcurrentLinkedDeque<>();
+	/**
+	 * Invocation statistics of an aggregated step under a single parent item.
+	 */
+	private static final class Aggregate {
+		private Maybe<String> itemId;
+		private String description;
+		private int count;
+		private int failures;
+		private long totalNanos;
+		private long minNanos = Long.MAX_VALUE;
+		private long maxNanos;
+		private Comparable<? extends Comparable<?>> endTime;
+
+		private synchronized void record(long durationNanos, @Nonnull Comparable<? extends Comparable<?>> invocationEndTime) {
+			count++;
+			totalNanos += durationNanos;
+			minNanos = Math.min(minNanos, durationNanos);
+			maxNanos = Math.max(maxNanos, durationNanos);
+			endTime = invocationEndTime;
+		}
+
+		private synchronized void recordFailure() {
+			failures++;
+		}
+
+		@Nonnull
+		private String describe() {
+			StringBuilder result = new StringBuilder();
+			if (description != null && !description.isEmpty()) {
+				result.append(description).append("\n\n");
+			}
+			result.append("Invocations: ").append(count);
+			if (count > 0) {
+				result.append(String.format(
+						Locale.US,
+						", duration min / avg / max: %.3f / %.3f / %.3f ms",
+						minNanos / 1_000_000.0,
+						totalNanos / 1_000_000.0 / count,
+						maxNanos / 1_000_000.0
+				));
+			}
+			if (failures > 0) {
+				result.append(", failed invocations: ").append(failures);
+			}
+			return result.toString();
+		}
+	}
+
+	private final ThreadLocal<ThreadSteps> threadSteps = ThreadLocal.withInitial(ThreadSteps::new);
 
 	private final Set<Maybe<String>> parentFailures = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
+	private final Map<Maybe<String>, Map<Object, Aggregate>> aggregates = new ConcurrentHashMap<>();
+
 	private final Launch launch;
 
 	public DefaultStepReporter(Launch currentLaunch) {
 		launch = currentLaunch;
 	}
 
-	private Deque<Maybe<String>> getParentStack() {
-		return stepStack.get();
+	private Deque<Frame> getParentStack() {
+		return threadSteps.get().frames;
 	}
 
 	@Override
 	@Nullable
 	public Maybe<String> getParent() {
-		return getParentStack().peekLast();
+		Frame frame = getParentStack().peekLast();
+		return frame == null ? null : frame.itemId;
 	}
 
 	@Override
 	public void setStepStatus(@Nonnull ItemStatus status) {
-		ofNullable(steps.get(getParent())).ifPresent(step -> step.getFinishTestItemRQ().setStatus(status.name()));
+		ofNullable(getParentStack().peekLast()).map(frame -> frame.entry)
+				.ifPresent(step -> step.getFinishTestItemRQ().setStatus(status.name()));
 	}
 
 	@Override
 	public void setParent(@Nullable final Maybe<String> parentUuid) {
 		if (parentUuid != null) {
-			getParentStack().add(parentUuid);
+			getParentStack().addLast(new Frame(parentUuid));
 		}
 	}
 
 	@Override
 	public void removeParent(@Nullable final Maybe<String> parentUuid) {
 		if (parentUuid != null) {
-			getParentStack().removeLastOccurrence(parentUuid);
+			Deque<Frame> stack = getParentStack();
+			Frame last = stack.peekLast();
+			if (last != null && last.itemId == parentUuid) {
+				// The usual case: items are finished in reverse order
+				stack.pollLast();
+			} else {
+				Iterator<Frame> frames = stack.descendingIterator();
+				while (frames.hasNext()) {
+					if (frames.next().itemId == parentUuid) {
+						frames.remove();
+						break;
+					}
+				}
+			}
 			parentFailures.remove(parentUuid);
 		}
 	}
@@ -110,8 +197,9 @@ public class DefaultStepReporter implements StepReporter {
 	@Nonnull
 	protected Maybe<String> sendStep(@Nonnull final ItemStatus status, @Nonnull final String name, @Nullable final Runnable actions) {
 		StartTestItemRQ rq = buildStartStepRequest(name);
-		Maybe<String> stepId = startStepRequest(rq);
-		imperativeSteps.add(stepId);
+		Frame step = startStepRequest(rq);
+		Maybe<String> stepId = step.itemId;
+		threadSteps.get().imperativeSteps.addLast(step);
 		if (actions != null) {
 			try {
 				actions.run();
@@ -119,7 +207,7 @@ public class DefaultStepReporter implements StepReporter {
 				LOGGER.error("Unable to process nested step: {}", e.getLocalizedMessage(), e);
 			}
 		}
-		addStepEntry(stepId, status, rq.getStartTime(), launch.useMicroseconds() ? Instant.now() : Calendar.getInstance().getTime());
+		addStepEntry(step, status, rq.getStartTime(), launch.useMicroseconds() ? Instant.now() : Calendar.getInstance().getTime());
 		return stepId;
 	}
 
@@ -188,7 +276,7 @@ public class DefaultStepReporter implements StepReporter {
 	}
 
 	private Optional<StepEntry> finishPreviousStepInternal(@Nullable ItemStatus finishStatus) {
-		return ofNullable(imperativeSteps.pollLast()).map(steps::remove).map(stepEntry -> {
+		return ofNullable(threadSteps.get().imperativeSteps.pollLast()).map(DefaultStepReporter::takeEntry).map(stepEntry -> {
 			FinishTestItemRQ finishRq = stepEntry.getFinishTestItemRQ();
 			ItemStatus status = StatusEvaluation.evaluateStatus(
 					ofNullable(finishRq.getStatus()).map(ItemStatus::valueOf)
@@ -200,8 +288,27 @@ public class DefaultStepReporter implements StepReporter {
 		});
 	}
 
+	@Nullable
+	private static StepEntry takeEntry(@Nonnull Frame frame) {
+		StepEntry entry = frame.entry;
+		frame.entry = null;
+		return entry;
+	}
+
+	/**
+	 * Marks all items on the current thread's stack as failed. Frames below a failed one are always failed too, so the walk stops on
+	 * the first already marked frame and every frame is marked only once.
+	 */
 	private void failParents() {
-		parentFailures.addAll(getParentStack());
+		Iterator<Frame> frames = getParentStack().descendingIterator();
+		while (frames.hasNext()) {
+			Frame frame = frames.next();
+			if (frame.failed) {
+				break;
+			}
+			frame.failed = true;
+			parentFailures.add(frame.itemId);
+		}
 	}
 
 	/**
@@ -232,25 +339,37 @@ public class DefaultStepReporter implements StepReporter {
 	@Override
 	@Nonnull
 	public Maybe<String> startNestedStep(@Nonnull StartTestItemRQ startStepRequest) {
+		Frame step = startNestedStepInternal(startStepRequest);
+		return step == null ? Maybe.empty() : step.itemId;
+	}
+
+	@Nullable
+	private Frame startNestedStepInternal(@Nonnull StartTestItemRQ startStepRequest) {
 		Maybe<String> parent = getParent();
 		if (parent == null) {
 			LOGGER.warn("Unable to find parent ID, skipping step: {}", startStepRequest.getName());
-			return Maybe.empty();
+			return null;
 		}
 		Maybe<String> itemId = launch.startTestItem(parent, startStepRequest);
-		steps.put(itemId, new StepEntry(itemId, startStepRequest.getStartTime(), new FinishTestItemRQ()));
-		return itemId;
+		// Launch puts the started item on top of the stack, use a detached frame if it didn't
+		Frame step = getParentStack().peekLast();
+		if (step == null || step.itemId != itemId) {
+			step = new Frame(itemId);
+		}
+		step.entry = new StepEntry(itemId, startStepRequest.getStartTime(), new FinishTestItemRQ());
+		return step;
 	}
 
 	@Override
 	@Nonnull
 	public Maybe<OperationCompletionRS> finishNestedStep(@Nonnull FinishTestItemRQ finishStepRequest) {
-		Maybe<String> stepId = getParent();
-		if (stepId == null) {
+		Frame step = getParentStack().peekLast();
+		if (step == null) {
 			LOGGER.warn("Unable to find item ID, skipping step a finish step");
 			return Maybe.empty();
 		}
-		StepEntry manualRequest = steps.remove(stepId);
+		Maybe<String> stepId = step.itemId;
+		StepEntry manualRequest = takeEntry(step);
 		String manualStatus = ofNullable(manualRequest).map(StepEntry::getFinishTestItemRQ).map(FinishTestItemRQ::getStatus).orElse(null);
 		String runStatus = ofNullable(finishStepRequest.getStatus()).orElse(ItemStatus.PASSED.name());
 
@@ -324,23 +443,148 @@ public class DefaultStepReporter implements StepReporter {
 		return step(ItemStatus.PASSED, name, actions);
 	}
 
+	/**
+	 * Pushes an item on the current thread's parent stack along with its logging context, in the same way as {@link Launch} does on
+	 * an item start.
+	 */
+	@Nonnull
+	private Frame enter(@Nonnull Maybe<String> itemId) {
+		LoggingContext.init(itemId);
+		Frame frame = new Frame(itemId);
+		getParentStack().addLast(frame);
+		return frame;
+	}
+
+	@Override
+	@Nonnull
+	public Maybe<String> startAggregatedStep(@Nonnull Object stepKey, @Nonnull Supplier<StartTestItemRQ> startStepRequest) {
+		Maybe<String> parent = getParent();
+		if (parent == null) {
+			LOGGER.warn("Unable to find parent ID, skipping aggregated step: {}", stepKey);
+			return Maybe.empty();
+		}
+		Aggregate aggregate = aggregates.computeIfAbsent(parent, p -> new ConcurrentHashMap<>())
+				.computeIfAbsent(stepKey, k -> new Aggregate());
+		Maybe<String> itemId;
+		boolean started = false;
+		synchronized (aggregate) {
+			if (aggregate.itemId == null) {
+				StartTestItemRQ rq = startStepRequest.get();
+				aggregate.description = rq.getDescription();
+				aggregate.itemId = launch.startTestItem(parent, rq);
+				started = true;
+			}
+			itemId = aggregate.itemId;
+		}
+		// Launch puts a started item on top of the stack, subsequent invocations enter the item by themselves
+		Frame step = getParentStack().peekLast();
+		if (!started || step == null || step.itemId != itemId) {
+			step = enter(itemId);
+		}
+		step.aggregate = aggregate;
+		step.request = startStepRequest;
+		step.startNanos = System.nanoTime();
+		return itemId;
+	}
+
+	@Nullable
+	private Frame exitAggregatedStep() {
+		Deque<Frame> stack = getParentStack();
+		Frame step = stack.peekLast();
+		if (step == null || step.aggregate == null) {
+			LOGGER.warn("Unable to find aggregated step, skipping a finish step");
+			return null;
+		}
+		stack.pollLast();
+		LoggingContext.dispose();
+		return step;
+	}
+
+	@Override
+	public void finishAggregatedStep() {
+		long endNanos = System.nanoTime();
+		Frame step = exitAggregatedStep();
+		if (step != null) {
+			step.aggregate.record(endNanos - step.startNanos, launch.useMicroseconds() ? Instant.now() : Calendar.getInstance().getTime());
+		}
+	}
+
+	@Override
+	public void finishAggregatedStep(@Nullable Throwable throwable) {
+		Frame step = exitAggregatedStep();
+		if (step != null) {
+			step.aggregate.recordFailure();
+			// Report the failed invocation as a separate step next to the aggregated one
+			startNestedStep(step.request.get());
+			finishNestedStep(throwable);
+		}
+	}
+
+	@Override
+	public void finishAggregatedSteps(@Nullable Maybe<String> parentId) {
+		if (parentId == null) {
+			return;
+		}
+		Map<Object, Aggregate> parentAggregates = aggregates.remove(parentId);
+		if (parentAggregates != null) {
+			parentAggregates.values().forEach(this::finishAggregate);
+		}
+	}
+
+	private void finishAggregate(@Nonnull Aggregate aggregate) {
+		Maybe<String> itemId;
+		FinishTestItemRQ rq;
+		synchronized (aggregate) {
+			itemId = aggregate.itemId;
+			if (itemId == null) {
+				return;
+			}
+			Comparable<? extends Comparable<?>> endTime = aggregate.endTime;
+			if (endTime == null) {
+				endTime = launch.useMicroseconds() ? Instant.now() : Calendar.getInstance().getTime();
+			}
+			rq = buildFinishTestItemRequest(aggregate.failures > 0 ? ItemStatus.FAILED : ItemStatus.PASSED, endTime);
+			rq.setDescription(aggregate.describe());
+		}
+		// Launch removes the item from the stack and disposes its logging context on finish, so enter the item first
+		enter(itemId);
+		launch.finishTestItem(itemId, rq);
+	}
+
+	@Nullable
+	private static Instant toInstant(@Nonnull Comparable<? extends Comparable<?>> dateTime) {
+		if (dateTime instanceof Date) {
+			return ((Date) dateTime).toInstant();
+		} else if (dateTime instanceof Instant) {
+			return (Instant) dateTime;
+		} else if (dateTime instanceof Long) {
+			return Instant.ofEpochMilli((Long) dateTime);
+		}
+		return null;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Nonnull
-	private Maybe<String> startStepRequest(final StartTestItemRQ startTestItemRQ) {
+	private Frame startStepRequest(final StartTestItemRQ startTestItemRQ) {
 		finishPreviousStepInternal(null).ifPresent(e -> {
 			Comparable previousDate = e.getTimestamp();
 			Comparable currentDate = startTestItemRQ.getStartTime();
-			if (previousDate.compareTo(currentDate) >= 0) {
+			// Timestamps may be of different types, e.g. Date and Instant, so compare them by epoch time
+			Instant previousTime = toInstant(previousDate);
+			Instant currentTime = toInstant(currentDate);
+			if (previousTime == null || currentTime == null) {
+				// Fallback to the original timestamp if it is not a Date or Instant to not fail reporting
+				if (previousDate.getClass() == currentDate.getClass() && previousDate.compareTo(currentDate) >= 0) {
+					startTestItemRQ.setStartTime(previousDate);
+				}
+			} else if (previousTime.compareTo(currentTime) >= 0) {
 				Comparable newDate;
-				if (previousDate instanceof Date) {
-					newDate = new Date(((Date) previousDate).getTime() + 1);
-				} else if (previousDate instanceof Instant) {
-					newDate = ((Instant) previousDate).plus(1, ChronoUnit.MICROS);
-				} else if (previousDate instanceof Long) {
-					newDate = ((Long) previousDate) + 1;
+				if (currentDate instanceof Date) {
+					newDate = new Date(previousTime.toEpochMilli() + 1);
+				} else if (currentDate instanceof Instant) {
+					newDate = previousTime.plus(1, ChronoUnit.MICROS);
 				} else {
-					// Fallback to the original timestamp if it is not a Date or Instant to not fail reporting
-					newDate = previousDate;
+					newDate = previousTime.toEpochMilli() + 1;
 				}
 				startTestItemRQ.setStartTime(newDate);
 			}
@@ -348,7 +592,7 @@ public class DefaultStepReporter implements StepReporter {
 				failParents();
 			}
 		});
-		return startNestedStep(startTestItemRQ);
+		return ofNullable(startNestedStepInternal(startTestItemRQ)).orElseGet(() -> new Frame(Maybe.empty()));
 	}
 
 	private StartTestItemRQ buildStartStepRequest(@Nonnull String name) {
@@ -360,10 +604,10 @@ public class DefaultStepReporter implements StepReporter {
 		return startTestItemRQ;
 	}
 
-	private void addStepEntry(Maybe<String> stepId, ItemStatus status, @Nonnull Comparable<? extends Comparable<?>> startTime,
+	private void addStepEntry(Frame step, ItemStatus status, @Nonnull Comparable<? extends Comparable<?>> startTime,
 			@Nonnull Comparable<? extends Comparable<?>> finishTime) {
 		FinishTestItemRQ finishTestItemRQ = buildFinishTestItemRequest(status, finishTime);
-		steps.put(stepId, new StepEntry(stepId, startTime, finishTestItemRQ));
+		step.entry = new StepEntry(step.itemId, startTime, finishTestItemRQ);
 	}
 
 	private SaveLogRQ buildSaveLogRequest(String itemId, String message, LogLevel level) {
@@ -388,7 +632,12 @@ public class DefaultStepReporter implements StepReporter {
 	}
 
 	private SaveLogRQ buildSaveLogRequest(String itemId, Throwable throwable, File file) {
-		String message = throwable != null ? getStackTrace(throwable) : "Test has failed without exception";
+		String message;
+		if (throwable != null) {
+			message = launch.getStackTraceCache().format(throwable, ExceptionUtils::getStackTrace);
+		} else {
+			message = "Test has failed without exception";
+		}
 		return buildSaveLogRequest(itemId, message, LogLevel.ERROR, file);
 	}
 
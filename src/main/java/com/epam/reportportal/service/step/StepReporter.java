@@ -146,6 +146,45 @@ public interface StepReporter {
 	default void setStepStatus(@Nonnull ItemStatus status) {
 	}
 
+	/**
+	 * Start an invocation of a step which is aggregated with other invocations of the same step under the current parent. The first
+	 * invocation starts an item, subsequent invocations reuse it. By default, every invocation is reported as a separate nested step.
+	 *
+	 * @param stepKey          a key which identifies the step, e.g. the step method
+	 * @param startStepRequest request supplier, it's called only if an item should be started
+	 * @return aggregated step ID
+	 */
+	@Nonnull
+	default Maybe<String> startAggregatedStep(@Nonnull Object stepKey, @Nonnull Supplier<StartTestItemRQ> startStepRequest) {
+		return startNestedStep(startStepRequest.get());
+	}
+
+	/**
+	 * Finish the current aggregated step invocation and count it in the step statistics.
+	 */
+	default void finishAggregatedStep() {
+		//noinspection ReactiveStreamsUnusedPublisher
+		finishNestedStep();
+	}
+
+	/**
+	 * Finish the current aggregated step invocation as failed. Failed invocations are reported as separate items.
+	 *
+	 * @param throwable invocation failure cause
+	 */
+	default void finishAggregatedStep(@Nullable Throwable throwable) {
+		//noinspection ReactiveStreamsUnusedPublisher
+		finishNestedStep(throwable);
+	}
+
+	/**
+	 * Finish all aggregated steps started under given parent. Should be called before the parent finish.
+	 *
+	 * @param parentId parent item ID
+	 */
+	default void finishAggregatedSteps(@Nullable Maybe<String> parentId) {
+	}
+
 	class StepEntry {
 		private final Maybe<String> itemId;
 		private final Comparable<? extends Comparable<?>> timestamp;
@@ -229,13 +229,18 @@ public class AttributeParser {
 	}
 
 	/**
-	 * Scan for attributes annotations on the given executable and its declaration.
+	 * Scan for attributes annotations on the given executable and its declaration. Annotations are scanned once per executable.
 	 *
 	 * @param executable the executable to scan
 	 * @return a non-null set of ReportPortal attributes (may be empty if none are found)
 	 */
 	@Nonnull
 	public static Set<ItemAttributesRQ> retrieveAttributes(@Nonnull Executable executable) {
+		return ExecutableMetadata.of(executable).getAttributes();
+	}
+
+	@Nonnull
+	static Set<ItemAttributesRQ> scanAttributes(@Nonnull Executable executable) {
 		Set<ItemAttributesRQ> itemAttributes = new LinkedHashSet<>();
 		itemAttributes.addAll(retrieveAttributes(executable.getAnnotation(Attributes.class)));
 		itemAttributes.addAll(retrieveAttributes(executable.getAnnotationsByType(Attribute.class)));
@@ -41,31 +41,25 @@ public class BasicUtils {
 		}
 	}
 
-	private static final String JUNK_REPLACEMENT = "\uFFFD";
+	private static final char JUNK_REPLACEMENT = '\uFFFD';
+
+	private static boolean isJunk(char c) {
+		// Only check if it's in the ASCII range (0-127)
+		return c < 128 && IS_JUNK[c];
+	}
 
 	/**
 	 * The method cleans a string from obviously binary characters, replaces them with a question mark inside diamond (\uFFFD).
 	 *
 	 * @param input a string to clean
-	 * @return clean string
+	 * @return clean string, or the same instance if there is nothing to clean
 	 */
 	@Nullable
 	public static String cleanBinaryCharacters(@Nullable String input) {
 		if (input == null) {
 			return null;
 		}
-
-		StringBuilder sb = new StringBuilder(input.length());
-		for (int i = 0; i < input.length(); i++) {
-			char c = input.charAt(i);
-			// Only check if it's in the ASCII range (0-127)
-			if (c < 128 && IS_JUNK[c]) {
-				sb.append(JUNK_REPLACEMENT);
-			} else {
-				sb.append(c);
-			}
-		}
-		return sb.toString();
+		return sanitizeString(input, true, Integer.MAX_VALUE, null);
 	}
 
 	/**
@@ -80,18 +74,62 @@ public class BasicUtils {
 	 */
 	@Nonnull
 	public static String truncateString(@Nonnull String string, int limit, @Nullable String truncateReplacement) {
+		return sanitizeString(string, false, limit, truncateReplacement);
+	}
+
+	/**
+	 * Cleans a string from binary characters and truncates it to the specified limit in one pass. The result is the same as of
+	 * {@link #cleanBinaryCharacters(String)} call followed by {@link #truncateString(String, int, String)} call, but the string is
+	 * copied at most once, and only characters which are left after truncation are checked.
+	 *
+	 * @param string                  string to sanitize
+	 * @param replaceBinaryCharacters replace binary characters or not
+	 * @param limit                   maximum allowed length, use {@link Integer#MAX_VALUE} to skip truncation
+	 * @param truncateReplacement     string to append if truncation happens, defaults to
+	 *                                {@link CommonConstants#DEFAULT_TRUNCATE_REPLACEMENT} if null
+	 * @return sanitized string, or the same instance if there is nothing to change
+	 */
+	@Nonnull
+	public static String sanitizeString(@Nonnull String string, boolean replaceBinaryCharacters, int limit,
+			@Nullable String truncateReplacement) {
+		int length = string.length();
 		int effectiveLimit = Math.max(0, limit);
-		if (string.length() <= effectiveLimit) {
+		int end = length;
+		String suffix = null;
+		if (length > effectiveLimit) {
+			String replacement = truncateReplacement == null ? CommonConstants.DEFAULT_TRUNCATE_REPLACEMENT : truncateReplacement;
+			if (effectiveLimit <= replacement.length()) {
+				end = effectiveLimit;
+			} else {
+				end = effectiveLimit - replacement.length();
+				suffix = replacement;
+			}
+		}
+
+		// Replacement character has the same length as a binary one, so truncation doesn't depend on cleaning
+		int firstJunk = end;
+		if (replaceBinaryCharacters) {
+			for (int i = 0; i < end; i++) {
+				if (isJunk(string.charAt(i))) {
+					firstJunk = i;
+					break;
+				}
+			}
+		}
+		if (firstJunk == length) {
 			return string;
 		}
-		if (effectiveLimit == 0) {
-			return "";
+
+		StringBuilder sb = new StringBuilder(end + (suffix == null ? 0 : suffix.length()));
+		sb.append(string, 0, firstJunk);
+		for (int i = firstJunk; i < end; i++) {
+			char c = string.charAt(i);
+			sb.append(isJunk(c) ? JUNK_REPLACEMENT : c);
 		}
-		String replacement = truncateReplacement == null ? CommonConstants.DEFAULT_TRUNCATE_REPLACEMENT : truncateReplacement;
-		if (effectiveLimit <= replacement.length()) {
-			return string.substring(0, effectiveLimit);
+		if (suffix != null) {
+			sb.append(suffix);
 		}
-		return string.substring(0, effectiveLimit - replacement.length()) + replacement;
+		return sb.toString();
 	}
 
 	/**
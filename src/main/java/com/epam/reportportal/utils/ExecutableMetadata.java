@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.utils;
+
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.reportportal.annotations.TestCaseIdKey;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Executable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Cached annotation data of a test method or constructor which doesn't depend on a particular invocation: {@link ParameterKey} names,
+ * {@link TestCaseIdKey} indices and attributes. Also caches executables resolved by code references. Metadata is bound to classes
+ * with {@link ClassValue}, and classes resolved by code references are held with weak references, so the cache doesn't prevent
+ * classes from unloading.
+ */
+final class ExecutableMetadata {
+	private static final int CODE_REF_CACHE_SIZE = 4096;
+
+	private static final ClassValue<Map<Executable, ExecutableMetadata>> CACHE = new ClassValue<>() {
+		@Override
+		protected Map<Executable, ExecutableMetadata> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final ClassValue<Map<String, Optional<Executable>>> CODE_REF_EXECUTABLES = new ClassValue<>() {
+		@Override
+		protected Map<String, Optional<Executable>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private static final WeakReference<Class<?>> CLASS_NOT_FOUND = new WeakReference<>(null);
+	private static final Map<String, WeakReference<Class<?>>> CODE_REF_CLASSES = new ConcurrentHashMap<>();
+
+	private final String[] parameterKeys;
+	private final int[] testCaseIdKeys;
+	private final Set<ItemAttributesRQ> attributes;
+
+	private ExecutableMetadata(@Nonnull Executable executable) {
+		Class<?>[] parameterTypes = executable.getParameterTypes();
+		Annotation[][] parameterAnnotations = executable.getParameterAnnotations();
+		parameterKeys = new String[parameterTypes.length];
+		List<Integer> idKeys = new ArrayList<>();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			String key = null;
+			// The JDK pads annotations of inner class constructors for the outer instance parameter, but constructors of local and
+			// anonymous classes get trailing synthetic parameters for captured variables, which have no annotation arrays
+			Annotation[] annotations = i < parameterAnnotations.length ? parameterAnnotations[i] : new Annotation[0];
+			for (Annotation annotation : annotations) {
+				if (key == null && annotation.annotationType() == ParameterKey.class) {
+					key = ((ParameterKey) annotation).value();
+				}
+				if (annotation.annotationType() == TestCaseIdKey.class) {
+					idKeys.add(i);
+				}
+			}
+			parameterKeys[i] = key != null ? key : parameterTypes[i].getName();
+		}
+		testCaseIdKeys = idKeys.stream().mapToInt(Integer::intValue).toArray();
+		attributes = AttributeParser.scanAttributes(executable);
+	}
+
+	/**
+	 * Returns cached metadata of a method or a constructor, or creates it on the first call.
+	 *
+	 * @param executable a method or a constructor
+	 * @return executable metadata
+	 */
+	@Nonnull
+	static ExecutableMetadata of(@Nonnull Executable executable) {
+		Map<Executable, ExecutableMetadata> executables = CACHE.get(executable.getDeclaringClass());
+		ExecutableMetadata metadata = executables.get(executable);
+		if (metadata == null) {
+			metadata = executables.computeIfAbsent(executable, ExecutableMetadata::new);
+		}
+		return metadata;
+	}
+
+	@Nullable
+	private static Class<?> loadClass(@Nonnull String className) {
+		try {
+			return Class.forName(className);
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	@Nullable
+	private static Class<?> resolveClass(@Nonnull String codeRef) {
+		int lastDelimiterIndex = codeRef.lastIndexOf('.');
+		Class<?> type = lastDelimiterIndex > 0 ? loadClass(codeRef.substring(0, lastDelimiterIndex)) : null;
+		// Constructor code references are class names
+		return type != null ? type : loadClass(codeRef);
+	}
+
+	@Nullable
+	private static Class<?> getCodeRefClass(@Nonnull String codeRef) {
+		WeakReference<Class<?>> reference = CODE_REF_CLASSES.get(codeRef);
+		if (reference == CLASS_NOT_FOUND) {
+			return null;
+		}
+		Class<?> type = reference != null ? reference.get() : null;
+		if (type == null) {
+			type = resolveClass(codeRef);
+			if (CODE_REF_CLASSES.size() >= CODE_REF_CACHE_SIZE) {
+				// Code references can be generated, so keep memory bounded
+				CODE_REF_CLASSES.clear();
+			}
+			CODE_REF_CLASSES.put(codeRef, type != null ? new WeakReference<>(type) : CLASS_NOT_FOUND);
+		}
+		return type;
+	}
+
+	/**
+	 * Finds a method or a constructor by its code reference and number of parameters.
+	 *
+	 * @param codeRef        a method or a constructor code reference
+	 * @param parameterCount number of parameters
+	 * @return the executable or {@code null} if not found
+	 */
+	@Nullable
+	static Executable findExecutable(@Nonnull String codeRef, int parameterCount) {
+		Class<?> type = getCodeRefClass(codeRef);
+		if (type == null) {
+			return null;
+		}
+		String methodName = codeRef.substring(codeRef.lastIndexOf('.') + 1);
+		return CODE_REF_EXECUTABLES.get(type)
+				.computeIfAbsent(
+						codeRef + '/' + parameterCount, k -> Stream.concat(
+										Arrays.stream(type.getDeclaredMethods()),
+										Arrays.stream(type.getDeclaredConstructors())
+								)
+								.filter(m -> methodName.equals(m.getName()) || codeRef.equals(m.getName()))
+								.filter(m -> m.getParameterCount() == parameterCount)
+								.findAny()
+				)
+				.orElse(null);
+	}
+
+	/**
+	 * Returns parameter names: {@link ParameterKey} values or parameter type names.
+	 *
+	 * @return parameter names, the array must not be modified
+	 */
+	@Nonnull
+	String[] getParameterKeys() {
+		return parameterKeys;
+	}
+
+	/**
+	 * Returns indices of parameters marked with {@link TestCaseIdKey} annotation.
+	 *
+	 * @return parameter indices, the array must not be modified
+	 */
+	@Nonnull
+	int[] getTestCaseIdKeys() {
+		return testCaseIdKeys;
+	}
+
+	/**
+	 * Returns a copy of the executable attributes, since attributes are mutable.
+	 *
+	 * @return a set of attributes
+	 */
+	@Nonnull
+	Set<ItemAttributesRQ> getAttributes() {
+		Set<ItemAttributesRQ> result = new LinkedHashSet<>(Math.max(attributes.size() * 2, 16));
+		for (ItemAttributesRQ attribute : attributes) {
+			result.add(new ItemAttributesRQ(attribute.getKey(), attribute.getValue(), attribute.isSystem()));
+		}
+		return result;
+	}
+}
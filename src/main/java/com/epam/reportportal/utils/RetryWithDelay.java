@@ -15,6 +15,8 @@
  */
 package com.epam.reportportal.utils;
 
+import com.epam.reportportal.service.jfr.FlightRecorderEvents;
+import com.epam.reportportal.service.metrics.ReportingMetrics;
 import io.reactivex.functions.Predicate;
 import jakarta.annotation.Nonnull;
 
@@ -52,7 +54,13 @@ public class RetryWithDelay implements Predicate<Throwable> {
 		}
 
 		if (++retryCount < maxRetries) {
-			sleep(retryDelayMillis);
+			ReportingMetrics.getInstance().increment(ReportingMetrics.RETRIES);
+			Object event = FlightRecorderEvents.startRetry();
+			try {
+				sleep(retryDelayMillis);
+			} finally {
+				FlightRecorderEvents.finishRetry(event, retryCount, throwable);
+			}
 			return true;
 		}
 
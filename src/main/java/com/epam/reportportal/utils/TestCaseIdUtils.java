@@ -24,7 +24,6 @@ import com.epam.reportportal.utils.formatting.templating.TemplateProcessing;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.util.ArrayList;
@@ -77,23 +76,18 @@ public class TestCaseIdUtils {
 		if (executable == null || parameters == null || parameters.isEmpty()) {
 			return null;
 		}
-		Annotation[][] parameterAnnotations = executable.getParameterAnnotations();
-		List<Integer> keys = new ArrayList<>();
-		for (int paramIndex = 0; paramIndex < parameterAnnotations.length; paramIndex++) {
-			for (int annotationIndex = 0; annotationIndex < parameterAnnotations[paramIndex].length; annotationIndex++) {
-				Annotation testCaseIdAnnotation = parameterAnnotations[paramIndex][annotationIndex];
-				if (testCaseIdAnnotation.annotationType() == TestCaseIdKey.class) {
-					keys.add(paramIndex);
-				}
-			}
-		}
-		if (keys.isEmpty()) {
+		int[] keys = ExecutableMetadata.of(executable).getTestCaseIdKeys();
+		if (keys.length == 0) {
 			return TRANSFORM_PARAMETERS.apply(parameters);
 		}
-		if (keys.size() == 1) {
-			return String.valueOf(parameters.get(keys.get(0)));
+		if (keys.length == 1) {
+			return String.valueOf(parameters.get(keys[0]));
+		}
+		List<T> keyValues = new ArrayList<>(keys.length);
+		for (int key : keys) {
+			keyValues.add(parameters.get(key));
 		}
-		return TRANSFORM_PARAMETERS.apply(keys.stream().map(parameters::get).collect(Collectors.toList()));
+		return TRANSFORM_PARAMETERS.apply(keyValues);
 	}
 
 	/**
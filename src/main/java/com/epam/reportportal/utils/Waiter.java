@@ -17,6 +17,7 @@
 package com.epam.reportportal.utils;
 
 import com.epam.reportportal.exception.InternalReportPortalClientException;
+import com.epam.reportportal.service.jfr.FlightRecorderEvents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -128,11 +129,16 @@ public class Waiter {
 		long triesLong = durationNs / pollingNs;
 		int tries = triesLong > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) triesLong;
 		CountDownLatch countDown = new CountDownLatch(tries);
+		Object event = FlightRecorderEvents.startWait();
+		int polls = 0;
+		String outcome = "error";
 		try {
 			do {
 				try {
+					polls++;
 					T result = waitFor.call();
 					if (result != null) {
+						outcome = "success";
 						return result;
 					}
 				} catch (Exception e) {
@@ -145,12 +151,16 @@ public class Waiter {
 				countDown.countDown();
 			} while (!countDown.await(pollingNs + getDiscrepancy(), TimeUnit.NANOSECONDS));
 			// timeout happened
+			outcome = "timeout";
 			if (failOnTimeout) {
 				throw new InternalReportPortalClientException(waitDescription + " timed out");
 			}
 		} catch (InterruptedException ignored) {
 			// someone just interrupted our thread, normally exit
 			LOGGER.warn(waitDescription + " was interrupted");
+			outcome = "interrupted";
+		} finally {
+			FlightRecorderEvents.finishWait(event, waitDescription, polls, outcome);
 		}
 		return null;
 	}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.concurrency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limiter which adjusts the number of simultaneous requests with AIMD (additive increase, multiplicative decrease)
+ * algorithm.
+ * <p>
+ * Every successful request which was served in time and was sent while the limiter was at least half utilized increases the limit by
+ * one. Every dropped request (server overload response, I/O error) or a request which took longer than the latency timeout decreases
+ * the limit by {@link #BACKOFF_RATIO}. The limit always stays within {@code [minLimit, maxLimit]} boundaries.
+ */
+public class AdaptiveConcurrencyLimiter {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+	/**
+	 * Multiplier applied to the current limit on every dropped request.
+	 */
+	public static final double BACKOFF_RATIO = 0.9d;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+	private final int minLimit;
+	private final int maxLimit;
+	private final long latencyTimeoutNs;
+
+	private volatile int limit;
+	private volatile int inFlight;
+
+	/**
+	 * @param initialLimit   starting concurrency limit
+	 * @param minLimit       the lowest limit the limiter can shrink to, at least 1
+	 * @param maxLimit       the highest limit the limiter can grow to
+	 * @param latencyTimeout maximum request duration which is not counted as server overload
+	 * @param timeUnit       time unit of the latency timeout
+	 */
+	public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyTimeout, TimeUnit timeUnit) {
+		this.minLimit = Math.max(1, minLimit);
+		this.maxLimit = Math.max(this.minLimit, maxLimit);
+		this.latencyTimeoutNs = timeUnit.toNanos(latencyTimeout);
+		this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+	}
+
+	/**
+	 * Waits until there is a free slot within the current limit and occupies it.
+	 *
+	 * @throws InterruptedException if the current thread was interrupted while waiting
+	 */
+	public void acquire() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (inFlight >= limit) {
+				released.await();
+			}
+			inFlight++;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Frees previously acquired slot and adjusts the limit according to the request outcome.
+	 *
+	 * @param durationNs request duration in nanoseconds
+	 * @param dropped    whether the request was rejected or failed due to server or network problems
+	 */
+	public void release(long durationNs, boolean dropped) {
+		lock.lock();
+		try {
+			int current = limit;
+			int occupied = inFlight;
+			inFlight = occupied - 1;
+			int newLimit = current;
+			if (dropped || durationNs > latencyTimeoutNs) {
+				newLimit = Math.max(minLimit, (int) (current * BACKOFF_RATIO));
+			} else if (occupied * 2 >= current) {
+				newLimit = Math.min(maxLimit, current + 1);
+			}
+			if (newLimit != current) {
+				limit = newLimit;
+				LOGGER.debug("Concurrency limit changed: {} -> {}", current, newLimit);
+			}
+			released.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return current concurrency limit
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * @return number of requests which are currently executing
+	 */
+	public int getInFlight() {
+		return inFlight;
+	}
+
+	public int getMinLimit() {
+		return minLimit;
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+}
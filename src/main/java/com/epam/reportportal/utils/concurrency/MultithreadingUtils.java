@@ -18,12 +18,14 @@ package com.epam.reportportal.utils.concurrency;
 
 import com.epam.reportportal.listeners.ListenerParameters;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -42,25 +44,90 @@ public class MultithreadingUtils {
 	 * @return a new fixed thread pool executor service
 	 */
 	public static ExecutorService buildExecutorService(String namePrefix, int threadCount) {
+		return Executors.newFixedThreadPool(threadCount, buildDaemonThreadFactory(namePrefix));
+	}
+
+	/**
+	 * Creates a cached thread pool executor service with daemon threads and custom naming pattern. Idle threads are terminated after
+	 * 60 seconds.
+	 *
+	 * @param namePrefix prefix for thread names created by this executor
+	 * @return a new cached thread pool executor service
+	 */
+	public static ExecutorService buildCachedExecutorService(String namePrefix) {
+		return Executors.newCachedThreadPool(buildDaemonThreadFactory(namePrefix));
+	}
+
+	private static ThreadFactory buildDaemonThreadFactory(String namePrefix) {
 		AtomicLong threadCounter = new AtomicLong();
-		ThreadFactory threadFactory = r -> {
+		return r -> {
 			Thread t = new Thread(r);
 			t.setDaemon(true);
 			t.setName(namePrefix + threadCounter.incrementAndGet());
 			return t;
 		};
-		return Executors.newFixedThreadPool(threadCount, threadFactory);
 	}
 
 	/**
-	 * Creates a fixed thread pool executor service with daemon threads using pool size from listener parameters.
+	 * Creates an executor service which starts a new virtual thread for each task. Virtual threads are available only on Java 21+,
+	 * so the executor is created through reflection to keep the client compatible with Java 11.
+	 *
+	 * @param namePrefix prefix for thread names created by this executor
+	 * @return a new virtual thread executor service or {@code null} if virtual threads are not supported by current JVM
+	 */
+	@Nullable
+	public static ExecutorService buildVirtualThreadExecutorService(String namePrefix) {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+			ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+			return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+					.invoke(null, threadFactory);
+		} catch (ReflectiveOperationException | LinkageError e) {
+			LOGGER.warn("Virtual threads are not supported by current JVM, falling back to fixed thread pool");
+			return null;
+		}
+	}
+
+	/**
+	 * Creates an executor service using pool configuration from listener parameters. If virtual threads are enabled and supported by
+	 * current JVM, the executor starts a new virtual thread for each task, otherwise a fixed thread pool executor service with daemon
+	 * threads is created.
 	 *
 	 * @param namePrefix prefix for thread names created by this executor
 	 * @param params     listener parameters containing IO pool size configuration
-	 * @return a new fixed thread pool executor service
+	 * @return a new executor service
 	 */
 	public static ExecutorService buildExecutorService(String namePrefix, ListenerParameters params) {
-		return buildExecutorService(namePrefix, params.getIoPoolSize());
+		return buildExecutorService(namePrefix, params.getIoPoolSize(), params.isIoPoolVirtual());
+	}
+
+	/**
+	 * Creates a virtual thread executor service if requested and supported by current JVM, otherwise a fixed thread pool executor
+	 * service with daemon threads.
+	 *
+	 * @param namePrefix  prefix for thread names created by this executor
+	 * @param threadCount number of threads in the pool, ignored for virtual threads
+	 * @param virtual     whether to use virtual threads
+	 * @return a new executor service
+	 */
+	public static ExecutorService buildExecutorService(String namePrefix, int threadCount, boolean virtual) {
+		ExecutorService result = virtual ? buildVirtualThreadExecutorService(namePrefix) : null;
+		return result != null ? result : buildExecutorService(namePrefix, threadCount);
+	}
+
+	/**
+	 * Returns the number of tasks waiting for execution in the executor's queue.
+	 *
+	 * @param executorService the executor service to inspect
+	 * @return queue size, or {@code -1} if the executor doesn't expose its queue
+	 */
+	public static int getQueueDepth(@Nonnull ExecutorService executorService) {
+		if (executorService instanceof ThreadPoolExecutor) {
+			return ((ThreadPoolExecutor) executorService).getQueue().size();
+		}
+		return -1;
 	}
 
 	/**
@@ -16,8 +16,7 @@
 
 package com.epam.reportportal.utils.formatting;
 
-import java.util.Arrays;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /***
@@ -41,8 +40,7 @@ public class ExceptionUtils {
 	 */
 	public static String getStackTrace(Throwable throwable, Throwable baseThrowable, boolean preserveCause) {
 		String[] mainFrames = org.apache.commons.lang3.exception.ExceptionUtils.getStackFrames(throwable);
-		Set<String> baseFrames = Arrays.stream(org.apache.commons.lang3.exception.ExceptionUtils.getStackFrames(baseThrowable))
-				.collect(Collectors.toSet());
+		Set<String> baseFrames = getStackFrames(baseThrowable);
 		StringBuilder sb = new StringBuilder();
 		if (mainFrames.length > 0) {
 			sb.append(mainFrames[0]).append(LINE_DELIMITER);
@@ -73,4 +71,55 @@ public class ExceptionUtils {
 	public static String getStackTrace(Throwable throwable, Throwable baseThrowable) {
 		return getStackTrace(throwable, baseThrowable, false);
 	}
+
+	private static Set<String> getStackFrames(Throwable throwable) {
+		if (throwable.getCause() != null || throwable.getSuppressed().length > 0) {
+			return Arrays.stream(org.apache.commons.lang3.exception.ExceptionUtils.getStackFrames(throwable)).collect(Collectors.toSet());
+		}
+		// A plain Throwable is printed as its header and "at" lines only, so there is no need to print it to a buffer and parse back
+		StackTraceElement[] elements = throwable.getStackTrace();
+		Set<String> frames = new HashSet<>(elements.length * 4 / 3 + 2);
+		frames.add(throwable.toString());
+		for (StackTraceElement element : elements) {
+			frames.add("\tat " + element);
+		}
+		return frames;
+	}
+
+	private static long mix(long hash, int value) {
+		return (hash ^ value) * 0x100000001b3L;
+	}
+
+	private static long fingerprint(long hash, Throwable throwable, Set<Throwable> visited) {
+		if (!visited.add(throwable)) {
+			return mix(hash, 0);
+		}
+		long result = mix(hash, throwable.getClass().getName().hashCode());
+		for (StackTraceElement element : throwable.getStackTrace()) {
+			result = mix(result, element.getClassName().hashCode());
+			result = mix(result, element.getMethodName().hashCode());
+			result = mix(result, Objects.hashCode(element.getFileName()));
+			result = mix(result, element.getLineNumber());
+		}
+		for (Throwable suppressed : throwable.getSuppressed()) {
+			result = fingerprint(mix(result, 1), suppressed, visited);
+		}
+		Throwable cause = throwable.getCause();
+		if (cause != null) {
+			result = fingerprint(mix(result, 2), cause, visited);
+		}
+		return result;
+	}
+
+	/**
+	 * Calculate a fingerprint of the throwable stack trace. The fingerprint is based on exception types and stack frames of the
+	 * throwable, its causes and suppressed exceptions, but not on their messages, so the same failure with different details in the
+	 * message has the same fingerprint. Stack traces are not rendered to strings during the calculation.
+	 *
+	 * @param throwable Throwable to calculate the fingerprint for
+	 * @return Stack trace fingerprint
+	 */
+	public static long fingerprint(Throwable throwable) {
+		return fingerprint(0xcbf29ce484222325L, throwable, Collections.newSetFromMap(new IdentityHashMap<>()));
+	}
 }
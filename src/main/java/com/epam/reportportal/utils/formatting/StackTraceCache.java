@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.utils.formatting;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Launch-level cache of reported stack traces. Stack traces are identified by their {@link ExceptionUtils#fingerprint(Throwable)},
+ * the first occurrences of each stack trace, up to the threshold, are rendered in full along with the fingerprint. Further
+ * occurrences are rendered in a compact form: exception headers and a reference to the fingerprint of the full stack trace.
+ * <p>
+ * A threshold less than or equal to zero disables the deduplication, all stack traces are rendered in full then.
+ */
+public class StackTraceCache {
+	static final int MAX_SIZE = 4096;
+
+	public static final String FINGERPRINT_PREFIX = "Stack trace fingerprint: ";
+	public static final String REFERENCE_PATTERN = "\t... the same stack trace as fingerprint %s, occurrence: %d";
+
+	private final int threshold;
+	private final Map<Long, AtomicInteger> occurrences = new ConcurrentHashMap<>();
+
+	public StackTraceCache(int fullTraceThreshold) {
+		threshold = fullTraceThreshold;
+	}
+
+	/**
+	 * @return the number of times the same stack trace is rendered in full
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	@Nonnull
+	private static String toString(long fingerprint) {
+		return String.format("%016x", fingerprint);
+	}
+
+	@Nonnull
+	private static String renderReference(@Nonnull Throwable throwable, long fingerprint, int occurrence) {
+		StringBuilder sb = new StringBuilder(throwable.toString()).append(ExceptionUtils.LINE_DELIMITER);
+		Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		visited.add(throwable);
+		Throwable cause = throwable.getCause();
+		while (cause != null && visited.add(cause)) {
+			sb.append("Caused by: ").append(cause).append(ExceptionUtils.LINE_DELIMITER);
+			cause = cause.getCause();
+		}
+		sb.append(String.format(REFERENCE_PATTERN, toString(fingerprint), occurrence));
+		return sb.append(ExceptionUtils.LINE_DELIMITER).toString();
+	}
+
+	/**
+	 * Render a stack trace of the throwable, in full or as a reference to the same stack trace which was rendered before.
+	 *
+	 * @param throwable Throwable to render
+	 * @param renderer  a function which renders the full stack trace
+	 * @return Rendered stack trace
+	 */
+	@Nonnull
+	public String format(@Nonnull Throwable throwable, @Nonnull Function<Throwable, String> renderer) {
+		if (threshold <= 0) {
+			return renderer.apply(throwable);
+		}
+		long fingerprint = ExceptionUtils.fingerprint(throwable);
+		if (occurrences.size() >= MAX_SIZE) {
+			occurrences.clear();
+		}
+		int occurrence = occurrences.computeIfAbsent(fingerprint, k -> new AtomicInteger()).incrementAndGet();
+		if (occurrence > threshold) {
+			return renderReference(throwable, fingerprint, occurrence);
+		}
+		String stackTrace = renderer.apply(throwable);
+		StringBuilder sb = new StringBuilder(stackTrace.length() + FINGERPRINT_PREFIX.length() + 18).append(stackTrace);
+		if (!stackTrace.endsWith(ExceptionUtils.LINE_DELIMITER)) {
+			sb.append(ExceptionUtils.LINE_DELIMITER);
+		}
+		return sb.append(FINGERPRINT_PREFIX).append(toString(fingerprint)).toString();
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.formatting.templating;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A template pattern parsed into a sequence of text and reference parts. Parsing happens once per pattern and
+ * {@link TemplateConfiguration}, compiled templates are cached, so rendering doesn't run regular expressions or split field paths.
+ */
+public class CompiledTemplate {
+	private static final Logger LOGGER = LoggerFactory.getLogger(CompiledTemplate.class);
+
+	private static final Pattern TEMPLATE_GROUP = Pattern.compile("\\{([\\w$]+(\\.[\\w$]+)*)}");
+	private static final String TEMPLATE_START = "{";
+	private static final int CACHE_SIZE = 4096;
+	private static final int MAX_BUILDER_CAPACITY = 8192;
+
+	private static final Map<TemplateConfiguration, Map<String, CompiledTemplate>> CACHE = new ConcurrentHashMap<>();
+	private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<>();
+
+	private final String pattern;
+	private final TemplateConfiguration config;
+	private final Part[] parts;
+
+	/**
+	 * A part of a template: either a text or a reference, like {@code {this.user.name}}.
+	 */
+	private static class Part {
+		private final String text;
+		private final String path;
+		private final String[] fields;
+
+		private Part(@Nonnull String partText, @Nullable String referencePath, @Nullable String[] referenceFields) {
+			text = partText;
+			path = referencePath;
+			fields = referenceFields;
+		}
+
+		private boolean isReference() {
+			return fields != null;
+		}
+	}
+
+	private CompiledTemplate(@Nonnull String templatePattern, @Nonnull TemplateConfiguration templateConfig) {
+		pattern = templatePattern;
+		config = templateConfig;
+		if (!templatePattern.contains(TEMPLATE_START)) {
+			parts = new Part[] { new Part(templatePattern, null, null) };
+			return;
+		}
+		List<Part> templateParts = new ArrayList<>();
+		Pattern delimiter = Pattern.compile(Pattern.quote(templateConfig.getFieldDelimiter()));
+		Matcher matcher = TEMPLATE_GROUP.matcher(templatePattern);
+		int textStart = 0;
+		while (matcher.find()) {
+			if (matcher.start() > textStart) {
+				templateParts.add(new Part(templatePattern.substring(textStart, matcher.start()), null, null));
+			}
+			String path = matcher.group(1);
+			templateParts.add(new Part(matcher.group(0), path, delimiter.split(path)));
+			textStart = matcher.end();
+		}
+		if (textStart < templatePattern.length()) {
+			templateParts.add(new Part(templatePattern.substring(textStart), null, null));
+		}
+		parts = templateParts.toArray(new Part[0]);
+	}
+
+	/**
+	 * Returns a compiled template for given pattern and configuration, compiles it if there is no such template in cache.
+	 *
+	 * @param pattern text pattern to compile
+	 * @param config  templating mechanism configuration
+	 * @return compiled template
+	 */
+	@Nonnull
+	public static CompiledTemplate compile(@Nonnull String pattern, @Nonnull TemplateConfiguration config) {
+		if (!pattern.contains(TEMPLATE_START)) {
+			// Most of item names are plain text, don't pollute the cache with them
+			return new CompiledTemplate(pattern, config);
+		}
+		Map<String, CompiledTemplate> templates = CACHE.get(config);
+		if (templates == null) {
+			// Configuration is mutable, so use a copy as the key
+			TemplateConfiguration key = new TemplateConfiguration(config);
+			templates = CACHE.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+		}
+		CompiledTemplate template = templates.get(pattern);
+		if (template == null) {
+			if (templates.size() >= CACHE_SIZE) {
+				// Patterns can contain runtime values, so keep memory bounded
+				templates.clear();
+			}
+			template = templates.computeIfAbsent(pattern, p -> new CompiledTemplate(p, new TemplateConfiguration(config)));
+		}
+		return template;
+	}
+
+	@Nullable
+	private Object getValue(@Nonnull String name, @Nullable Object object, @Nullable Executable executable,
+			@Nullable Map<String, Object> parameters) {
+		if (object != null && name.equals(config.getSelfName())) {
+			return object;
+		}
+		if (executable != null) {
+			if (name.equals(config.getClassRef())) {
+				return executable.getDeclaringClass().getName();
+			}
+			if (name.equals(config.getClassName())) {
+				return executable.getDeclaringClass().getSimpleName();
+			}
+			if (name.equals(config.getMethodName())) {
+				return executable.getName();
+			}
+		}
+		return parameters != null ? parameters.get(name) : null;
+	}
+
+	private boolean hasValue(@Nonnull String name, @Nullable Object object, @Nullable Executable executable,
+			@Nullable Map<String, Object> parameters) {
+		if (object != null && name.equals(config.getSelfName())) {
+			return true;
+		}
+		if (executable != null && (name.equals(config.getClassRef()) || name.equals(config.getClassName()) || name.equals(
+				config.getMethodName()))) {
+			return true;
+		}
+		return parameters != null && parameters.containsKey(name);
+	}
+
+	@Nullable
+	private String getReplacement(@Nonnull Part part, @Nullable Object object, @Nullable Executable executable,
+			@Nullable Map<String, Object> parameters) {
+		String variableName = part.fields[0];
+		if (!hasValue(variableName, object, executable, parameters)) {
+			LOGGER.error("Param - {} was not found", variableName);
+			return null;
+		}
+		Object param = getValue(variableName, object, executable, parameters);
+		try {
+			return TemplateProcessing.retrieveValue(config, 1, part.fields, param);
+		} catch (Throwable e) {
+			LOGGER.error("Unable to parse: {}", part.path, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Format the template with given parameters.
+	 *
+	 * @param object     current object context
+	 * @param executable current execution context
+	 * @param parameters a map which will be used to locate reference replacements in pattern
+	 * @return formatted string
+	 */
+	@Nonnull
+	public String render(@Nullable Object object, @Nullable Executable executable, @Nullable Map<String, Object> parameters) {
+		if (parts.length == 0 || (parts.length == 1 && !parts[0].isReference())) {
+			return pattern;
+		}
+		// Field values are retrieved with user code, which can render templates too, so take the builder out while it's in use
+		StringBuilder builder = BUILDER.get();
+		if (builder == null) {
+			builder = new StringBuilder(pattern.length() * 2);
+		} else {
+			BUILDER.set(null);
+		}
+		try {
+			for (Part part : parts) {
+				if (part.isReference()) {
+					String replacement = getReplacement(part, object, executable, parameters);
+					builder.append(replacement != null ? replacement : part.text);
+				} else {
+					builder.append(part.text);
+				}
+			}
+			return builder.toString();
+		} finally {
+			if (builder.capacity() <= MAX_BUILDER_CAPACITY) {
+				builder.setLength(0);
+				BUILDER.set(builder);
+			}
+		}
+	}
+
+	/**
+	 * Format the template with given parameters.
+	 *
+	 * @param parameters a map which will be used to locate reference replacements in pattern
+	 * @return formatted string
+	 */
+	@Nonnull
+	public String render(@Nullable Map<String, Object> parameters) {
+		return render(null, null, parameters);
+	}
+
+	@Nonnull
+	public String getPattern() {
+		return pattern;
+	}
+}
@@ -81,7 +81,8 @@ public class TemplateConfiguration {
 		return className.equals(that.className) && classRef.equals(that.classRef) && methodName.equals(that.methodName) && selfName.equals(
 				that.selfName) && fieldDelimiter.equals(that.fieldDelimiter) && iterableStart.equals(that.iterableStart)
 				&& iterableEnd.equals(that.iterableEnd) && iterableDelimiter.equals(that.iterableDelimiter)
-				&& arrayStart.equals(that.arrayStart) && arrayEnd.equals(that.arrayEnd) && arrayDelimiter.equals(that.arrayDelimiter);
+				&& arrayStart.equals(that.arrayStart) && arrayEnd.equals(that.arrayEnd) && arrayDelimiter.equals(that.arrayDelimiter)
+				&& methodCallStart.equals(that.methodCallStart) && methodCallEnd.equals(that.methodCallEnd);
 	}
 
 	@Override
@@ -119,6 +120,27 @@ public class TemplateConfiguration {
 		methodCallEnd = config.methodCallEndSymbol();
 	}
 
+	/**
+	 * Copy constructor.
+	 *
+	 * @param config configuration to copy
+	 */
+	public TemplateConfiguration(TemplateConfiguration config) {
+		className = config.className;
+		classRef = config.classRef;
+		methodName = config.methodName;
+		selfName = config.selfName;
+		fieldDelimiter = config.fieldDelimiter;
+		iterableStart = config.iterableStart;
+		iterableEnd = config.iterableEnd;
+		iterableDelimiter = config.iterableDelimiter;
+		arrayStart = config.arrayStart;
+		arrayEnd = config.arrayEnd;
+		arrayDelimiter = config.arrayDelimiter;
+		methodCallStart = config.methodCallStart;
+		methodCallEnd = config.methodCallEnd;
+	}
+
 	public String getClassName() {
 		return className;
 	}
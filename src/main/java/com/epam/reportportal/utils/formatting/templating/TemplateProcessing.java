@@ -24,13 +24,8 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Executable;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import static java.util.Optional.ofNullable;
 
 /**
  * Class for processing simple string templates.
@@ -40,14 +35,13 @@ public class TemplateProcessing {
 
 	public static final String NULL_VALUE = "NULL";
 
-	private static final Pattern TEMPLATE_GROUP = Pattern.compile("\\{([\\w$]+(\\.[\\w$]+)*)}");
-
 	private TemplateProcessing() {
 		throw new IllegalStateException("Static only class");
 	}
 
 	/**
-	 * Format given pattern with given parameters and configuration.
+	 * Format given pattern with given parameters and configuration. The pattern is compiled once and cached, see
+	 * {@link CompiledTemplate}.
 	 *
 	 * @param pattern    text patter to format
 	 * @param object     current object context
@@ -58,24 +52,7 @@ public class TemplateProcessing {
 	 */
 	public static String processTemplate(@Nonnull String pattern, @Nullable Object object, @Nullable Executable executable,
 			@Nullable Map<String, Object> parameters, @Nonnull TemplateConfiguration config) {
-		HashMap<String, Object> myParams = ofNullable(parameters).map(HashMap::new).orElseGet(HashMap::new);
-		ofNullable(executable).ifPresent(e -> {
-			myParams.put(config.getMethodName(), e.getName());
-			Class<?> clazz = e.getDeclaringClass();
-			myParams.put(config.getClassName(), clazz.getSimpleName());
-			myParams.put(config.getClassRef(), clazz.getName());
-		});
-		ofNullable(object).ifPresent(o -> myParams.put(config.getSelfName(), object));
-		Matcher matcher = TEMPLATE_GROUP.matcher(pattern);
-		@SuppressWarnings("StringBufferMayBeStringBuilder")
-		StringBuffer stringBuffer = new StringBuffer();
-		while (matcher.find()) {
-			String templatePart = matcher.group(1);
-			String replacement = getReplacement(templatePart, myParams, config);
-			matcher.appendReplacement(stringBuffer, Matcher.quoteReplacement(replacement != null ? replacement : matcher.group(0)));
-		}
-		matcher.appendTail(stringBuffer);
-		return stringBuffer.toString();
+		return CompiledTemplate.compile(pattern, config).render(object, executable, parameters);
 	}
 
 	/**
@@ -91,24 +68,6 @@ public class TemplateProcessing {
 		return processTemplate(pattern, null, null, parameters, config);
 	}
 
-	@Nullable
-	private static String getReplacement(@Nonnull String templatePart, @Nonnull Map<String, Object> parametersMap,
-			@Nonnull TemplateConfiguration templateConfig) {
-		String[] fields = templatePart.split(Pattern.quote(templateConfig.getFieldDelimiter()));
-		String variableName = fields[0];
-		if (!parametersMap.containsKey(variableName)) {
-			LOGGER.error("Param - {} was not found", variableName);
-			return null;
-		}
-		Object param = parametersMap.get(variableName);
-		try {
-			return retrieveValue(templateConfig, 1, fields, param);
-		} catch (Throwable e) {
-			LOGGER.error("Unable to parse: {}", templatePart, e);
-			return null;
-		}
-	}
-
 	/**
 	 * Example:
 	 * fields = {"object", "names", "hash"} from 'template part' = {object.names.hash}
@@ -19,18 +19,32 @@ package com.epam.reportportal.utils.http;
 import com.epam.reportportal.exception.InternalReportPortalClientException;
 import com.epam.reportportal.listeners.ListenerParameters;
 import com.epam.reportportal.service.BearerAuthInterceptor;
+import com.epam.reportportal.service.ConcurrencyLimitInterceptor;
 import com.epam.reportportal.service.OAuth2PasswordGrantAuthInterceptor;
+import com.epam.reportportal.service.metrics.MetricsInterceptor;
+import com.epam.reportportal.service.metrics.ReportingMetrics;
 import com.epam.reportportal.utils.SslUtils;
+import com.epam.reportportal.utils.concurrency.AdaptiveConcurrencyLimiter;
+import com.epam.reportportal.utils.concurrency.MultithreadingUtils;
 import jakarta.annotation.Nonnull;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
 import okhttp3.Credentials;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.logging.HttpLoggingInterceptor;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.net.ssl.*;
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.Proxy;
@@ -38,6 +52,9 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.*;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -50,6 +67,7 @@ public class ClientUtils {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ClientUtils.class);
 
 	private static final String HTTPS = "https";
+	private static final String WARMUP_PATH = "api/info";
 
 	private ClientUtils() {
 		throw new IllegalStateException("Static only class");
@@ -175,6 +193,111 @@ public class ClientUtils {
 		return builder.addInterceptor(ClientUtils.createAuthInterceptor(parameters));
 	}
 
+	@Nonnull
+	public static OkHttpClient.Builder setupConcurrencyLimitInterceptor(@Nonnull OkHttpClient.Builder builder,
+			@Nonnull ListenerParameters parameters) {
+		if (!parameters.isHttpConcurrencyAdaptive()) {
+			return builder;
+		}
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+				parameters.getHttpConcurrencyLimitInitial(),
+				parameters.getHttpConcurrencyLimitMin(),
+				parameters.getHttpConcurrencyLimitMax(),
+				parameters.getHttpConcurrencyLatencyTimeout().toMillis(),
+				TimeUnit.MILLISECONDS
+		);
+		ReportingMetrics metrics = ReportingMetrics.getInstance();
+		metrics.gauge(ReportingMetrics.HTTP_CONCURRENCY_LIMIT, limiter, AdaptiveConcurrencyLimiter::getLimit);
+		metrics.gauge(ReportingMetrics.HTTP_CONCURRENCY_IN_FLIGHT, limiter, AdaptiveConcurrencyLimiter::getInFlight);
+		return builder.addInterceptor(new ConcurrencyLimitInterceptor(limiter));
+	}
+
+	@Nonnull
+	public static OkHttpClient.Builder setupMetricsInterceptor(@Nonnull OkHttpClient.Builder builder) {
+		return builder.addInterceptor(new MetricsInterceptor());
+	}
+
+	@Nonnull
+	public static Dispatcher buildDispatcher(@Nonnull ListenerParameters parameters) {
+		// OkHttp creates non-daemon threads by default, which may hold JVM exit in async mode
+		Dispatcher dispatcher = new Dispatcher(MultithreadingUtils.buildCachedExecutorService("rp-http-"));
+		dispatcher.setMaxRequests(parameters.getHttpDispatcherMaxRequests());
+		dispatcher.setMaxRequestsPerHost(parameters.getHttpDispatcherMaxRequestsPerHost());
+		return dispatcher;
+	}
+
+	@Nonnull
+	public static ConnectionPool buildConnectionPool(@Nonnull ListenerParameters parameters) {
+		return new ConnectionPool(
+				parameters.getHttpConnectionPoolSize(),
+				parameters.getHttpConnectionPoolKeepAlive().toMillis(),
+				TimeUnit.MILLISECONDS
+		);
+	}
+
+	@Nonnull
+	public static OkHttpClient.Builder setupProtocol(@Nonnull OkHttpClient.Builder builder, @Nonnull ListenerParameters parameters) {
+		String protocolStr = parameters.getHttpProtocol();
+		if (isBlank(protocolStr)) {
+			return builder;
+		}
+		Protocol protocol;
+		try {
+			protocol = Protocol.get(protocolStr.trim().toLowerCase(Locale.ROOT));
+		} catch (IOException e) {
+			throw new InternalReportPortalClientException("Unable to parse HTTP protocol: " + protocolStr, e);
+		}
+		switch (protocol) {
+			case HTTP_1_1:
+				return builder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+			case H2_PRIOR_KNOWLEDGE:
+				return builder.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+			default:
+				throw new InternalReportPortalClientException("Unsupported HTTP protocol: " + protocolStr);
+		}
+	}
+
+	/**
+	 * Opens connections to ReportPortal in parallel, so the first reporting requests don't pay DNS, TCP and TLS handshakes. The method
+	 * doesn't wait for connections, opened connections are kept in the client's connection pool. Warm-up requests are sent without
+	 * client's interceptors, so they don't go through authentication and don't take concurrency limiter permits.
+	 *
+	 * @param client     an HTTP client to warm up
+	 * @param parameters ReportPortal parameters
+	 */
+	public static void warmUpConnections(@Nonnull OkHttpClient client, @Nonnull ListenerParameters parameters) {
+		int connectionNumber = parameters.getHttpWarmupConnections();
+		String baseUrl = parameters.getBaseUrl();
+		if (connectionNumber <= 0 || isBlank(baseUrl)) {
+			return;
+		}
+		HttpUrl url = HttpUrl.parse(baseUrl);
+		if (url == null) {
+			LOGGER.warn("Unable to warm up connections, invalid ReportPortal URL: {}", baseUrl);
+			return;
+		}
+		Request request = new Request.Builder().url(url.newBuilder().addPathSegments(WARMUP_PATH).build()).head().build();
+		Callback callback = new Callback() {
+			@Override
+			public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+				LOGGER.debug("Unable to warm up connection to ReportPortal", e);
+			}
+
+			@Override
+			public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+				response.close();
+			}
+		};
+		// The bare client shares connection pool, dispatcher, SSL and proxy settings with the original one
+		OkHttpClient.Builder bareBuilder = client.newBuilder();
+		bareBuilder.interceptors().clear();
+		bareBuilder.networkInterceptors().clear();
+		OkHttpClient bareClient = bareBuilder.build();
+		for (int i = 0; i < connectionNumber; i++) {
+			bareClient.newCall(request).enqueue(callback);
+		}
+	}
+
 	@Nonnull
 	public static OkHttpClient.Builder setupHttpLoggingInterceptor(@Nonnull OkHttpClient.Builder builder,
 			@Nonnull ListenerParameters parameters) {
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.http;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.utils.concurrency.MultithreadingUtils;
+import jakarta.annotation.Nonnull;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP infrastructure shared by ReportPortal, OAuth and statistics clients: connection pool, dispatcher and an executor for auxiliary
+ * I/O tasks. Clients with the same pool configuration share one runtime.
+ * <p>
+ * Runtimes live as long as the JVM and are never shut down: HTTP clients built on top of them don't have a close lifecycle. That
+ * doesn't hold resources of an idle process though, since all runtime threads are daemon ones and terminate when idle, and pooled
+ * connections are evicted after the configured keep-alive time.
+ */
+public class HttpRuntime {
+	private static final String AUXILIARY_THREAD_PREFIX = "rp-aux-io-";
+	private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60L;
+	private static final Map<List<Object>, HttpRuntime> RUNTIMES = new ConcurrentHashMap<>();
+
+	private final ConnectionPool connectionPool;
+	private final Dispatcher dispatcher;
+	private final ExecutorService executor;
+
+	private HttpRuntime(@Nonnull ListenerParameters parameters) {
+		connectionPool = ClientUtils.buildConnectionPool(parameters);
+		dispatcher = ClientUtils.buildDispatcher(parameters);
+		executor = MultithreadingUtils.buildExecutorService(AUXILIARY_THREAD_PREFIX, parameters);
+		if (executor instanceof ThreadPoolExecutor) {
+			ThreadPoolExecutor poolExecutor = (ThreadPoolExecutor) executor;
+			poolExecutor.setKeepAliveTime(IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+			poolExecutor.allowCoreThreadTimeOut(true);
+		}
+	}
+
+	@Nonnull
+	private static List<Object> getKey(@Nonnull ListenerParameters parameters) {
+		return Arrays.asList(
+				parameters.getHttpDispatcherMaxRequests(),
+				parameters.getHttpDispatcherMaxRequestsPerHost(),
+				parameters.getHttpConnectionPoolSize(),
+				parameters.getHttpConnectionPoolKeepAlive(),
+				parameters.getIoPoolSize(),
+				parameters.isIoPoolVirtual()
+		);
+	}
+
+	/**
+	 * Returns a runtime for given parameters, creates a new one if there is no runtime with the same configuration.
+	 *
+	 * @param parameters ReportPortal parameters
+	 * @return shared HTTP runtime
+	 */
+	@Nonnull
+	public static HttpRuntime get(@Nonnull ListenerParameters parameters) {
+		return RUNTIMES.computeIfAbsent(getKey(parameters), k -> new HttpRuntime(parameters));
+	}
+
+	/**
+	 * Creates an {@link OkHttpClient.Builder} which uses the runtime's connection pool and dispatcher.
+	 *
+	 * @return a new client builder
+	 */
+	@Nonnull
+	public OkHttpClient.Builder newClientBuilder() {
+		return new OkHttpClient.Builder().connectionPool(connectionPool).dispatcher(dispatcher);
+	}
+
+	@Nonnull
+	public ConnectionPool getConnectionPool() {
+		return connectionPool;
+	}
+
+	@Nonnull
+	public Dispatcher getDispatcher() {
+		return dispatcher;
+	}
+
+	/**
+	 * Returns an executor for auxiliary I/O tasks, which don't need a dedicated pool.
+	 *
+	 * @return shared executor
+	 */
+	@Nonnull
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+}
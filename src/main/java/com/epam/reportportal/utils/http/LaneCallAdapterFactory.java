@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.http;
+
+import io.reactivex.Scheduler;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
+import retrofit2.http.Multipart;
+import retrofit2.http.POST;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Retrofit {@link CallAdapter.Factory} which executes calls on one of two schedulers (lanes): log uploads go to the data lane, all
+ * other requests (launch, item start and finish, etc.) go to the control lane. That way bulk log batches can't delay item start
+ * responses which gate child items and logs.
+ */
+public class LaneCallAdapterFactory extends CallAdapter.Factory {
+	private static final String LOG_PATH_SUFFIX = "/log";
+
+	private final CallAdapter.Factory controlLane;
+	private final CallAdapter.Factory dataLane;
+
+	/**
+	 * @param controlScheduler scheduler for launch and item requests
+	 * @param dataScheduler    scheduler for log requests
+	 */
+	public LaneCallAdapterFactory(@Nonnull Scheduler controlScheduler, @Nonnull Scheduler dataScheduler) {
+		controlLane = RxJava2CallAdapterFactory.createWithScheduler(controlScheduler);
+		dataLane = RxJava2CallAdapterFactory.createWithScheduler(dataScheduler);
+	}
+
+	/**
+	 * @param controlLane call adapter factory for launch and item requests
+	 * @param dataLane    call adapter factory for log requests
+	 */
+	public LaneCallAdapterFactory(@Nonnull CallAdapter.Factory controlLane, @Nonnull CallAdapter.Factory dataLane) {
+		this.controlLane = controlLane;
+		this.dataLane = dataLane;
+	}
+
+	/**
+	 * Checks if a method described by given annotations is a log upload call.
+	 *
+	 * @param annotations Retrofit interface method annotations
+	 * @return {@code true} if the call belongs to the data lane
+	 */
+	public static boolean isDataLane(@Nonnull Annotation[] annotations) {
+		for (Annotation annotation : annotations) {
+			if (annotation instanceof Multipart) {
+				return true;
+			}
+			if (annotation instanceof POST && ((POST) annotation).value().endsWith(LOG_PATH_SUFFIX)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@Nullable
+	public CallAdapter<?, ?> get(@Nonnull Type returnType, @Nonnull Annotation[] annotations, @Nonnull Retrofit retrofit) {
+		return (isDataLane(annotations) ? dataLane : controlLane).get(returnType, annotations, retrofit);
+	}
+}
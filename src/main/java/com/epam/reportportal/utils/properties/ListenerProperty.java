@@ -44,6 +44,18 @@ public enum ListenerProperty {
      * Enable / Disable raw HTTP requests logging
      */
     HTTP_LOGGING("rp.http.logging", false),
+    /**
+     * Enable / Disable asynchronous HTTP calls: requests are enqueued to HTTP client dispatcher instead of blocking I/O pool threads
+     */
+    HTTP_ASYNC("rp.http.async", false),
+    /**
+     * HTTP protocol to use: {@code http/1.1} or {@code h2_prior_knowledge} (HTTP/2 over plain-text connections)
+     */
+    HTTP_PROTOCOL("rp.http.protocol", false),
+    /**
+     * Number of connections to ReportPortal to open in parallel on client creation
+     */
+    HTTP_WARMUP_CONNECTIONS("rp.http.warmup.connections", false),
 
     // HTTP timeouts till the next blank line
     HTTP_CALL_TIMEOUT_VALUE("rp.http.timeout.call.value", false),
@@ -55,6 +67,24 @@ public enum ListenerProperty {
     HTTP_WRITE_TIMEOUT_VALUE("rp.http.timeout.write.value", false),
     HTTP_WRITE_TIMEOUT_UNIT("rp.http.timeout.write.unit", false),
 
+    // HTTP adaptive concurrency limit properties till the next blank line
+    /**
+     * Enable / Disable adaptive (AIMD) concurrency limiting of requests to ReportPortal
+     */
+    HTTP_CONCURRENCY_ADAPTIVE("rp.http.concurrency.adaptive", false),
+    HTTP_CONCURRENCY_LIMIT_INITIAL("rp.http.concurrency.limit.initial", false),
+    HTTP_CONCURRENCY_LIMIT_MIN("rp.http.concurrency.limit.min", false),
+    HTTP_CONCURRENCY_LIMIT_MAX("rp.http.concurrency.limit.max", false),
+    HTTP_CONCURRENCY_LATENCY_TIMEOUT_VALUE("rp.http.concurrency.latency.timeout.value", false),
+    HTTP_CONCURRENCY_LATENCY_TIMEOUT_UNIT("rp.http.concurrency.latency.timeout.unit", false),
+
+    // HTTP dispatcher and connection pool properties till the next blank line
+    HTTP_DISPATCHER_MAX_REQUESTS("rp.http.dispatcher.max.requests", false),
+    HTTP_DISPATCHER_MAX_REQUESTS_PER_HOST("rp.http.dispatcher.max.requests.per.host", false),
+    HTTP_CONNECTION_POOL_SIZE("rp.http.connection.pool.size", false),
+    HTTP_CONNECTION_POOL_KEEP_ALIVE_VALUE("rp.http.connection.pool.keep.alive.value", false),
+    HTTP_CONNECTION_POOL_KEEP_ALIVE_UNIT("rp.http.connection.pool.keep.alive.unit", false),
+
     PROJECT_NAME("rp.project", true),
     LAUNCH_NAME("rp.launch", true),
     /**
@@ -101,6 +131,31 @@ public enum ListenerProperty {
     CALLBACK_REPORTING_ENABLED("rp.reporting.callback", false),
     SKIPPED_AS_ISSUE("rp.skipped.issue", false),
     IO_POOL_SIZE("rp.io.pool.size", false),
+    /**
+     * Size of a separate I/O pool for log batch uploads. Zero value means logs share the main I/O pool with launch and item requests.
+     */
+    IO_POOL_LOG_SIZE("rp.io.pool.log.size", false),
+    /**
+     * Use virtual threads for I/O pools instead of fixed platform thread pools. Works only on Java 21+, ignored otherwise.
+     */
+    IO_POOL_VIRTUAL("rp.io.pool.virtual", false),
+    /**
+     * Time to live of ReportPortal server info and project settings cached on disk. Caching is disabled if not set.
+     */
+    SERVER_INFO_CACHE_TTL_VALUE("rp.server.info.cache.ttl.value", false),
+    SERVER_INFO_CACHE_TTL_UNIT("rp.server.info.cache.ttl.unit", false),
+    /**
+     * Directory for ReportPortal server info cache files
+     */
+    SERVER_INFO_CACHE_DIR("rp.server.info.cache.dir", false),
+    /**
+     * Register client reporting metrics MBean in the platform MBean server
+     */
+    METRICS_JMX_ENABLED("rp.metrics.jmx.enabled", false),
+    /**
+     * Aggregate repeated invocations of all {@link com.epam.reportportal.annotations.Step} methods under the same parent item
+     */
+    STEP_AGGREGATION("rp.step.aggregate", false),
 
     /**
      * SSL keystore and truststore configuration properties.
@@ -121,6 +176,10 @@ public enum ListenerProperty {
     CLIENT_JOIN_MODE_VALUE("rp.client.join.mode", false),
     FILE_LOCK_NAME("rp.client.join.file.lock.name", false),
     FILE_SYNC_NAME("rp.client.join.file.sync.name", false),
+    /**
+     * A name of a memory-mapped file which is used to share launch ID and instance heartbeats in {@code SHARED_MEMORY} client join mode.
+     */
+    FILE_SHARED_MEMORY_NAME("rp.client.join.file.shm.name", false),
     CLIENT_JOIN_LOCK_PORT("rp.client.join.port", false),
 
     /**
@@ -154,6 +213,11 @@ public enum ListenerProperty {
      * Toggle the feature to truncate Stack Traces of exceptions that being logged to ReportPortal. Default value: <code>true</code>.
      */
     EXCEPTION_TRUNCATE("rp.truncation.exception", false),
+    /**
+     * How many times the same Stack Trace is logged to ReportPortal in full during a launch, further occurrences are logged as a
+     * reference to the full Stack Trace. Default value: <code>0</code>, which means no deduplication.
+     */
+    EXCEPTION_DEDUPLICATION_THRESHOLD("rp.exception.dedup.threshold", false),
 
 	/**
 	 * Toggle the feature to replace basic binary characters with \uFFFD char. Default value: <code>true</code>.
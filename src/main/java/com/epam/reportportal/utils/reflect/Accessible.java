@@ -60,7 +60,7 @@ public class Accessible {
 	 */
 	@Nonnull
 	public AccessibleMethod method(@Nonnull String m, @Nullable Class<?>... parameterTypes) throws NoSuchMethodException {
-		return new AccessibleMethod(object, getMethod(m, parameterTypes));
+		return new AccessibleMethod(object, MemberCache.of(object.getClass()).getMethod(m, parameterTypes));
 	}
 
 	/**
@@ -83,7 +83,7 @@ public class Accessible {
 	 */
 	@Nonnull
 	public AccessibleField field(@Nonnull String name) throws NoSuchFieldException {
-		return new AccessibleField(object, getField(name));
+		return new AccessibleField(object, MemberCache.of(object.getClass()).getField(name));
 	}
 
 	/**
@@ -96,40 +96,4 @@ public class Accessible {
 	public static Accessible on(@Nonnull Object object) {
 		return new Accessible(object);
 	}
-
-	@Nonnull
-	private Field getField(@Nonnull String fieldName) throws NoSuchFieldException {
-		Class<?> clazz = object.getClass();
-		try {
-			return clazz.getField(fieldName);
-		} catch (NoSuchFieldException e) {
-			do {
-				try {
-					return clazz.getDeclaredField(fieldName);
-				} catch (NoSuchFieldException ignore) {
-				}
-
-				clazz = clazz.getSuperclass();
-			} while (clazz != null);
-			throw e;
-		}
-	}
-
-	@Nonnull
-	private Method getMethod(@Nonnull String methodName, @Nullable Class<?>... parameterTypes) throws NoSuchMethodException {
-		Class<?> clazz = object.getClass();
-		try {
-			return clazz.getMethod(methodName, parameterTypes);
-		} catch (NoSuchMethodException e) {
-			do {
-				try {
-					return clazz.getDeclaredMethod(methodName, parameterTypes);
-				} catch (NoSuchMethodException ignore) {
-				}
-
-				clazz = clazz.getSuperclass();
-			} while (clazz != null);
-			throw e;
-		}
-	}
 }
@@ -19,7 +19,9 @@ package com.epam.reportportal.utils.reflect;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 
 /**
  * Utility class to decorate routine code of setting and getting a field thought Reflections.
@@ -28,10 +30,21 @@ public class AccessibleField {
 
 	private final Field f;
 	private final Object bean;
+	private final MethodHandle getter;
+	private final MethodHandle setter;
 
 	AccessibleField(@Nonnull Object bean, @Nonnull Field f) {
 		this.bean = bean;
 		this.f = f;
+		if (Modifier.isStatic(f.getModifiers()) || f.getDeclaringClass().isInstance(bean)) {
+			MemberCache.FieldHandles handles = MemberCache.of(f.getDeclaringClass()).getFieldHandles(f);
+			this.getter = handles.getter;
+			this.setter = handles.setter;
+		} else {
+			// Let reflection report the error
+			this.getter = null;
+			this.setter = null;
+		}
 	}
 
 	@Nonnull
@@ -45,6 +58,16 @@ public class AccessibleField {
 	 * @param value value to set
 	 */
 	public void setValue(@Nullable Object value) {
+		if (this.setter != null && MemberCache.isApplicable(this.f.getType(), value)) {
+			try {
+				this.setter.invokeExact(this.bean, value);
+				return;
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
 		try {
 			this.f.set(this.bean, value);
 		} catch (IllegalAccessException accessException) { //NOSONAR
@@ -64,6 +87,15 @@ public class AccessibleField {
 	 */
 	@Nullable
 	public Object getValue() {
+		if (this.getter != null) {
+			try {
+				return (Object) this.getter.invokeExact(this.bean);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
 		try {
 			return this.f.get(this.bean);
 		} catch (IllegalAccessException accessException) { //NOSONAR
@@ -19,20 +19,31 @@ package com.epam.reportportal.utils.reflect;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 /**
  * Utility class to decorate routine code of invoking a method thought Reflections.
  */
 public class AccessibleMethod {
 
+	private static final Object[] NO_ARGS = new Object[0];
+
 	private final Method method;
 	private final Object bean;
+	private final MethodHandle handle;
 
 	AccessibleMethod(@Nonnull Object bean, @Nonnull Method method) {
 		this.bean = bean;
 		this.method = method;
+		if (Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass().isInstance(bean)) {
+			this.handle = MemberCache.of(method.getDeclaringClass()).getMethodHandle(method);
+		} else {
+			// Let reflection report the error
+			this.handle = null;
+		}
 	}
 
 	/**
@@ -44,6 +55,17 @@ public class AccessibleMethod {
 	 */
 	@Nullable
 	public Object invoke(@Nullable Object... args) throws Throwable {
+		if (this.handle != null) {
+			Object[] arguments = args == null ? NO_ARGS : args;
+			int parameterCount = this.method.getParameterCount();
+			if (parameterCount == arguments.length && (parameterCount == 0 || MemberCache.isApplicable(
+					this.method.getParameterTypes(),
+					arguments
+			))) {
+				return (Object) this.handle.invokeExact(this.bean, arguments);
+			}
+			// Wrong arguments, let reflection report the error
+		}
 		try {
 			return invoke(this.bean, this.method, args);
 		} catch (IllegalAccessException accessException) { //NOSONAR
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.reflect;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-class cache of resolved fields and methods along with {@link MethodHandle}s to access them. Absent members are cached too, so
+ * repeating lookups of the same name never walk the class hierarchy and never throw internal exceptions again. The cache is bound to
+ * classes with {@link ClassValue}, so it doesn't prevent classes from unloading.
+ */
+final class MemberCache {
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType METHOD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private static final ClassValue<MemberCache> CACHE = new ClassValue<>() {
+		@Override
+		protected MemberCache computeValue(Class<?> type) {
+			return new MemberCache(type);
+		}
+	};
+
+	private final Class<?> type;
+	private final Map<String, Optional<Field>> fields = new ConcurrentHashMap<>();
+	private final Map<String, Optional<Method>> noArgMethods = new ConcurrentHashMap<>();
+	private final Map<List<Object>, Optional<Method>> methods = new ConcurrentHashMap<>();
+	private final Map<Field, FieldHandles> fieldHandles = new ConcurrentHashMap<>();
+	private final Map<Method, Optional<MethodHandle>> methodHandles = new ConcurrentHashMap<>();
+
+	/**
+	 * Getter and setter handles of a field, any of them is {@code null} if the field is not accessible through method handles.
+	 */
+	static final class FieldHandles {
+		final MethodHandle getter;
+		final MethodHandle setter;
+
+		private FieldHandles(@Nullable MethodHandle fieldGetter, @Nullable MethodHandle fieldSetter) {
+			getter = fieldGetter;
+			setter = fieldSetter;
+		}
+	}
+
+	private MemberCache(@Nonnull Class<?> cachedType) {
+		type = cachedType;
+	}
+
+	@Nonnull
+	static MemberCache of(@Nonnull Class<?> type) {
+		return CACHE.get(type);
+	}
+
+	@Nonnull
+	private Optional<Field> resolveField(@Nonnull String fieldName) {
+		Class<?> clazz = type;
+		try {
+			return Optional.of(clazz.getField(fieldName));
+		} catch (NoSuchFieldException e) {
+			do {
+				try {
+					return Optional.of(clazz.getDeclaredField(fieldName));
+				} catch (NoSuchFieldException ignore) {
+				}
+
+				clazz = clazz.getSuperclass();
+			} while (clazz != null);
+			return Optional.empty();
+		}
+	}
+
+	@Nonnull
+	private Optional<Method> resolveMethod(@Nonnull String methodName, @Nullable Class<?>... parameterTypes) {
+		Class<?> clazz = type;
+		try {
+			return Optional.of(clazz.getMethod(methodName, parameterTypes));
+		} catch (NoSuchMethodException e) {
+			do {
+				try {
+					return Optional.of(clazz.getDeclaredMethod(methodName, parameterTypes));
+				} catch (NoSuchMethodException ignore) {
+				}
+
+				clazz = clazz.getSuperclass();
+			} while (clazz != null);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Find a field in the class or its superclasses.
+	 *
+	 * @param fieldName field name
+	 * @return the field
+	 * @throws NoSuchFieldException no field with such name found
+	 */
+	@Nonnull
+	Field getField(@Nonnull String fieldName) throws NoSuchFieldException {
+		Optional<Field> field = fields.computeIfAbsent(fieldName, this::resolveField);
+		if (field.isPresent()) {
+			return field.get();
+		}
+		throw new NoSuchFieldException(fieldName);
+	}
+
+	/**
+	 * Find a method in the class or its superclasses.
+	 *
+	 * @param methodName     method name
+	 * @param parameterTypes an array of specific parameters to distinguish the method
+	 * @return the method
+	 * @throws NoSuchMethodException no method with such name found
+	 */
+	@Nonnull
+	Method getMethod(@Nonnull String methodName, @Nullable Class<?>... parameterTypes) throws NoSuchMethodException {
+		Optional<Method> method;
+		if (parameterTypes == null || parameterTypes.length == 0) {
+			method = noArgMethods.computeIfAbsent(methodName, this::resolveMethod);
+		} else {
+			List<Object> key = new ArrayList<>(parameterTypes.length + 1);
+			key.add(methodName);
+			key.addAll(Arrays.asList(parameterTypes));
+			method = methods.computeIfAbsent(key, k -> resolveMethod(methodName, parameterTypes));
+		}
+		if (method.isPresent()) {
+			return method.get();
+		}
+		throw new NoSuchMethodException(type.getName() + "." + methodName + argumentTypesToString(parameterTypes));
+	}
+
+	@Nonnull
+	private static String argumentTypesToString(@Nullable Class<?>[] parameterTypes) {
+		StringBuilder result = new StringBuilder("(");
+		if (parameterTypes != null) {
+			for (int i = 0; i < parameterTypes.length; i++) {
+				if (i > 0) {
+					result.append(", ");
+				}
+				Class<?> c = parameterTypes[i];
+				result.append(c == null ? "null" : c.getName());
+			}
+		}
+		return result.append(")").toString();
+	}
+
+	@Nonnull
+	private static MethodHandle adapt(@Nonnull MethodHandle handle, boolean isStatic, @Nonnull MethodType type) {
+		MethodHandle result = isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+		return result.asType(type);
+	}
+
+	@Nonnull
+	private static FieldHandles createFieldHandles(@Nonnull Field field) {
+		field.trySetAccessible();
+		boolean isStatic = Modifier.isStatic(field.getModifiers());
+		MethodHandle getter;
+		try {
+			getter = adapt(LOOKUP.unreflectGetter(field), isStatic, GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			getter = null;
+		}
+		MethodHandle setter;
+		try {
+			setter = adapt(LOOKUP.unreflectSetter(field), isStatic, SETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			setter = null;
+		}
+		return new FieldHandles(getter, setter);
+	}
+
+	@Nonnull
+	private static Optional<MethodHandle> createMethodHandle(@Nonnull Method method) {
+		method.trySetAccessible();
+		try {
+			MethodHandle handle = LOOKUP.unreflect(method);
+			if (handle.isVarargsCollector()) {
+				// Reflective calls pass varargs as an array, keep the same behavior
+				handle = handle.asFixedArity();
+			}
+			boolean isStatic = Modifier.isStatic(method.getModifiers());
+			handle = handle.asSpreader(Object[].class, method.getParameterCount());
+			return Optional.of(adapt(handle, isStatic, METHOD_TYPE));
+		} catch (IllegalAccessException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static boolean isWidening(@Nonnull Class<?> from, @Nonnull Class<?> to) {
+		if (from == to) {
+			return true;
+		}
+		if (from == boolean.class || to == boolean.class || to == char.class || to == byte.class) {
+			return false;
+		}
+		if (to == short.class) {
+			return from == byte.class;
+		}
+		if (from == double.class) {
+			return false;
+		}
+		if (to == double.class) {
+			return true;
+		}
+		if (from == float.class) {
+			return false;
+		}
+		if (to == float.class) {
+			return true;
+		}
+		if (to == long.class) {
+			return from != long.class;
+		}
+		return from != long.class && to == int.class;
+	}
+
+	/**
+	 * Checks if given value can be passed to a parameter of given type without an error, in the same way as reflective calls do.
+	 *
+	 * @param type  parameter type
+	 * @param value parameter value
+	 * @return {@code true} if the value is compatible with the type
+	 */
+	static boolean isApplicable(@Nonnull Class<?> type, @Nullable Object value) {
+		if (!type.isPrimitive()) {
+			return value == null || type.isInstance(value);
+		}
+		if (value == null) {
+			return false;
+		}
+		Class<?> primitive = MethodType.methodType(value.getClass()).unwrap().returnType();
+		return primitive.isPrimitive() && isWidening(primitive, type);
+	}
+
+	/**
+	 * Checks if given arguments can be passed to a method with given parameter types.
+	 *
+	 * @param types parameter types
+	 * @param args  arguments to pass
+	 * @return {@code true} if all arguments are compatible with the types
+	 */
+	static boolean isApplicable(@Nonnull Class<?>[] types, @Nonnull Object[] args) {
+		if (types.length != args.length) {
+			return false;
+		}
+		for (int i = 0; i < types.length; i++) {
+			if (!isApplicable(types[i], args[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns method handles to access a field declared in the class.
+	 *
+	 * @param field the field
+	 * @return getter and setter handles
+	 */
+	@Nonnull
+	FieldHandles getFieldHandles(@Nonnull Field field) {
+		return fieldHandles.computeIfAbsent(field, MemberCache::createFieldHandles);
+	}
+
+	/**
+	 * Returns a method handle of type {@code (Object, Object[])Object} to call a method declared in the class.
+	 *
+	 * @param method the method
+	 * @return method handle or {@code null} if the method is not accessible through method handles
+	 */
+	@Nullable
+	MethodHandle getMethodHandle(@Nonnull Method method) {
+		return methodHandles.computeIfAbsent(method, MemberCache::createMethodHandle).orElse(null);
+	}
+}
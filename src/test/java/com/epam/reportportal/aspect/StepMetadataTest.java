@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.aspect;
+
+import com.epam.reportportal.annotations.Step;
+import com.epam.reportportal.annotations.attribute.Attribute;
+import com.epam.reportportal.annotations.attribute.Attributes;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+
+public class StepMetadataTest {
+
+	@Mock
+	private MethodSignature methodSignature;
+
+	@Mock
+	private JoinPoint joinPoint;
+
+	@Step("Login as {user} with {1}")
+	@Attributes(attributes = @Attribute(key = "role", value = "admin"))
+	@SuppressWarnings("unused")
+	public void login(String user, String password, String unnamed) {
+	}
+
+	private Method loginMethod() throws NoSuchMethodException {
+		return getClass().getMethod("login", String.class, String.class, String.class);
+	}
+
+	@Test
+	public void test_metadata_is_cached_per_method() throws NoSuchMethodException {
+		Method method = loginMethod();
+		Step step = method.getAnnotation(Step.class);
+		when(methodSignature.getMethod()).thenReturn(method);
+		when(methodSignature.getParameterNames()).thenReturn(new String[] { "user", "password", "unnamed" });
+
+		StepMetadata metadata = StepMetadata.of(step, methodSignature);
+
+		assertThat(metadata, notNullValue());
+		assertThat(StepMetadata.of(step, methodSignature), sameInstance(metadata));
+	}
+
+	@Test
+	public void test_arguments_binding() throws NoSuchMethodException {
+		Method method = loginMethod();
+		when(methodSignature.getMethod()).thenReturn(method);
+		when(methodSignature.getParameterNames()).thenReturn(new String[] { "user", "password", "unnamed" });
+		when(joinPoint.getArgs()).thenReturn(new Object[] { "admin", null });
+
+		StepMetadata metadata = StepMetadata.of(method.getAnnotation(Step.class), methodSignature);
+		assertThat(metadata, notNullValue());
+		Map<String, Object> arguments = metadata.bindArguments(joinPoint);
+
+		assertThat(arguments, aMapWithSize(4));
+		assertThat(arguments, hasEntry("user", "admin"));
+		assertThat(arguments, hasEntry("0", "admin"));
+		assertThat(arguments, hasEntry("password", null));
+		assertThat(arguments, hasEntry("1", null));
+		assertThat(arguments, not(hasKey("unnamed")));
+		assertThat(arguments, not(hasKey("2")));
+	}
+
+	@Test
+	public void test_step_name_and_attributes() throws NoSuchMethodException {
+		Method method = loginMethod();
+		when(methodSignature.getMethod()).thenReturn(method);
+		when(methodSignature.getParameterNames()).thenReturn(new String[] { "user", "password", "unnamed" });
+		when(joinPoint.getArgs()).thenReturn(new Object[] { "admin", "secret", "value" });
+
+		StepMetadata metadata = StepMetadata.of(method.getAnnotation(Step.class), methodSignature);
+		assertThat(metadata, notNullValue());
+
+		assertThat(metadata.getName(joinPoint), equalTo("Login as admin with secret"));
+		Set<ItemAttributesRQ> attributes = metadata.getAttributes();
+		assertThat(attributes, hasSize(1));
+		ItemAttributesRQ attribute = attributes.iterator().next();
+		assertThat(attribute.getKey(), equalTo("role"));
+		assertThat(attribute.getValue(), equalTo("admin"));
+		// Requests are mutable, so every call returns new attribute instances
+		assertThat(metadata.getAttributes().iterator().next(), not(sameInstance(attribute)));
+	}
+}
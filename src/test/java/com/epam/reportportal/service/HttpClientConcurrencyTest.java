@@ -0,0 +1,281 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.utils.concurrency.MultithreadingUtils;
+import com.epam.ta.reportportal.ws.model.ApiInfo;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import okhttp3.*;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class HttpClientConcurrencyTest {
+	private static final int REQUEST_NUMBER = 30;
+
+	/**
+	 * Mock server dispatcher which holds every request for a while and tracks maximum number of requests processed at once.
+	 */
+	private static class ConcurrencyTrackingDispatcher extends Dispatcher {
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicInteger maxInFlight = new AtomicInteger();
+
+		@Override
+		@Nonnull
+		public MockResponse dispatch(@Nonnull RecordedRequest request) throws InterruptedException {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(100);
+			} finally {
+				inFlight.decrementAndGet();
+			}
+			return new MockResponse().setResponseCode(200);
+		}
+	}
+
+	private static int measureConcurrency(@Nonnull ListenerParameters parameters) throws Exception {
+		ConcurrencyTrackingDispatcher serverDispatcher = new ConcurrencyTrackingDispatcher();
+		try (MockWebServer server = new MockWebServer()) {
+			server.setDispatcher(serverDispatcher);
+			server.start();
+			parameters.setBaseUrl(server.url("/").toString());
+			parameters.setApiKey("test_api_key");
+			parameters.setProjectName("test-project");
+
+			OkHttpClient client = ReportPortal.builder().defaultClient(parameters);
+			assertThat(client, notNullValue());
+			CountDownLatch finished = new CountDownLatch(REQUEST_NUMBER);
+			for (int i = 0; i < REQUEST_NUMBER; i++) {
+				client.newCall(new Request.Builder().url(server.url("/api/v1/test")).build()).enqueue(new Callback() {
+					@Override
+					public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+						finished.countDown();
+					}
+
+					@Override
+					public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+						response.close();
+						finished.countDown();
+					}
+				});
+			}
+			assertThat(finished.await(30, TimeUnit.SECONDS), equalTo(true));
+		}
+		return serverDispatcher.maxInFlight.get();
+	}
+
+	@Test
+	public void test_default_client_limits_are_derived_from_io_pool_size() throws Exception {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setIoPoolSize(8);
+		parameters.setLogIoPoolSize(2);
+
+		assertThat(parameters.getHttpDispatcherMaxRequestsPerHost(), equalTo(10));
+		assertThat(parameters.getHttpDispatcherMaxRequests(), equalTo(64));
+		assertThat(parameters.getHttpConnectionPoolSize(), equalTo(10));
+		assertThat(measureConcurrency(parameters), equalTo(10));
+	}
+
+	@Test
+	public void test_default_client_respects_configured_dispatcher_limits() throws Exception {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setIoPoolSize(8);
+		parameters.setHttpDispatcherMaxRequestsPerHost(3);
+
+		assertThat(measureConcurrency(parameters), equalTo(3));
+	}
+
+	@Test
+	public void test_async_mode_does_not_hold_io_threads() throws Exception {
+		int requestNumber = 10;
+		CountDownLatch allReceived = new CountDownLatch(requestNumber);
+		try (MockWebServer server = new MockWebServer()) {
+			server.setDispatcher(new Dispatcher() {
+				@Override
+				@Nonnull
+				public MockResponse dispatch(@Nonnull RecordedRequest request) throws InterruptedException {
+					allReceived.countDown();
+					// Respond only when all requests are in flight, which is impossible if each of them holds an I/O thread
+					allReceived.await(10, TimeUnit.SECONDS);
+					return new MockResponse().setResponseCode(200).setBody("{}");
+				}
+			});
+			server.start();
+			ListenerParameters parameters = new ListenerParameters();
+			parameters.setBaseUrl(server.url("/").toString());
+			parameters.setApiKey("test_api_key");
+			parameters.setProjectName("test-project");
+			parameters.setIoPoolSize(1);
+			parameters.setHttpAsync(true);
+			ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-test-io-", 1);
+			try {
+				ReportPortalClient client = ReportPortal.builder().buildClient(ReportPortalClient.class, parameters, executor);
+				assertThat(client, notNullValue());
+				List<String> threads = new CopyOnWriteArrayList<>();
+				List<Maybe<ApiInfo>> calls = IntStream.range(0, requestNumber)
+						.mapToObj(i -> client.getApiInfo().doOnSuccess(r -> threads.add(Thread.currentThread().getName())).cache())
+						.collect(Collectors.toList());
+				calls.forEach(Maybe::subscribe);
+				assertThat(allReceived.await(10, TimeUnit.SECONDS), equalTo(true));
+				calls.forEach(c -> assertThat(c.timeout(10, TimeUnit.SECONDS).blockingGet(), notNullValue()));
+				assertThat(threads, everyItem(startsWith("rp-http-")));
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	@Test
+	public void test_async_mode_uploads_logs_on_log_executor() throws Exception {
+		try (MockWebServer server = new MockWebServer()) {
+			server.setDispatcher(new Dispatcher() {
+				@Override
+				@Nonnull
+				public MockResponse dispatch(@Nonnull RecordedRequest request) {
+					return new MockResponse().setResponseCode(200).setBody("{}");
+				}
+			});
+			server.start();
+			ListenerParameters parameters = new ListenerParameters();
+			parameters.setBaseUrl(server.url("/").toString());
+			parameters.setApiKey("test_api_key");
+			parameters.setProjectName("test-project");
+			parameters.setHttpAsync(true);
+			ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-test-io-", 1);
+			ExecutorService logExecutor = MultithreadingUtils.buildExecutorService("rp-test-log-", 1);
+			try {
+				ReportPortalClient client = ReportPortal.builder().buildClient(ReportPortalClient.class, parameters, executor, logExecutor);
+				assertThat(client, notNullValue());
+				List<String> threads = new CopyOnWriteArrayList<>();
+				assertThat(client.getApiInfo()
+						.doOnSuccess(r -> threads.add(Thread.currentThread().getName()))
+						.timeout(10, TimeUnit.SECONDS)
+						.blockingGet(), notNullValue());
+				assertThat(client.log(Collections.emptyList())
+						.doOnSuccess(r -> threads.add(Thread.currentThread().getName()))
+						.timeout(10, TimeUnit.SECONDS)
+						.blockingGet(), notNullValue());
+				assertThat(threads, contains(startsWith("rp-http-"), startsWith("rp-test-log-")));
+			} finally {
+				executor.shutdownNow();
+				logExecutor.shutdownNow();
+			}
+		}
+	}
+
+	@Test
+	public void test_default_clients_share_connection_pool_and_dispatcher() {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setBaseUrl("http://localhost");
+		parameters.setApiKey("test_api_key");
+		parameters.setHttpConnectionPoolKeepAlive(Duration.ofMillis(54321));
+		OkHttpClient first = ReportPortal.builder().defaultClient(parameters);
+		assertThat(first, notNullValue());
+		IntStream.range(0, 4).mapToObj(i -> ReportPortal.builder().defaultClient(parameters)).forEach(client -> {
+			assertThat(client, notNullValue());
+			assertThat(client, not(sameInstance(first)));
+			assertThat(client.dispatcher(), sameInstance(first.dispatcher()));
+			assertThat(client.connectionPool(), sameInstance(first.connectionPool()));
+		});
+	}
+
+	@Test
+	public void test_default_client_connection_pool_configuration() throws Exception {
+		int requestNumber = 8;
+		CountDownLatch allReceived = new CountDownLatch(requestNumber);
+		try (MockWebServer server = new MockWebServer()) {
+			server.setDispatcher(new Dispatcher() {
+				@Override
+				@Nonnull
+				public MockResponse dispatch(@Nonnull RecordedRequest request) throws InterruptedException {
+					allReceived.countDown();
+					// Hold the first requests until all of them are in flight, so each one gets its own connection
+					allReceived.await(10, TimeUnit.SECONDS);
+					return new MockResponse().setResponseCode(200);
+				}
+			});
+			server.start();
+			ListenerParameters parameters = new ListenerParameters();
+			parameters.setBaseUrl(server.url("/").toString());
+			parameters.setApiKey("test_api_key");
+			parameters.setHttpDispatcherMaxRequests(100);
+			parameters.setHttpDispatcherMaxRequestsPerHost(20);
+			parameters.setHttpConnectionPoolKeepAlive(Duration.ofSeconds(30));
+
+			OkHttpClient client = ReportPortal.builder().defaultClient(parameters);
+			assertThat(client.dispatcher().getMaxRequests(), equalTo(100));
+			assertThat(client.dispatcher().getMaxRequestsPerHost(), equalTo(20));
+			assertThat(parameters.getHttpConnectionPoolSize(), equalTo(20));
+
+			CountDownLatch finished = new CountDownLatch(requestNumber);
+			for (int i = 0; i < requestNumber; i++) {
+				client.newCall(new Request.Builder().url(server.url("/api/v1/test")).build()).enqueue(new Callback() {
+					@Override
+					public void onFailure(@Nonnull Call call, @Nonnull IOException e) {
+						finished.countDown();
+					}
+
+					@Override
+					public void onResponse(@Nonnull Call call, @Nonnull Response response) {
+						response.close();
+						finished.countDown();
+					}
+				});
+			}
+			assertThat(finished.await(30, TimeUnit.SECONDS), equalTo(true));
+			// OkHttp's default pool would keep only 5 idle connections
+			ConnectionPool pool = client.connectionPool();
+			await().atMost(10, TimeUnit.SECONDS).until(pool::idleConnectionCount, equalTo(requestNumber));
+
+			for (int i = 0; i < requestNumber; i++) {
+				try (Response response = client.newCall(new Request.Builder().url(server.url("/api/v1/test")).build()).execute()) {
+					assertThat(response.code(), equalTo(200));
+				}
+			}
+			assertThat(pool.connectionCount(), equalTo(requestNumber));
+			assertThat(server.getRequestCount(), equalTo(requestNumber * 2));
+			List<Integer> sequenceNumbers = IntStream.range(0, requestNumber * 2).mapToObj(i -> {
+				try {
+					return server.takeRequest(1, TimeUnit.SECONDS).getSequenceNumber();
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			}).collect(Collectors.toList());
+			assertThat(sequenceNumbers.subList(requestNumber, requestNumber * 2), everyItem(greaterThan(0)));
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.exception.InternalReportPortalClientException;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.metrics.ReportingMetrics;
+import com.epam.reportportal.utils.concurrency.MultithreadingUtils;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRS;
+import jakarta.annotation.Nonnull;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HttpConnectionWarmupTest {
+	private static final String LAUNCH_UUID = "launch-uuid";
+
+	private static ListenerParameters parameters(@Nonnull MockWebServer server) {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setBaseUrl(server.url("/").toString());
+		parameters.setApiKey("test_api_key");
+		parameters.setProjectName("test-project");
+		return parameters;
+	}
+
+	private static Dispatcher launchDispatcher(@Nonnull CountDownLatch warmupLatch) {
+		return new Dispatcher() {
+			@Override
+			@Nonnull
+			public MockResponse dispatch(@Nonnull RecordedRequest request) throws InterruptedException {
+				if ("HEAD".equals(request.getMethod())) {
+					// Hold warm-up requests until all of them are received, to make sure each of them opened its own connection
+					warmupLatch.countDown();
+					warmupLatch.await(10, TimeUnit.SECONDS);
+					return new MockResponse().setResponseCode(200);
+				}
+				return new MockResponse().setResponseCode(201).setBody("{\"id\":\"" + LAUNCH_UUID + "\"}");
+			}
+		};
+	}
+
+	@Test
+	public void test_first_request_reuses_warmed_up_connection() throws Exception {
+		int connectionNumber = 4;
+		try (MockWebServer server = new MockWebServer()) {
+			server.setDispatcher(launchDispatcher(new CountDownLatch(connectionNumber)));
+			server.start();
+			ListenerParameters parameters = parameters(server);
+			parameters.setHttpWarmupConnections(connectionNumber);
+			ConnectionPool pool = new ConnectionPool();
+			ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-test-io-", 1);
+			try {
+				ReportPortalClient client = ReportPortal.builder()
+						.withHttpClient(new OkHttpClient.Builder().connectionPool(pool))
+						.buildClient(ReportPortalClient.class, parameters, executor);
+				assertThat(client, notNullValue());
+				await().atMost(10, TimeUnit.SECONDS).until(pool::idleConnectionCount, equalTo(connectionNumber));
+				for (int i = 0; i < connectionNumber; i++) {
+					RecordedRequest warmup = server.takeRequest(10, TimeUnit.SECONDS);
+					assertThat(warmup, notNullValue());
+					assertThat(warmup.getMethod(), equalTo("HEAD"));
+					assertThat(warmup.getPath(), equalTo("/api/info"));
+					assertThat(warmup.getSequenceNumber(), equalTo(0));
+					assertThat(warmup.getHeader("Authorization"), nullValue());
+				}
+
+				// The launch start call must not pay for connection establishment
+				StartLaunchRS rs = client.startLaunch(new StartLaunchRQ()).timeout(10, TimeUnit.SECONDS).blockingGet();
+				assertThat(rs.getId(), equalTo(LAUNCH_UUID));
+				RecordedRequest launchStart = server.takeRequest(10, TimeUnit.SECONDS);
+				assertThat(launchStart, notNullValue());
+				assertThat(launchStart.getMethod(), equalTo("POST"));
+				assertThat(launchStart.getSequenceNumber(), greaterThan(0));
+				assertThat(launchStart.getHeader("Authorization"), equalTo("Bearer test_api_key"));
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	@Test
+	public void test_no_warmup_requests_by_default() throws Exception {
+		try (MockWebServer server = new MockWebServer()) {
+			server.setDispatcher(launchDispatcher(new CountDownLatch(0)));
+			server.start();
+			ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-test-io-", 1);
+			try {
+				ReportPortalClient client = ReportPortal.builder().buildClient(ReportPortalClient.class, parameters(server), executor);
+				assertThat(client, notNullValue());
+				StartLaunchRS rs = client.startLaunch(new StartLaunchRQ()).timeout(10, TimeUnit.SECONDS).blockingGet();
+				assertThat(rs.getId(), equalTo(LAUNCH_UUID));
+				assertThat(server.getRequestCount(), equalTo(1));
+				assertThat(server.takeRequest().getMethod(), equalTo("POST"));
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	@Test
+	public void test_custom_http_client_requests_are_measured() throws Exception {
+		try (MockWebServer server = new MockWebServer()) {
+			server.setDispatcher(launchDispatcher(new CountDownLatch(0)));
+			server.start();
+			ReportingMetrics metrics = ReportingMetrics.getInstance();
+			String endpoint = "POST /api/v1/{projectName}/launch";
+			long before = metrics.getCounter(ReportingMetrics.HTTP_REQUESTS, endpoint);
+			ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-test-io-", 1);
+			try {
+				ReportPortalClient client = ReportPortal.builder()
+						.withHttpClient(new OkHttpClient.Builder())
+						.buildClient(ReportPortalClient.class, parameters(server), executor);
+				assertThat(client, notNullValue());
+				StartLaunchRS rs = client.startLaunch(new StartLaunchRQ()).timeout(10, TimeUnit.SECONDS).blockingGet();
+				assertThat(rs.getId(), equalTo(LAUNCH_UUID));
+				assertThat(metrics.getCounter(ReportingMetrics.HTTP_REQUESTS, endpoint), equalTo(before + 1));
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+	@Test
+	public void test_h2_prior_knowledge_protocol() throws Exception {
+		try (MockWebServer server = new MockWebServer()) {
+			server.setProtocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+			server.setDispatcher(launchDispatcher(new CountDownLatch(0)));
+			server.start();
+			ListenerParameters parameters = parameters(server);
+			parameters.setHttpProtocol("h2_prior_knowledge");
+			OkHttpClient client = ReportPortal.builder().defaultClient(parameters);
+			assertThat(client, notNullValue());
+			assertThat(client.protocols(), contains(Protocol.H2_PRIOR_KNOWLEDGE));
+			try (Response response = client.newCall(new Request.Builder().url(server.url("/api/info")).build()).execute()) {
+				assertThat(response.protocol(), equalTo(Protocol.H2_PRIOR_KNOWLEDGE));
+			}
+		}
+	}
+
+	@Test
+	public void test_http_1_1_protocol() {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setBaseUrl("http://localhost");
+		parameters.setApiKey("test_api_key");
+		parameters.setHttpProtocol("HTTP/1.1");
+		OkHttpClient client = ReportPortal.builder().defaultClient(parameters);
+		assertThat(client, notNullValue());
+		assertThat(client.protocols(), contains(Protocol.HTTP_1_1));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "http/3", "h2" })
+	public void test_invalid_protocol(String protocol) {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setBaseUrl("http://localhost");
+		parameters.setApiKey("test_api_key");
+		parameters.setHttpProtocol(protocol);
+		assertThrows(InternalReportPortalClientException.class, () -> ReportPortal.builder().defaultClient(parameters));
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.ta.reportportal.ws.model.project.config.IssueSubTypeResource;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.test.TestUtils.standardProjectSettings;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class IssueTypeIndexTest {
+
+	public static Stream<Arguments> issueTypeArguments() {
+		return Stream.of(
+				Arguments.of("pb001", "pb001"),
+				Arguments.of("PB", "pb001"),
+				Arguments.of("ab", "ab001"),
+				Arguments.of("Product Bug", "pb001"),
+				Arguments.of("SYSTEM ISSUE", "si001"),
+				Arguments.of("NO_DEFECT", "nd001")
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("issueTypeArguments")
+	public void test_issue_type_resolution(String issueType, String expectedLocator) {
+		IssueTypeIndex index = IssueTypeIndex.of(standardProjectSettings());
+		assertThat(index.getLocator(issueType), equalTo(expectedLocator));
+	}
+
+	@Test
+	public void test_unknown_issue_type_is_not_resolved() {
+		assertThat(IssueTypeIndex.of(standardProjectSettings()).getLocator("unknown"), nullValue());
+		assertThat(IssueTypeIndex.of(null).getLocator("pb001"), nullValue());
+		assertThat(IssueTypeIndex.of(new ProjectSettingsResource()).getLocator("pb001"), nullValue());
+	}
+
+	@Test
+	public void test_locator_has_priority_over_names() {
+		ProjectSettingsResource settings = standardProjectSettings();
+		// A custom subtype which short name clashes with a locator of another subtype
+		settings.getSubTypes()
+				.get("PRODUCT_BUG")
+				.add(new IssueSubTypeResource(6L, "pb_custom", "PRODUCT_BUG", "Custom Bug", "ab001", "#ffffff"));
+		IssueTypeIndex index = IssueTypeIndex.of(settings);
+		assertThat(index.getLocator("ab001"), equalTo("ab001"));
+		assertThat(index.getLocator("custom bug"), equalTo("pb_custom"));
+	}
+}
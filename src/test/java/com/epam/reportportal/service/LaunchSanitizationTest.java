@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.ta.reportportal.ws.model.ParameterResource;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.epam.reportportal.test.TestUtils.standardParameters;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LaunchSanitizationTest {
+
+	private static ListenerParameters parameters() {
+		ListenerParameters parameters = standardParameters();
+		parameters.setReplaceBinaryCharacters(true);
+		parameters.setTruncateFields(true);
+		parameters.setAttributeLengthLimit(10);
+		return parameters;
+	}
+
+	private static ParameterResource parameter(String key, String value) {
+		ParameterResource parameter = new ParameterResource();
+		parameter.setKey(key);
+		parameter.setValue(value);
+		return parameter;
+	}
+
+	@Test
+	public void test_unchanged_data_is_returned_as_is() {
+		ListenerParameters parameters = parameters();
+		String field = "Clean name";
+		assertThat(LaunchImpl.sanitizeField(parameters, field, 128), sameInstance(field));
+
+		Set<ItemAttributesRQ> attributes = new HashSet<>(Arrays.asList(
+				new ItemAttributesRQ("key", "value"),
+				new ItemAttributesRQ(null, "tag")
+		));
+		assertThat(LaunchImpl.sanitizeAttributes(parameters, attributes), sameInstance(attributes));
+
+		List<ParameterResource> itemParameters = Arrays.asList(parameter("key", "value"), parameter(null, null));
+		assertThat(LaunchImpl.sanitizeParameters(parameters, itemParameters), sameInstance(itemParameters));
+	}
+
+	@Test
+	public void test_only_changed_attributes_are_recreated() {
+		ListenerParameters parameters = parameters();
+		ItemAttributesRQ clean = new ItemAttributesRQ("key", "value");
+		ItemAttributesRQ binary = new ItemAttributesRQ("k\u0000y", "value", true);
+		ItemAttributesRQ tooLong = new ItemAttributesRQ("key", "very long attribute value");
+		Set<ItemAttributesRQ> attributes = new LinkedHashSet<>(Arrays.asList(clean, binary, tooLong));
+
+		Set<ItemAttributesRQ> result = LaunchImpl.sanitizeAttributes(parameters, attributes);
+
+		assertThat(result, not(sameInstance(attributes)));
+		assertThat(result, hasSize(3));
+		assertThat(result, hasItem(sameInstance(clean)));
+		ItemAttributesRQ cleaned = result.stream().filter(a -> "k\uFFFDy".equals(a.getKey())).findAny().orElseThrow();
+		assertThat(cleaned.isSystem(), equalTo(Boolean.TRUE));
+		assertThat(result.stream().map(ItemAttributesRQ::getValue).collect(Collectors.toList()), hasItem("very lo..."));
+		assertThat(binary.getKey(), equalTo("k\u0000y"));
+	}
+
+	@Test
+	public void test_only_changed_parameters_are_recreated() {
+		ListenerParameters parameters = parameters();
+		ParameterResource clean = parameter("key", "value");
+		ParameterResource binary = parameter("key", "va\u0001ue");
+		List<ParameterResource> itemParameters = Arrays.asList(clean, binary);
+
+		List<ParameterResource> result = LaunchImpl.sanitizeParameters(parameters, itemParameters);
+
+		assertThat(result, hasSize(2));
+		assertThat(result.get(0), sameInstance(clean));
+		assertThat(result.get(1).getValue(), equalTo("va\uFFFDue"));
+		assertThat(binary.getValue(), equalTo("va\u0001ue"));
+	}
+}
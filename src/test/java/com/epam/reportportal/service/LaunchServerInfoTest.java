@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.statistics.StatisticsService;
+import com.epam.ta.reportportal.ws.model.ApiInfo;
+import com.epam.ta.reportportal.ws.model.launch.StartLaunchRQ;
+import com.epam.ta.reportportal.ws.model.project.config.ProjectSettingsResource;
+import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
+import jakarta.annotation.Nonnull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.epam.reportportal.test.TestUtils.*;
+import static com.epam.reportportal.util.test.CommonUtils.shutdownExecutorService;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.*;
+
+public class LaunchServerInfoTest {
+	private static final String LAUNCH_UUID = "launch-uuid";
+
+	@Mock
+	private ReportPortalClient rpClient;
+	@Mock
+	private StatisticsService statisticsService;
+
+	@TempDir
+	Path cacheDirectory;
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	public void tearDown() {
+		shutdownExecutorService(executor);
+	}
+
+	@Nonnull
+	private LaunchImpl createLaunch(@Nonnull ReportPortalClient client, @Nonnull ListenerParameters parameters) {
+		return new LaunchImpl(client, parameters, standardLaunchRequest(parameters), executor) {
+			@Override
+			StatisticsService getStatisticsService() {
+				return statisticsService;
+			}
+		};
+	}
+
+	@Nonnull
+	private LaunchImpl createLaunch(@Nonnull ListenerParameters parameters) {
+		return createLaunch(rpClient, parameters);
+	}
+
+	@Nonnull
+	private ListenerParameters cacheParameters() {
+		ListenerParameters parameters = standardParameters();
+		parameters.setServerInfoCacheTtl(Duration.ofHours(1));
+		parameters.setServerInfoCacheDir(cacheDirectory.toString());
+		return parameters;
+	}
+
+	@Test
+	public void test_use_microseconds_does_not_wait_for_server_info() {
+		when(rpClient.getApiInfo()).thenReturn(Maybe.never());
+		LaunchImpl launch = createLaunch(standardParameters());
+
+		assertThat(assertTimeoutPreemptively(Duration.ofSeconds(1), launch::useMicroseconds), equalTo(false));
+	}
+
+	@Test
+	public void test_use_microseconds_fallback_is_kept_for_whole_launch() {
+		MaybeSubject<ApiInfo> apiInfo = MaybeSubject.create();
+		when(rpClient.getApiInfo()).thenReturn(apiInfo);
+		mockStartLaunch(rpClient, LAUNCH_UUID);
+		ListenerParameters parameters = standardParameters();
+		StartLaunchRQ startRq = standardLaunchRequest(parameters);
+		startRq.setStartTime(Instant.now());
+		LaunchImpl launch = new LaunchImpl(rpClient, parameters, startRq, executor) {
+			@Override
+			StatisticsService getStatisticsService() {
+				return statisticsService;
+			}
+		};
+
+		assertThat(launch.useMicroseconds(), equalTo(false));
+		apiInfo.onSuccess(testApiInfo());
+		// Agents already created millisecond timestamps, so the precision must not change within the launch
+		assertThat(launch.useMicroseconds(), equalTo(false));
+
+		assertThat(launch.start().timeout(10, TimeUnit.SECONDS).blockingGet(), equalTo(LAUNCH_UUID));
+		ArgumentCaptor<StartLaunchRQ> captor = ArgumentCaptor.forClass(StartLaunchRQ.class);
+		verify(rpClient).startLaunch(captor.capture());
+		assertThat(captor.getValue().getStartTime(), instanceOf(Date.class));
+	}
+
+	@Test
+	public void test_use_microseconds_is_resolved_before_launch_start() {
+		when(rpClient.getApiInfo()).thenReturn(Maybe.just(testApiInfo()));
+		mockStartLaunch(rpClient, LAUNCH_UUID);
+		LaunchImpl launch = createLaunch(standardParameters());
+
+		assertThat(launch.start().timeout(10, TimeUnit.SECONDS).blockingGet(), equalTo(LAUNCH_UUID));
+		assertThat(launch.useMicroseconds(), equalTo(true));
+	}
+
+	@Test
+	public void test_server_info_is_cached_on_disk() throws IOException {
+		when(rpClient.getApiInfo()).thenReturn(Maybe.just(testApiInfo()));
+		when(rpClient.getProjectSettings()).thenReturn(Maybe.just(standardProjectSettings()));
+		ListenerParameters parameters = cacheParameters();
+		LaunchImpl launch = createLaunch(parameters);
+		assertThat(launch.apiInfo.timeout(10, TimeUnit.SECONDS).blockingGet(), notNullValue());
+		assertThat(launch.projectSettings.timeout(10, TimeUnit.SECONDS).blockingGet(), notNullValue());
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			assertThat(files.count(), equalTo(2L));
+		}
+
+		// The next launch gets server info without any requests and knows the server version right after creation
+		LaunchImpl nextLaunch = createLaunch(mock(ReportPortalClient.class), parameters);
+		assertThat(nextLaunch.useMicroseconds(), equalTo(true));
+		ProjectSettingsResource settings = nextLaunch.projectSettings.timeout(10, TimeUnit.SECONDS).blockingGet();
+		assertThat(settings, notNullValue());
+		assertThat(settings.getProjectId(), equalTo(standardProjectSettings().getProjectId()));
+	}
+
+	@Test
+	public void test_expired_server_info_is_not_used() throws IOException {
+		ServerInfoCache cache = new ServerInfoCache(cacheDirectory, Duration.ofHours(1));
+		cache.put(ServerInfoCache.API_INFO_PREFIX, "http://localhost:8080", testApiInfo());
+		ApiInfo cached = cache.get(ServerInfoCache.API_INFO_PREFIX, "http://localhost:8080", ApiInfo.class);
+		assertThat(cached, notNullValue());
+		assertThat(cached.getBuild().getVersion(), equalTo(testApiInfo().getBuild().getVersion()));
+		assertThat(cache.get(ServerInfoCache.API_INFO_PREFIX, "http://localhost:8081", ApiInfo.class), nullValue());
+
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+			}
+		}
+		assertThat(cache.get(ServerInfoCache.API_INFO_PREFIX, "http://localhost:8080", ApiInfo.class), nullValue());
+	}
+
+	@Test
+	public void test_server_info_cache_is_disabled_by_default() {
+		assertThat(ServerInfoCache.create(new ListenerParameters()), nullValue());
+		assertThat(ServerInfoCache.create(cacheParameters()), notNullValue());
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service;
+
+import io.reactivex.Maybe;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Checks that logging contexts are not retained by the client after threads which used them are gone or reused, so the memory stays
+ * flat with any thread churn.
+ */
+public class LoggingContextChurnTest {
+	private static final int THREAD_NUMBER = 10_000;
+	private static final int BATCH_SIZE = 100;
+
+	private static boolean allCleared(List<WeakReference<LoggingContext>> references) {
+		System.gc();
+		return references.stream().allMatch(r -> r.get() == null);
+	}
+
+	private static Runnable reportItem(List<WeakReference<LoggingContext>> references, AtomicInteger errors) {
+		return () -> {
+			LoggingContext item = LoggingContext.init(Maybe.just("item"));
+			LoggingContext step = LoggingContext.init(Maybe.just("step"));
+			synchronized (references) {
+				references.add(new WeakReference<>(item));
+				references.add(new WeakReference<>(step));
+			}
+			if (LoggingContext.dispose() != step || LoggingContext.dispose() != item || LoggingContext.context() != null) {
+				errors.incrementAndGet();
+			}
+		};
+	}
+
+	@Test
+	public void test_short_living_threads_do_not_retain_contexts() throws InterruptedException {
+		List<WeakReference<LoggingContext>> references = new ArrayList<>(THREAD_NUMBER * 2);
+		AtomicInteger errors = new AtomicInteger();
+		// The main thread context is inherited by all threads, but must not prevent their own contexts from collection
+		LoggingContext.init(Maybe.just("suite"));
+		for (int i = 0; i < THREAD_NUMBER; i += BATCH_SIZE) {
+			List<Thread> threads = new ArrayList<>(BATCH_SIZE);
+			for (int j = 0; j < BATCH_SIZE; j++) {
+				Thread thread = new Thread(reportItem(references, errors));
+				thread.start();
+				threads.add(thread);
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+		}
+		LoggingContext.dispose();
+
+		assertThat(errors.get(), equalTo(0));
+		Awaitility.await("Wait for all contexts to be collected")
+				.atMost(Duration.ofSeconds(30))
+				.pollInterval(Duration.ofMillis(100))
+				.until(() -> allCleared(references));
+	}
+
+	@Test
+	public void test_pooled_threads_do_not_retain_contexts() throws Exception {
+		List<WeakReference<LoggingContext>> references = new ArrayList<>(THREAD_NUMBER * 2);
+		AtomicInteger errors = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			LoggingContext.Snapshot snapshot = LoggingContext.capture();
+			List<Future<?>> tasks = new ArrayList<>(THREAD_NUMBER);
+			for (int i = 0; i < THREAD_NUMBER; i++) {
+				tasks.add(executor.submit(snapshot.wrap(reportItem(references, errors))));
+			}
+			for (Future<?> task : tasks) {
+				task.get(30, TimeUnit.SECONDS);
+			}
+
+			assertThat(errors.get(), equalTo(0));
+			// Pool threads are still alive here
+			Awaitility.await("Wait for all contexts to be collected")
+					.atMost(Duration.ofSeconds(30))
+					.pollInterval(Duration.ofMillis(100))
+					.until(() -> allCleared(references));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -27,10 +27,12 @@ import okhttp3.MultipartBody;
 import org.junit.jupiter.api.*;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -82,6 +84,50 @@ public class LoggingContextTest {
 		assertThat(LoggingContext.context(), anyOf(nullValue(), not(sameInstance(context))));
 	}
 
+	@Test
+	public void test_child_thread_sees_parent_context_until_own_init() throws Exception {
+		LoggingContext parentContext = LoggingContext.init(Maybe.just("parent_id"));
+		AtomicReference<LoggingContext> inherited = new AtomicReference<>();
+		AtomicReference<LoggingContext> afterDispose = new AtomicReference<>();
+		Thread child = new Thread(() -> {
+			inherited.set(LoggingContext.context());
+			LoggingContext.init(Maybe.just("child_id"));
+			LoggingContext.dispose();
+			afterDispose.set(LoggingContext.context());
+		});
+		child.start();
+		child.join();
+
+		assertThat(inherited.get(), sameInstance(parentContext));
+		assertThat(afterDispose.get(), nullValue());
+		assertThat(LoggingContext.context(), sameInstance(parentContext));
+	}
+
+	@Test
+	public void test_captured_context_is_attached_to_thread_without_inheritance() throws Exception {
+		ReportPortalClient client = mock(ReportPortalClient.class);
+		Launch launch = new LaunchImpl(client, parameters, TestUtils.standardLaunchRequest(parameters), executor);
+		LoggingContext context = LoggingContext.init(Maybe.just("item_id"));
+		LoggingContext.Snapshot snapshot = LoggingContext.capture();
+
+		List<Object> inScope = new ArrayList<>();
+		List<Object> afterScope = new ArrayList<>();
+		Runnable task = snapshot.wrap(() -> {
+			inScope.add(LoggingContext.context());
+			inScope.add(Launch.currentLaunch());
+		});
+		Thread thread = new Thread(null, () -> {
+			task.run();
+			afterScope.add(LoggingContext.context());
+			afterScope.add(Launch.currentLaunch());
+		}, "no-inheritance", 0, false);
+		thread.start();
+		thread.join();
+
+		assertThat(inScope, contains(context, launch));
+		assertThat(afterScope, contains(nullValue(), nullValue()));
+	}
+
 	@SuppressWarnings("unchecked")
 	public void test_emit_with_item_uuid_passed_request_to_launch_log(Consumer<LoggingContext> emitCall,
 			@Nullable String expectedItemUuid) {
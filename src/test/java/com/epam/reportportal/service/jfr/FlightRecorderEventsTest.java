@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.jfr;
+
+import com.epam.reportportal.utils.RetryWithDelay;
+import com.epam.reportportal.utils.Waiter;
+import com.epam.ta.reportportal.ws.model.log.SaveLogRQ;
+import io.reactivex.Maybe;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FlightRecorderEventsTest {
+	@TempDir
+	Path tempDir;
+
+	private List<RecordedEvent> record(Runnable actions) throws IOException {
+		Path file = tempDir.resolve("recording.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(ItemRequestEvent.class);
+			recording.enable(LogBatchUploadEvent.class);
+			recording.enable(RetryEvent.class);
+			recording.enable(WaiterEvent.class);
+			recording.start();
+			actions.run();
+			recording.stop();
+			recording.dump(file);
+		}
+		return RecordingFile.readAllEvents(file)
+				.stream()
+				.filter(e -> e.getEventType().getName().startsWith("com.epam.reportportal."))
+				.collect(Collectors.toList());
+	}
+
+	private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+		return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+	}
+
+	@Test
+	public void test_events_are_not_recorded_without_recording() {
+		assertThat(FlightRecorderEvents.isAvailable(), equalTo(true));
+		assertThat(FlightRecorderEvents.startWait(), nullValue());
+		assertThat(FlightRecorderEvents.startRetry(), nullValue());
+		Maybe<String> request = Maybe.just("id");
+		assertThat(FlightRecorderEvents.itemRequest("start", "STEP", System.nanoTime(), request).blockingGet(), equalTo("id"));
+	}
+
+	@Test
+	public void test_lifecycle_events_are_recorded() throws IOException {
+		SaveLogRQ log = new SaveLogRQ();
+		log.setMessage("Log message");
+		List<RecordedEvent> events = record(() -> {
+			long queuedAt = System.nanoTime();
+			FlightRecorderEvents.itemRequest("start", "STEP", queuedAt, Maybe.just("id").delay(10, TimeUnit.MILLISECONDS)).blockingGet();
+			FlightRecorderEvents.itemRequest("finish", null, queuedAt, Maybe.error(new IllegalStateException()))
+					.onErrorComplete()
+					.blockingGet();
+			FlightRecorderEvents.logBatchUpload(Collections.singletonList(log), Maybe.just("ok")).blockingGet();
+
+			AtomicInteger calls = new AtomicInteger();
+			new Waiter("Test wait").duration(1, TimeUnit.SECONDS)
+					.pollingEvery(1, TimeUnit.MILLISECONDS)
+					.till(() -> calls.incrementAndGet() >= 3 ? Boolean.TRUE : null);
+			try {
+				new RetryWithDelay(t -> true, 2, 1).test(new IllegalArgumentException("Retry me"));
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		List<RecordedEvent> items = ofType(events, "com.epam.reportportal.ItemRequest");
+		assertThat(items, hasSize(2));
+		assertThat(items.get(0).getString("operation"), equalTo("start"));
+		assertThat(items.get(0).getString("itemType"), equalTo("STEP"));
+		assertThat(items.get(0).getBoolean("successful"), equalTo(true));
+		assertThat(items.get(0).getDuration().toMillis(), greaterThanOrEqualTo(10L));
+		assertThat(items.get(1).getString("operation"), equalTo("finish"));
+		assertThat(items.get(1).getBoolean("successful"), equalTo(false));
+
+		List<RecordedEvent> uploads = ofType(events, "com.epam.reportportal.LogBatchUpload");
+		assertThat(uploads, hasSize(1));
+		assertThat(uploads.get(0).getInt("records"), equalTo(1));
+		assertThat(uploads.get(0).getLong("bytes"), greaterThan(0L));
+
+		List<RecordedEvent> waits = ofType(events, "com.epam.reportportal.Wait");
+		assertThat(waits, hasSize(1));
+		assertThat(waits.get(0).getString("description"), equalTo("Test wait"));
+		assertThat(waits.get(0).getInt("polls"), equalTo(3));
+		assertThat(waits.get(0).getString("outcome"), equalTo("success"));
+
+		List<RecordedEvent> retries = ofType(events, "com.epam.reportportal.Retry");
+		assertThat(retries, hasSize(1));
+		assertThat(retries.get(0).getInt("attempt"), equalTo(1));
+		assertThat(retries.get(0).getString("error"), containsString("Retry me"));
+	}
+}
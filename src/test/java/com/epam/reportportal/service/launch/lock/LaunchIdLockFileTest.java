@@ -358,6 +358,24 @@ public class LaunchIdLockFileTest {
 		assertThat(liveUuids, contains(launchUuid));
 	}
 
+	@Test
+	public void test_instance_uuid_update_does_not_spoil_other_records() throws InterruptedException, IOException {
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLockFile.obtainLaunchUuid(launchUuid);
+		launchIdLockFile.obtainLaunchUuid(instanceUuid);
+		List<String> before = FileUtils.readLines(new File(syncFileName), LaunchIdLockFile.LOCK_FILE_CHARSET.name());
+
+		Thread.sleep(10);
+		launchIdLockFile.updateInstanceUuid(instanceUuid);
+
+		List<String> after = FileUtils.readLines(new File(syncFileName), LaunchIdLockFile.LOCK_FILE_CHARSET.name());
+		assertThat(after, hasSize(2));
+		assertThat(after.get(0), equalTo(before.get(0)));
+		assertThat(after.get(1), matchesPattern("\\d+:" + instanceUuid));
+		assertThat(after.get(1), not(equalTo(before.get(1))));
+	}
+
 	@Test
 	public void test_instance_uuid_removed_from_live_after_finish() {
 		String launchUuid = UUID.randomUUID().toString();
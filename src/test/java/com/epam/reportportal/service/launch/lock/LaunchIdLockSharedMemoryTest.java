@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.service.launch.lock;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.util.test.CommonUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.*;
+import java.util.concurrent.Callable;
+
+import static com.epam.reportportal.service.launch.lock.LockTestUtil.*;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LaunchIdLockSharedMemoryTest {
+	private final String fileName = UUID.randomUUID().toString();
+	private final String lockFileName = fileName + ".reportportal.lock";
+	private final String sharedMemoryFileName = fileName + ".reportportal.shm";
+	private final LaunchIdLockSharedMemory launchIdLock = new LaunchIdLockSharedMemory(getParameters());
+
+	private ListenerParameters getParameters() {
+		ListenerParameters params = new ListenerParameters();
+		params.setLockFileName(lockFileName);
+		params.setSharedMemoryFileName(sharedMemoryFileName);
+		params.setEnable(Boolean.TRUE);
+		params.setLockWaitTimeout(LOCK_TIMEOUT);
+		return params;
+	}
+
+	@AfterEach
+	public void cleanUp() {
+		launchIdLock.reset();
+		//noinspection ResultOfMethodCallIgnored
+		new File(lockFileName).delete();
+		//noinspection ResultOfMethodCallIgnored
+		new File(sharedMemoryFileName).delete();
+	}
+
+	@Test
+	public void test_launch_uuid_will_be_the_same_for_one_thread_obtainLaunchUuid() {
+		String firstUuid = UUID.randomUUID().toString();
+		String secondUuid = UUID.randomUUID().toString();
+
+		String firstLaunchUuid = launchIdLock.obtainLaunchUuid(firstUuid);
+		String secondLaunchUuid = launchIdLock.obtainLaunchUuid(secondUuid);
+
+		assertThat(firstLaunchUuid, equalTo(firstUuid));
+		assertThat(secondLaunchUuid, equalTo(firstLaunchUuid));
+		assertThat(launchIdLock.getLiveInstanceUuids(), containsInAnyOrder(firstUuid, secondUuid));
+	}
+
+	@Test
+	public void test_different_service_instances_synchronize_correctly() throws InterruptedException {
+		int threadNum = 10;
+		List<LaunchIdLockSharedMemory> instances = new ArrayList<>();
+		for (int i = 0; i < threadNum; i++) {
+			instances.add(new LaunchIdLockSharedMemory(getParameters()));
+		}
+		try (CommonUtils.ExecutorService executor = CommonUtils.testExecutor(threadNum)) {
+			Map<String, Callable<String>> tasks = getLaunchUuidReadCallables(threadNum, iterableSupplier(instances));
+
+			List<String> results = executor.invokeAll(tasks.values()).stream().map(new GetFutureResults<>()).collect(toList());
+			assertThat(results, hasSize(threadNum));
+			assertThat(results, everyItem(equalTo(results.get(0))));
+			assertThat(tasks.keySet(), hasItem(results.get(0)));
+			assertThat(launchIdLock.getLiveInstanceUuids(), containsInAnyOrder(tasks.keySet().toArray(new String[0])));
+		}
+	}
+
+	@Test
+	public void test_instance_uuid_update_registers_instance() {
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+
+		launchIdLock.updateInstanceUuid(instanceUuid);
+		launchIdLock.updateInstanceUuid(instanceUuid);
+
+		assertThat(launchIdLock.getLiveInstanceUuids(), containsInAnyOrder(launchUuid, instanceUuid));
+	}
+
+	@Test
+	public void test_instance_uuid_removed_from_live_after_finish() {
+		String launchUuid = UUID.randomUUID().toString();
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+		launchIdLock.obtainLaunchUuid(instanceUuid);
+
+		launchIdLock.finishInstanceUuid(instanceUuid);
+		assertThat(launchIdLock.getLiveInstanceUuids(), contains(launchUuid));
+
+		launchIdLock.finishInstanceUuid(launchUuid);
+		assertThat(launchIdLock.getLiveInstanceUuids(), empty());
+		assertThat(new File(lockFileName).exists(), equalTo(Boolean.FALSE));
+	}
+
+	@Test
+	public void test_new_primary_after_previous_one_finished() {
+		String firstUuid = UUID.randomUUID().toString();
+		String secondUuid = UUID.randomUUID().toString();
+
+		assertThat(launchIdLock.obtainLaunchUuid(firstUuid), equalTo(firstUuid));
+		launchIdLock.finishInstanceUuid(firstUuid);
+
+		assertThat(new LaunchIdLockSharedMemory(getParameters()).obtainLaunchUuid(secondUuid), equalTo(secondUuid));
+	}
+
+	@Test
+	public void test_launch_record_of_reused_process_id_is_ignored() throws IOException {
+		String launchUuid = UUID.randomUUID().toString();
+		assertThat(launchIdLock.obtainLaunchUuid(launchUuid), equalTo(launchUuid));
+		launchIdLock.reset();
+
+		ListenerParameters parameters = getParameters();
+		parameters.setLockWaitTimeout(300);
+		try (RandomAccessFile lockAccess = new RandomAccessFile(lockFileName, "rw");
+				FileLock ignored = lockAccess.getChannel().lock();
+				RandomAccessFile sharedMemoryAccess = new RandomAccessFile(sharedMemoryFileName, "rw")) {
+			// The lock is held by another process, so the launch record is read from the shared memory
+			assertThat(new LaunchIdLockSharedMemory(parameters).obtainLaunchUuid(UUID.randomUUID().toString()), equalTo(launchUuid));
+
+			// Same process ID, but another start time: the record was left by a previous process
+			MappedByteBuffer buffer = sharedMemoryAccess.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, 64);
+			buffer.order(ByteOrder.nativeOrder());
+			buffer.putLong(LaunchIdLockSharedMemory.LAUNCH_START_TIME_OFFSET,
+					buffer.getLong(LaunchIdLockSharedMemory.LAUNCH_START_TIME_OFFSET) - 1000
+			);
+			assertThat(new LaunchIdLockSharedMemory(parameters).obtainLaunchUuid(UUID.randomUUID().toString()), nullValue());
+		}
+	}
+
+	@Test
+	public void test_slots_of_killed_processes_are_reclaimed() throws IOException {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLock.obtainLaunchUuid(launchUuid);
+		try (RandomAccessFile sharedMemoryAccess = new RandomAccessFile(sharedMemoryFileName, "rw")) {
+			MappedByteBuffer buffer = sharedMemoryAccess.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, sharedMemoryAccess.length());
+			buffer.order(ByteOrder.nativeOrder());
+			// Every slot is owned by a process killed before it set the heartbeat
+			for (int i = 0; i < LaunchIdLockSharedMemory.SLOT_COUNT; i++) {
+				int offset = LaunchIdLockSharedMemory.slotOffset(i);
+				buffer.putLong(offset + LaunchIdLockSharedMemory.SLOT_OWNER_OFFSET, 1L);
+				buffer.putLong(offset + LaunchIdLockSharedMemory.SLOT_HEARTBEAT_OFFSET, 0L);
+			}
+		}
+
+		String instanceUuid = UUID.randomUUID().toString();
+		launchIdLock.updateInstanceUuid(instanceUuid);
+		assertThat(launchIdLock.getLiveInstanceUuids(), contains(instanceUuid));
+	}
+
+	@Test
+	public void test_launch_uuid_should_not_be_null_obtainLaunchUuid() {
+		//noinspection ConstantConditions
+		Assertions.assertThrows(NullPointerException.class, () -> launchIdLock.obtainLaunchUuid(null));
+	}
+}
@@ -33,10 +33,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.net.InetAddress;
 import java.net.ServerSocket;
+import java.net.Socket;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.Callable;
@@ -55,7 +58,8 @@ import static org.hamcrest.Matchers.*;
 public class LaunchIdLockSocketTest {
 	private static final Logger LOGGER = LoggerFactory.getLogger(LaunchIdLockSocketTest.class);
 
-	private final LaunchIdLockSocket launchIdLockSocket = new LaunchIdLockSocket(getParameters());
+	private final ListenerParameters parameters = getParameters();
+	private final LaunchIdLockSocket launchIdLockSocket = new LaunchIdLockSocket(parameters);
 
 	private ListenerParameters getParameters() {
 		try (ServerSocket ss = new ServerSocket(0, 20, InetAddress.getLoopbackAddress())) {
@@ -316,4 +320,47 @@ public class LaunchIdLockSocketTest {
 		assertThat(liveUuids, hasSize(2));
 		assertThat(liveUuids, containsInAnyOrder(launchUuid, clientUuid));
 	}
+
+	@Test
+	public void test_many_commands_through_one_socket_connection() {
+		String launchUuid = UUID.randomUUID().toString();
+		launchIdLockSocket.obtainLaunchUuid(launchUuid);
+		List<String> clientUuids = Stream.generate(() -> UUID.randomUUID().toString()).limit(10).collect(toList());
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(
+					launchIdLockSocket.sendCommand(LaunchIdLockSocket.Command.UPDATE, clientUuids.get(i % clientUuids.size())),
+					equalTo(launchUuid)
+			);
+		}
+		assertThat(launchIdLockSocket.getLiveInstanceUuids(), hasSize(clientUuids.size() + 1));
+
+		clientUuids.forEach(uuid -> launchIdLockSocket.sendCommand(LaunchIdLockSocket.Command.FINISH, uuid));
+		assertThat(launchIdLockSocket.getLiveInstanceUuids(), contains(launchUuid));
+	}
+
+	@Test
+	public void test_legacy_fixed_length_commands_are_served() throws IOException {
+		String launchUuid = UUID.randomUUID().toString();
+		String clientUuid = UUID.randomUUID().toString();
+		launchIdLockSocket.obtainLaunchUuid(launchUuid);
+
+		// The same exchange as secondary instances of older versions do: no line delimiters, all reads by length
+		try (Socket socket = new Socket(InetAddress.getLocalHost(), parameters.getLockPortNumber())) {
+			socket.setSoTimeout(10000);
+			DataInputStream is = new DataInputStream(socket.getInputStream());
+			byte[] greeting = new byte[clientUuid.length()];
+			is.readFully(greeting);
+			assertThat(new String(greeting, LaunchIdLockSocket.TRANSFER_CHARSET), equalTo(launchUuid));
+
+			OutputStream os = socket.getOutputStream();
+			os.write(("UPDATE - " + clientUuid).getBytes(LaunchIdLockSocket.TRANSFER_CHARSET));
+			os.flush();
+			String expectedAnswer = clientUuid + " - OK";
+			byte[] answer = new byte[expectedAnswer.length()];
+			is.readFully(answer);
+			assertThat(new String(answer, LaunchIdLockSocket.TRANSFER_CHARSET), equalTo(expectedAnswer));
+		}
+		assertThat(launchIdLockSocket.getLiveInstanceUuids(), containsInAnyOrder(launchUuid, clientUuid));
+	}
 }
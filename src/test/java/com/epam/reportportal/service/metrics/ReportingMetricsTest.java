@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.service.metrics;
+
+import okhttp3.*;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ReportingMetricsTest {
+
+	@AfterEach
+	public void unregisterMBean() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(ReportingMetrics.OBJECT_NAME);
+		if (server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+	}
+
+	@Test
+	public void test_histogram_percentiles() {
+		Histogram histogram = new Histogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i);
+		}
+		Histogram.Snapshot snapshot = histogram.snapshot();
+		assertThat(snapshot.getCount(), equalTo(100L));
+		assertThat(snapshot.getSum(), equalTo(5050L));
+		assertThat(snapshot.getMax(), equalTo(100L));
+		assertThat(snapshot.getMean(), equalTo(50L));
+		// Percentiles are upper bounds of power of two buckets, limited by max value
+		assertThat(snapshot.getP50(), equalTo(63L));
+		assertThat(snapshot.getP95(), equalTo(100L));
+		assertThat(snapshot.getP99(), equalTo(100L));
+		assertThat(new Histogram().snapshot().getCount(), equalTo(0L));
+	}
+
+	@Test
+	public void test_metrics_are_passed_to_listeners() {
+		ReportingMetrics metrics = new ReportingMetrics(false);
+		List<String> events = new ArrayList<>();
+		metrics.gauge("gauge.before", () -> 1L);
+		MetricsListener listener = new MetricsListener() {
+			@Override
+			public void onCount(String name, String tag, long amount) {
+				events.add("count " + name + " " + tag + " " + amount);
+			}
+
+			@Override
+			public void onRecord(String name, String tag, long value) {
+				events.add("record " + name + " " + tag + " " + value);
+			}
+
+			@Override
+			public void onGauge(String name, LongSupplier gauge) {
+				events.add("gauge " + name + " " + gauge.getAsLong());
+			}
+		};
+		metrics.addListener(listener);
+
+		metrics.increment("counter", "tag");
+		metrics.add("counter", "tag", -3);
+		metrics.record("histogram", null, 10);
+		metrics.gauge("gauge.after", () -> 2L);
+		metrics.removeListener(listener);
+		metrics.increment("counter");
+
+		assertThat(
+				events, contains(
+						"gauge gauge.before 1",
+						"count counter tag 1",
+						"count counter tag -3",
+						"record histogram null 10",
+						"gauge gauge.after 2"
+				)
+		);
+		assertThat(metrics.getCounter("counter", "tag"), equalTo(-2L));
+		assertThat(metrics.getCounter("counter", null), equalTo(1L));
+		assertThat(metrics.getCounters(), allOf(hasEntry("counter{tag}", -2L), hasEntry("counter", 1L)));
+		assertThat(metrics.getHistograms(), allOf(hasEntry("histogram.count", 1L), hasEntry("histogram.max", 10L)));
+		assertThat(metrics.getGauges(), allOf(hasEntry("gauge.before", 1L), hasEntry("gauge.after", 2L)));
+	}
+
+	@Test
+	public void test_object_gauge() {
+		ReportingMetrics metrics = new ReportingMetrics(false);
+		List<String> list = new ArrayList<>(List.of("a", "b"));
+		metrics.gauge("list.size", list, List::size);
+		assertThat(metrics.getGauge("list.size"), equalTo(2L));
+		assertThat(metrics.getGauge("no.such.gauge"), equalTo(-1L));
+	}
+
+	@Test
+	public void test_object_gauges_with_same_name_are_summed() {
+		ReportingMetrics metrics = new ReportingMetrics(false);
+		List<String> gauges = new ArrayList<>();
+		metrics.addListener(new MetricsListener() {
+			@Override
+			public void onGauge(String name, LongSupplier gauge) {
+				gauges.add(name);
+			}
+		});
+		List<String> first = new ArrayList<>(List.of("a", "b"));
+		List<String> second = new ArrayList<>(List.of("c", "d", "e"));
+		metrics.gauge("unknown", first, l -> -1L);
+		assertThat(metrics.getGauge("unknown"), equalTo(-1L));
+
+		metrics.gauge("list.size", first, List::size);
+		metrics.gauge("list.size", second, List::size);
+		// Unknown values are skipped
+		metrics.gauge("list.size", new Object(), o -> -1L);
+		assertThat(metrics.getGauge("list.size"), equalTo(5L));
+		second.add("f");
+		assertThat(metrics.getGauges(), hasEntry("list.size", 6L));
+		assertThat(gauges, contains("unknown", "list.size"));
+	}
+
+	@Test
+	public void test_mbean_registration() throws Exception {
+		ReportingMetrics metrics = new ReportingMetrics(false);
+		metrics.registerMBean();
+		metrics.registerMBean();
+		metrics.increment("mbean.counter");
+
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(ReportingMetrics.OBJECT_NAME);
+		assertThat(server.isRegistered(name), equalTo(true));
+		Object counters = server.getAttribute(name, "Counters");
+		// MXBean maps are exposed as open type tables with "key" and "value" columns
+		assertThat(counters, instanceOf(TabularData.class));
+		assertThat(((TabularData) counters).get(new Object[] { "mbean.counter" }).get("value"), equalTo(1L));
+	}
+
+	@Test
+	public void test_http_requests_are_counted_by_endpoint() throws IOException {
+		ReportingMetrics metrics = new ReportingMetrics(false);
+		try (MockWebServer server = new MockWebServer()) {
+			server.enqueue(new MockResponse().setResponseCode(201));
+			server.enqueue(new MockResponse().setResponseCode(500));
+			OkHttpClient client = new OkHttpClient.Builder().addInterceptor(new MetricsInterceptor(metrics)).build();
+			String itemUrl = server.url("/api/v2/my_project/item/0a5e8d1c-6e0f-4d2e-9a43-b0f5a6d3c2e1").toString();
+			RequestBody body = RequestBody.create("{}", MediaType.get("application/json"));
+
+			client.newCall(new Request.Builder().url(itemUrl).post(body).build()).execute().close();
+			client.newCall(new Request.Builder().url(itemUrl).post(body).build()).execute().close();
+		}
+
+		String endpoint = "POST /api/v2/my_project/item/{id}";
+		assertThat(metrics.getCounter(ReportingMetrics.HTTP_REQUESTS, endpoint), equalTo(2L));
+		assertThat(metrics.getCounter(ReportingMetrics.HTTP_ERRORS, endpoint), equalTo(1L));
+		assertThat(metrics.getCounter(ReportingMetrics.HTTP_BYTES_SENT, null), equalTo(4L));
+		Histogram.Snapshot latency = metrics.getHistogram(ReportingMetrics.HTTP_LATENCY, endpoint);
+		assertThat(latency, notNullValue());
+		assertThat(latency.getCount(), equalTo(2L));
+		Map<String, Long> histograms = metrics.getHistograms();
+		assertThat(histograms, hasKey(ReportingMetrics.HTTP_LATENCY + "{" + endpoint + "}.p99"));
+	}
+}
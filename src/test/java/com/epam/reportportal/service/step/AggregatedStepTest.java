@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.service.step;
+
+import com.epam.reportportal.listeners.ItemStatus;
+import com.epam.reportportal.listeners.ListenerParameters;
+import com.epam.reportportal.service.LaunchImpl;
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.test.TestUtils;
+import com.epam.reportportal.util.test.CommonUtils;
+import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
+import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
+import io.reactivex.Maybe;
+import jakarta.annotation.Nonnull;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.epam.reportportal.test.TestUtils.*;
+import static com.epam.reportportal.util.test.CommonUtils.shutdownExecutorService;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("ReactiveStreamsUnusedPublisher")
+public class AggregatedStepTest {
+	private static class MyLaunch extends LaunchImpl {
+		public MyLaunch(ReportPortalClient client, ListenerParameters parameters, ExecutorService executor) {
+			super(client, parameters, TestUtils.standardLaunchRequest(parameters), executor);
+		}
+
+		@Nonnull
+		@Override
+		public Maybe<String> start() {
+			return super.start(false);
+		}
+	}
+
+	private static final Object STEP_KEY = "aggregated_step";
+
+	private final String testLaunchUuid = CommonUtils.namedId("launch_");
+	private final String testClassUuid = CommonUtils.namedId("class_");
+	private final String testMethodUuid = CommonUtils.namedId("test_");
+	private final String aggregatedStepUuid = CommonUtils.namedId("aggregated_");
+	private final String failedStepUuid = CommonUtils.namedId("failed_");
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private final AtomicInteger requestCounter = new AtomicInteger();
+
+	private ReportPortalClient client;
+	private MyLaunch launch;
+	private Maybe<String> testMethodUuidMaybe;
+	private StepReporter sr;
+
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	@BeforeEach
+	public void initMocks() {
+		client = mock(ReportPortalClient.class);
+		mockStartLaunch(client, testLaunchUuid);
+		mockStartTestItem(client, testClassUuid);
+		mockStartTestItem(client, testClassUuid, testMethodUuid);
+		mockFinishTestItem(client, testMethodUuid);
+		mockNestedSteps(client, Arrays.asList(Pair.of(testMethodUuid, aggregatedStepUuid), Pair.of(testMethodUuid, failedStepUuid)));
+
+		launch = new MyLaunch(client, standardParameters(), executor);
+		launch.start();
+		Maybe<String> testClassUuidMaybe = launch.startTestItem(TestUtils.standardStartTestRequest());
+		testClassUuidMaybe.blockingGet();
+		testMethodUuidMaybe = launch.startTestItem(testClassUuidMaybe, TestUtils.standardStartStepRequest());
+		testMethodUuidMaybe.blockingGet();
+		sr = launch.getStepReporter();
+	}
+
+	@AfterEach
+	public void cleanup() {
+		shutdownExecutorService(executor);
+	}
+
+	private Supplier<StartTestItemRQ> stepRequest() {
+		return () -> {
+			requestCounter.incrementAndGet();
+			StartTestItemRQ rq = TestUtils.standardStartStepRequest();
+			rq.setHasStats(false);
+			return rq;
+		};
+	}
+
+	@Test
+	public void test_repeated_invocations_are_reported_as_single_item() {
+		int invocations = 100;
+		for (int i = 0; i < invocations; i++) {
+			sr.startAggregatedStep(STEP_KEY, stepRequest());
+			assertThat(sr.getParent(), not(sameInstance(testMethodUuidMaybe)));
+			sr.finishAggregatedStep();
+			assertThat(sr.getParent(), sameInstance(testMethodUuidMaybe));
+		}
+		verify(client, after(1000).never()).finishTestItem(eq(aggregatedStepUuid), any());
+
+		launch.finishTestItem(testMethodUuidMaybe, positiveFinishRequest()).blockingGet();
+
+		verify(client, timeout(1000)).startTestItem(eq(testMethodUuid), any(StartTestItemRQ.class));
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, timeout(1000)).finishTestItem(eq(aggregatedStepUuid), finishCaptor.capture());
+		assertThat(requestCounter.get(), equalTo(1));
+
+		FinishTestItemRQ finishRq = finishCaptor.getValue();
+		assertThat(finishRq.getStatus(), equalTo(ItemStatus.PASSED.name()));
+		assertThat(
+				finishRq.getDescription(),
+				startsWith("Test step description\n\nInvocations: " + invocations + ", duration min / avg / max: ")
+		);
+		assertThat(finishRq.getDescription(), not(containsString("failed")));
+	}
+
+	@Test
+	public void test_failed_invocation_is_reported_as_separate_item() {
+		mockBatchLogging(client);
+		sr.startAggregatedStep(STEP_KEY, stepRequest());
+		sr.finishAggregatedStep();
+		sr.startAggregatedStep(STEP_KEY, stepRequest());
+		sr.finishAggregatedStep(new IllegalStateException("Invocation failure"));
+		sr.startAggregatedStep(STEP_KEY, stepRequest());
+		sr.finishAggregatedStep();
+		assertThat(sr.getParent(), sameInstance(testMethodUuidMaybe));
+
+		ArgumentCaptor<FinishTestItemRQ> failedCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, timeout(1000)).finishTestItem(eq(failedStepUuid), failedCaptor.capture());
+		assertThat(failedCaptor.getValue().getStatus(), equalTo(ItemStatus.FAILED.name()));
+
+		launch.finishTestItem(testMethodUuidMaybe, positiveFinishRequest()).blockingGet();
+
+		verify(client, timeout(1000).times(2)).startTestItem(eq(testMethodUuid), any(StartTestItemRQ.class));
+		ArgumentCaptor<FinishTestItemRQ> finishCaptor = ArgumentCaptor.forClass(FinishTestItemRQ.class);
+		verify(client, timeout(1000)).finishTestItem(eq(aggregatedStepUuid), finishCaptor.capture());
+		assertThat(requestCounter.get(), equalTo(2));
+
+		FinishTestItemRQ finishRq = finishCaptor.getValue();
+		assertThat(finishRq.getStatus(), equalTo(ItemStatus.FAILED.name()));
+		assertThat(finishRq.getDescription(), containsString("Invocations: 2,"));
+		assertThat(finishRq.getDescription(), endsWith(", failed invocations: 1"));
+	}
+}
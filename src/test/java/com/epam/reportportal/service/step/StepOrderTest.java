@@ -20,11 +20,13 @@ import com.epam.reportportal.service.Launch;
 import com.epam.reportportal.service.ReportPortal;
 import com.epam.reportportal.service.ReportPortalClient;
 import com.epam.reportportal.test.TestUtils;
+import com.epam.ta.reportportal.ws.model.ApiInfo;
 import com.epam.ta.reportportal.ws.model.FinishTestItemRQ;
 import com.epam.ta.reportportal.ws.model.OperationCompletionRS;
 import com.epam.ta.reportportal.ws.model.StartTestItemRQ;
 import com.epam.ta.reportportal.ws.model.item.ItemCreatedRS;
 import io.reactivex.Maybe;
+import io.reactivex.subjects.MaybeSubject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -33,14 +35,15 @@ import org.mockito.stubbing.Answer;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.hasSize;
-import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.*;
 
 public class StepOrderTest {
@@ -122,4 +125,27 @@ public class StepOrderTest {
 		launch.startTestItem(Maybe.just(testClassUuid), TestUtils.standardStartStepRequest());
 		test_steps_start_time(launch.getStepReporter());
 	}
+
+	@Test
+	public void test_steps_reported_before_and_after_server_info_resolution() {
+		MaybeSubject<ApiInfo> apiInfo = MaybeSubject.create();
+		when(client.getApiInfo()).thenReturn(apiInfo);
+		Launch launch = rp.withLaunch(launchUuid);
+		launch.startTestItem(Maybe.just(testClassUuid), TestUtils.standardStartStepRequest());
+		maybeSupplier.get();
+		maybeSupplier.get();
+		StepReporter sr = launch.getStepReporter();
+
+		sr.sendStep("0 step");
+		apiInfo.onSuccess(TestUtils.testApiInfo());
+		sr.sendStep("1 step");
+
+		ArgumentCaptor<StartTestItemRQ> stepCaptor = ArgumentCaptor.forClass(StartTestItemRQ.class);
+		verify(client, timeout(1000).times(2)).startTestItem(eq(testMethodUuid), stepCaptor.capture());
+		List<StartTestItemRQ> rqs = stepCaptor.getAllValues();
+		rqs.sort(Comparator.comparing(rq -> Integer.valueOf(rq.getName().split(" ", 2)[0])));
+		// The precision chosen for the first step is kept for the whole launch
+		assertThat(rqs.stream().map(StartTestItemRQ::getStartTime).collect(Collectors.toList()), everyItem(instanceOf(Date.class)));
+		assertThat(((Date) rqs.get(0).getStartTime()).compareTo((Date) rqs.get(1).getStartTime()), lessThan(0));
+	}
 }
@@ -21,8 +21,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.endsWith;
-import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.*;
 
 public class BasicUtilsTest {
 	public static Object[][] truncateTestData() {
@@ -85,6 +84,39 @@ public class BasicUtilsTest {
 		assertThat(BasicUtils.cleanBinaryCharacters(input), equalTo(expected));
 	}
 
+	public static Object[][] sanitizeTestData() {
+		//@formatter:off
+		return new Object[][]{
+				// 1. Binary characters are replaced, no truncation
+				{"A\u0000B\u0007C", true, Integer.MAX_VALUE, "...", "A\uFFFDB\uFFFDC"},
+				// 2. Binary characters are replaced and the string is truncated
+				{"A\u0000BCDEFG", true, 6, "...", "A\uFFFDB..."},
+				// 3. Binary characters after the truncation point are not checked
+				{"ABCDEF\u0000", true, 5, "..", "ABC.."},
+				// 4. Binary characters are kept if replacement is off
+				{"A\u0000BCDEFG", false, 6, "...", "A\u0000B..."},
+				// 5. Replacement is longer than limit
+				{"\u0000BCDEF", true, 2, "...", "\uFFFDB"}
+		};
+		//@formatter:on
+	}
+
+	@ParameterizedTest
+	@MethodSource("sanitizeTestData")
+	public void test_sanitize_string_scenarios(String input, boolean replaceBinary, int limit, String replacement, String expected) {
+		assertThat(BasicUtils.sanitizeString(input, replaceBinary, limit, replacement), equalTo(expected));
+		String cleaned = replaceBinary ? BasicUtils.cleanBinaryCharacters(input) : input;
+		assertThat(BasicUtils.truncateString(cleaned, limit, replacement), equalTo(expected));
+	}
+
+	@Test
+	public void test_sanitize_returns_same_instance_if_nothing_changed() {
+		String input = "Line1\nLine2\tПривет";
+		assertThat(BasicUtils.cleanBinaryCharacters(input), sameInstance(input));
+		assertThat(BasicUtils.truncateString(input, input.length(), "..."), sameInstance(input));
+		assertThat(BasicUtils.sanitizeString(input, true, input.length(), "..."), sameInstance(input));
+	}
+
 	public static Object[][] versionTestData() {
 		//@formatter:off
 		return new Object[][]{
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.utils;
+
+import com.epam.reportportal.annotations.ParameterKey;
+import com.epam.reportportal.annotations.TestCaseIdKey;
+import com.epam.reportportal.annotations.attribute.Attribute;
+import com.epam.ta.reportportal.ws.model.attribute.ItemAttributesRQ;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ExecutableMetadataTest {
+
+	public static class TestObject {
+		@SuppressWarnings("unused")
+		public TestObject(@TestCaseIdKey String name, @ParameterKey("index") int number) {
+		}
+	}
+
+	@Attribute(key = "key", value = "value")
+	@SuppressWarnings("unused")
+	public void test(@TestCaseIdKey String name, @ParameterKey("id") @TestCaseIdKey Long id, int number) {
+	}
+
+	@Test
+	public void test_metadata_is_read_once_per_executable() throws NoSuchMethodException {
+		Method method = getClass().getMethod("test", String.class, Long.class, int.class);
+		ExecutableMetadata metadata = ExecutableMetadata.of(method);
+
+		assertThat(ExecutableMetadata.of(getClass().getMethod("test", String.class, Long.class, int.class)), sameInstance(metadata));
+		assertThat(metadata.getParameterKeys(), arrayContaining(String.class.getName(), "id", int.class.getName()));
+		assertThat(metadata.getTestCaseIdKeys(), equalTo(new int[] { 0, 1 }));
+	}
+
+	@Test
+	public void test_attributes_are_copied() throws NoSuchMethodException {
+		ExecutableMetadata metadata = ExecutableMetadata.of(getClass().getMethod("test", String.class, Long.class, int.class));
+
+		Set<ItemAttributesRQ> attributes = metadata.getAttributes();
+		assertThat(attributes, hasSize(1));
+		ItemAttributesRQ attribute = attributes.iterator().next();
+		assertThat(attribute.getKey(), equalTo("key"));
+		assertThat(attribute.getValue(), equalTo("value"));
+		assertThat(metadata.getAttributes().iterator().next(), not(sameInstance(attribute)));
+	}
+
+	@Test
+	public void test_code_reference_resolution() throws NoSuchMethodException {
+		Method method = getClass().getMethod("test", String.class, Long.class, int.class);
+		Constructor<?> constructor = TestObject.class.getConstructor(String.class, int.class);
+
+		assertThat(ExecutableMetadata.findExecutable(TestCaseIdUtils.getCodeRef(method), 3), equalTo(method));
+		assertThat(ExecutableMetadata.findExecutable(TestCaseIdUtils.getCodeRef(constructor), 2), equalTo(constructor));
+		assertThat(ExecutableMetadata.findExecutable(TestCaseIdUtils.getCodeRef(method), 2), nullValue());
+		assertThat(ExecutableMetadata.findExecutable("my.not.existent.code.ref", 3), nullValue());
+		assertThat(ExecutableMetadata.findExecutable("my.not.existent.code.ref", 3), nullValue());
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.concurrency;
+
+import com.epam.reportportal.service.ConcurrencyLimitInterceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+	@Test
+	public void test_limiter_grows_on_successful_requests() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 4, 1, TimeUnit.SECONDS);
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire();
+			limiter.acquire();
+			limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+			limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+		}
+		assertThat(limiter.getLimit(), equalTo(4));
+		assertThat(limiter.getInFlight(), equalTo(0));
+	}
+
+	@Test
+	public void test_limiter_shrinks_on_dropped_and_slow_requests() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 20, 1, TimeUnit.SECONDS);
+		limiter.acquire();
+		limiter.release(TimeUnit.MILLISECONDS.toNanos(1), true);
+		assertThat(limiter.getLimit(), equalTo(18));
+		limiter.acquire();
+		limiter.release(TimeUnit.SECONDS.toNanos(2), false);
+		assertThat(limiter.getLimit(), equalTo(16));
+		for (int i = 0; i < 100; i++) {
+			limiter.acquire();
+			limiter.release(0, true);
+		}
+		assertThat(limiter.getLimit(), equalTo(2));
+	}
+
+	@Test
+	public void test_limiter_blocks_requests_over_limit() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 1, TimeUnit.SECONDS);
+		limiter.acquire();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> second = executor.submit(() -> {
+				limiter.acquire();
+				return null;
+			});
+			Thread.sleep(100);
+			assertThat(second.isDone(), equalTo(false));
+			limiter.release(0, false);
+			second.get(5, TimeUnit.SECONDS);
+			assertThat(limiter.getInFlight(), equalTo(1));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void test_interceptor_reduces_limit_on_server_overload() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10, 10, TimeUnit.SECONDS);
+		try (MockWebServer server = new MockWebServer()) {
+			server.enqueue(new MockResponse().setResponseCode(429));
+			server.enqueue(new MockResponse().setResponseCode(503));
+			server.enqueue(new MockResponse().setResponseCode(200));
+			server.start();
+			OkHttpClient client = new OkHttpClient.Builder().addInterceptor(new ConcurrencyLimitInterceptor(limiter)).build();
+			for (int i = 0; i < 3; i++) {
+				//noinspection EmptyTryBlock
+				try (Response ignored = client.newCall(new Request.Builder().url(server.url("/")).build()).execute()) {
+				}
+			}
+			await().atMost(5, TimeUnit.SECONDS).until(limiter::getInFlight, equalTo(0));
+			assertThat(limiter.getLimit(), lessThan(10));
+		}
+	}
+}
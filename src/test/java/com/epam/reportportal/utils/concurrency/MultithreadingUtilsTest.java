@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.concurrency;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class MultithreadingUtilsTest {
+	private static final int VIRTUAL_THREADS_VERSION = 21;
+
+	private static boolean isVirtualThreadsSupported() {
+		return Runtime.version().feature() >= VIRTUAL_THREADS_VERSION;
+	}
+
+	@Test
+	public void test_fixed_pool_by_default() {
+		ListenerParameters params = new ListenerParameters();
+		params.setIoPoolSize(3);
+		ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-test-", params);
+		try {
+			assertThat(executor, instanceOf(ThreadPoolExecutor.class));
+			assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize(), equalTo(3));
+			assertThat(MultithreadingUtils.getQueueDepth(executor), equalTo(0));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void test_virtual_mode_falls_back_to_fixed_pool_on_old_jvm() {
+		assumeTrue(!isVirtualThreadsSupported());
+		ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-test-", 2, true);
+		try {
+			assertThat(executor, instanceOf(ThreadPoolExecutor.class));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void test_virtual_mode_runs_blocking_tasks_concurrently() throws Exception {
+		assumeTrue(isVirtualThreadsSupported());
+		int taskNumber = 1000;
+		ExecutorService executor = MultithreadingUtils.buildExecutorService("rp-test-", 1, true);
+		try {
+			assertThat(executor, not(instanceOf(ThreadPoolExecutor.class)));
+			CountDownLatch started = new CountDownLatch(taskNumber);
+			CountDownLatch release = new CountDownLatch(1);
+			for (int i = 0; i < taskNumber; i++) {
+				executor.submit(() -> {
+					started.countDown();
+					release.await();
+					return null;
+				});
+			}
+			// All tasks block at the same time, which is impossible with a single-thread fixed pool
+			assertThat(started.await(10, TimeUnit.SECONDS), equalTo(true));
+			release.countDown();
+			Future<String> name = executor.submit(() -> Thread.currentThread().getName());
+			assertThat(name.get(10, TimeUnit.SECONDS), startsWith("rp-test-"));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.epam.reportportal.utils.formatting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StackTraceCacheTest {
+
+	private static List<Throwable> failures(int count) {
+		List<Throwable> result = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			result.add(new IllegalStateException("Failure " + i, new IllegalArgumentException("Cause " + i)));
+		}
+		return result;
+	}
+
+	@Test
+	public void test_fingerprint_depends_on_frames_but_not_messages() {
+		List<Throwable> failures = failures(2);
+		Throwable other = new IllegalStateException("Failure 0", new IllegalArgumentException("Cause 0"));
+
+		assertThat(ExceptionUtils.fingerprint(failures.get(0)), equalTo(ExceptionUtils.fingerprint(failures.get(1))));
+		assertThat(ExceptionUtils.fingerprint(failures.get(0)), not(equalTo(ExceptionUtils.fingerprint(other))));
+		assertThat(
+				ExceptionUtils.fingerprint(failures.get(0)),
+				not(equalTo(ExceptionUtils.fingerprint(new IllegalStateException("Failure 0"))))
+		);
+	}
+
+	@Test
+	public void test_stack_traces_over_threshold_are_referenced() {
+		StackTraceCache cache = new StackTraceCache(1);
+		List<Throwable> failures = failures(3);
+
+		String first = cache.format(failures.get(0), org.apache.commons.lang3.exception.ExceptionUtils::getStackTrace);
+		String second = cache.format(failures.get(1), org.apache.commons.lang3.exception.ExceptionUtils::getStackTrace);
+		String third = cache.format(failures.get(2), org.apache.commons.lang3.exception.ExceptionUtils::getStackTrace);
+
+		String fingerprint = String.format("%016x", ExceptionUtils.fingerprint(failures.get(0)));
+		assertThat(first, startsWith(org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace(failures.get(0))));
+		assertThat(first, endsWith(StackTraceCache.FINGERPRINT_PREFIX + fingerprint));
+		assertThat(
+				second, equalTo(failures.get(1) + "\nCaused by: " + failures.get(1).getCause() + "\n" + String.format(
+						StackTraceCache.REFERENCE_PATTERN,
+						fingerprint,
+						2
+				) + "\n")
+		);
+		assertThat(third, containsString(String.format(StackTraceCache.REFERENCE_PATTERN, fingerprint, 3)));
+	}
+
+	@Test
+	public void test_no_deduplication_by_default() {
+		StackTraceCache cache = new StackTraceCache(0);
+		for (Throwable failure : failures(2)) {
+			assertThat(cache.format(failure, Throwable::toString), equalTo(failure.toString()));
+		}
+	}
+}
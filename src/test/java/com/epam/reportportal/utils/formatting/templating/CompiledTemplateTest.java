@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.formatting.templating;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CompiledTemplateTest {
+
+	@SuppressWarnings("unused")
+	private static class User {
+		private final String name;
+		private final String[] roles;
+
+		private User(String name, String... roles) {
+			this.name = name;
+			this.roles = roles;
+		}
+
+		@Override
+		public String toString() {
+			// Renders a template inside another template rendering
+			return TemplateProcessing.processTemplate("user {name}", Collections.singletonMap("name", name), new TemplateConfiguration());
+		}
+	}
+
+	@Test
+	public void test_compiled_template_is_cached() {
+		String pattern = "Step {method} of {class}: {user.name}";
+		CompiledTemplate template = CompiledTemplate.compile(pattern, new TemplateConfiguration());
+		assertThat(CompiledTemplate.compile(pattern, new TemplateConfiguration()), sameInstance(template));
+
+		TemplateConfiguration config = new TemplateConfiguration();
+		CompiledTemplate otherTemplate = CompiledTemplate.compile(pattern, config.setFieldDelimiter("#"));
+		assertThat(otherTemplate, not(sameInstance(template)));
+
+		// Changes of a configuration after compilation must not affect cached templates
+		config.setFieldDelimiter(".");
+		assertThat(CompiledTemplate.compile(pattern, config), sameInstance(template));
+		assertThat(CompiledTemplate.compile(pattern, new TemplateConfiguration().setFieldDelimiter("#")), sameInstance(otherTemplate));
+	}
+
+	@Test
+	public void test_template_rendering() throws NoSuchMethodException {
+		Method method = CompiledTemplateTest.class.getMethod("test_template_rendering");
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("user", new User("John", "admin", "user"));
+		parameters.put("method", "must be overridden by the method name");
+		CompiledTemplate template = CompiledTemplate.compile(
+				"{method} {class} {classRef}: {user.name} {user.roles} {user} {unknown} {this.name}",
+				new TemplateConfiguration()
+		);
+
+		String result = template.render(new User("Self"), method, parameters);
+
+		assertThat(
+				result, equalTo("test_template_rendering CompiledTemplateTest " + CompiledTemplateTest.class.getName()
+						+ ": John {admin, user} user John {unknown} Self")
+		);
+		assertThat(template.render(null), equalTo("{method} {class} {classRef}: {user.name} {user.roles} {user} {unknown} {this.name}"));
+	}
+
+	@Test
+	public void test_plain_text_is_returned_as_is() {
+		String pattern = "Plain text step name";
+		assertThat(CompiledTemplate.compile(pattern, new TemplateConfiguration()).render(null), sameInstance(pattern));
+		assertThat(CompiledTemplate.compile("Wrong {template", new TemplateConfiguration()).render(null), equalTo("Wrong {template"));
+		assertThat(
+				CompiledTemplate.compile("{list}", new TemplateConfiguration())
+						.render(Collections.singletonMap("list", Arrays.asList(1, null, 3))), equalTo("[1, NULL, 3]")
+		);
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.http;
+
+import com.epam.reportportal.listeners.ListenerParameters;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class HttpRuntimeTest {
+	private static final AtomicLong KEEP_ALIVE_COUNTER = new AtomicLong(1_000_000L);
+
+	private static ListenerParameters uniqueParameters() {
+		ListenerParameters parameters = new ListenerParameters();
+		// Unique keep-alive value to not interfere with runtimes of other tests
+		parameters.setHttpConnectionPoolKeepAlive(Duration.ofMillis(KEEP_ALIVE_COUNTER.incrementAndGet()));
+		return parameters;
+	}
+
+	private static ListenerParameters sameConfiguration(ListenerParameters source) {
+		ListenerParameters parameters = new ListenerParameters();
+		parameters.setHttpConnectionPoolKeepAlive(source.getHttpConnectionPoolKeepAlive());
+		return parameters;
+	}
+
+	@Test
+	public void test_same_configuration_uses_same_runtime() {
+		ListenerParameters parameters = uniqueParameters();
+		HttpRuntime runtime = HttpRuntime.get(parameters);
+		assertThat(
+				IntStream.range(0, 4).mapToObj(i -> HttpRuntime.get(sameConfiguration(parameters))).collect(Collectors.toList()),
+				everyItem(sameInstance(runtime))
+		);
+	}
+
+	@Test
+	public void test_different_configuration_uses_different_runtime() {
+		ListenerParameters parameters = uniqueParameters();
+		ListenerParameters otherParameters = uniqueParameters();
+		otherParameters.setHttpDispatcherMaxRequestsPerHost(parameters.getHttpDispatcherMaxRequestsPerHost() + 1);
+		HttpRuntime runtime = HttpRuntime.get(parameters);
+		HttpRuntime otherRuntime = HttpRuntime.get(otherParameters);
+		assertThat(otherRuntime, not(sameInstance(runtime)));
+		assertThat(otherRuntime.getDispatcher().getMaxRequestsPerHost(), equalTo(parameters.getHttpDispatcherMaxRequestsPerHost() + 1));
+	}
+
+	@Test
+	public void test_runtime_threads_do_not_outlive_idle_time() throws Exception {
+		HttpRuntime runtime = HttpRuntime.get(uniqueParameters());
+		assertThat(runtime.getExecutor(), instanceOf(ThreadPoolExecutor.class));
+		ThreadPoolExecutor executor = (ThreadPoolExecutor) runtime.getExecutor();
+		assertThat(executor.allowsCoreThreadTimeOut(), equalTo(true));
+
+		Thread thread = executor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+		assertThat(thread.getName(), startsWith("rp-aux-io-"));
+		assertThat(thread.isDaemon(), equalTo(true));
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 EPAM Systems
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.epam.reportportal.utils.http;
+
+import com.epam.reportportal.service.ReportPortalClient;
+import com.epam.reportportal.service.ReportPortalClientV2;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class LaneCallAdapterFactoryTest {
+
+	@ParameterizedTest
+	@ValueSource(classes = { ReportPortalClient.class, ReportPortalClientV2.class })
+	public void test_only_log_calls_go_to_data_lane(Class<?> clientType) {
+		Arrays.stream(clientType.getMethods()).forEach(method -> {
+			boolean expected = "log".equals(method.getName());
+			assertThat(method.toString(), LaneCallAdapterFactory.isDataLane(method.getAnnotations()), equalTo(expected));
+		});
+	}
+}
@@ -21,14 +21,14 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.containsString;
-import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SuppressWarnings("unused")
@@ -43,6 +43,7 @@ public class AccessibleTest extends BaseReflectTest {
 
 	public final String publicField = PUBLIC_FIELD_VALUE;
 	private final String privateField = PRIVATE_FIELD_VALUE;
+	private long mutableField;
 
 	public String publicMethodNoParams() {
 		return PUBLIC_METHOD_NO_PARAMS_VALUE;
@@ -60,6 +61,14 @@ public class AccessibleTest extends BaseReflectTest {
 		return PRIVATE_METHOD_PARAMS_VALUE;
 	}
 
+	private long primitiveMethodParams(long param1, double param2) {
+		return param1 + (long) param2;
+	}
+
+	private void throwingMethod() throws IOException {
+		throw new IOException("throwing_method");
+	}
+
 	public static Stream<Arguments> fieldData() throws NoSuchFieldException {
 		return Stream.of(
 				Arguments.of("publicField", AccessibleTest.class.getField("publicField"), PUBLIC_FIELD_VALUE),
@@ -153,4 +162,57 @@ public class AccessibleTest extends BaseReflectTest {
 		NoSuchMethodException throwable = assertThrows(NoSuchMethodException.class, () -> accessible.method("noSuchMethod"));
 		assertThat(throwable.getMessage(), containsString("noSuchMethod"));
 	}
+
+	@Test
+	public void test_members_are_cached() throws NoSuchFieldException, NoSuchMethodException {
+		MemberCache cache = MemberCache.of(AccessibleTest.class);
+		assertThat(MemberCache.of(AccessibleTest.class), sameInstance(cache));
+		assertThat(cache.getField("privateBaseField"), sameInstance(cache.getField("privateBaseField")));
+		assertThat(cache.getField("privateBaseField"), equalTo(BaseReflectTest.class.getDeclaredField("privateBaseField")));
+		assertThat(
+				cache.getMethod("publicMethodParams", String.class, String.class),
+				sameInstance(cache.getMethod("publicMethodParams", String.class, String.class))
+		);
+
+		// Absent members are cached too, each lookup still throws
+		for (int i = 0; i < 2; i++) {
+			assertThrows(NoSuchFieldException.class, () -> cache.getField("noSuchField"));
+			NoSuchMethodException throwable = assertThrows(
+					NoSuchMethodException.class,
+					() -> cache.getMethod("publicMethodParams", String.class)
+			);
+			assertThat(throwable.getMessage(), containsString("publicMethodParams"));
+		}
+	}
+
+	@Test
+	public void test_field_set_value() throws NoSuchFieldException {
+		AccessibleField field = Accessible.on(this).field("mutableField");
+		field.setValue(42L);
+		assertThat(mutableField, equalTo(42L));
+		// Widening conversion as it is done by reflection
+		field.setValue(7);
+		assertThat(field.getValue(), equalTo(7L));
+		assertThrows(IllegalArgumentException.class, () -> field.setValue("wrong_type"));
+		assertThrows(IllegalArgumentException.class, () -> field.setValue(null));
+		assertThat(mutableField, equalTo(7L));
+	}
+
+	@Test
+	public void test_method_invoke_arguments_conversion() throws Throwable {
+		AccessibleMethod method = Accessible.on(this).method("primitiveMethodParams", long.class, double.class);
+		assertThat(method.invoke(1L, 2.0d), equalTo(3L));
+		assertThat(method.invoke(1, 2), equalTo(3L));
+		RuntimeException wrongType = assertThrows(RuntimeException.class, () -> method.invoke("1", 2.0d));
+		assertThat(wrongType.getCause(), instanceOf(IllegalArgumentException.class));
+		RuntimeException wrongCount = assertThrows(RuntimeException.class, () -> method.invoke(1L));
+		assertThat(wrongCount.getCause(), instanceOf(IllegalArgumentException.class));
+	}
+
+	@Test
+	public void test_method_invoke_throws_original_exception() throws NoSuchMethodException {
+		AccessibleMethod method = Accessible.on(this).method("throwingMethod");
+		IOException throwable = assertThrows(IOException.class, method::invoke);
+		assertThat(throwable.getMessage(), equalTo("throwing_method"));
+	}
 }